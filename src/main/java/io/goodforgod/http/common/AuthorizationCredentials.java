@@ -0,0 +1,265 @@
+package io.goodforgod.http.common;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parsed view over {@link HttpHeaders#AUTHORIZATION} header value, scheme and credentials are
+ * located in place and Basic credentials are decoded into caller provided {@code char[]} so
+ * password never becomes immutable String.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-11.6.2">RFC 9110</a>
+ * <a href="https://www.rfc-editor.org/rfc/rfc7617">RFC 7617</a>
+ * <a href="https://www.rfc-editor.org/rfc/rfc6750">RFC 6750</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class AuthorizationCredentials {
+
+    public static final String BASIC = "Basic";
+    public static final String BEARER = "Bearer";
+
+    private static final byte[] BASE64 = new byte[128];
+
+    static {
+        Arrays.fill(BASE64, (byte) -1);
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Marker for absent credentials to cache parse result
+     */
+    static final AuthorizationCredentials ABSENT = new AuthorizationCredentials("", 0, 0, 0);
+
+    private final String value;
+    private final int schemeEnd;
+    private final int credentialsStart;
+    private final int credentialsEnd;
+
+    private AuthorizationCredentials(String value, int schemeEnd, int credentialsStart, int credentialsEnd) {
+        this.value = value;
+        this.schemeEnd = schemeEnd;
+        this.credentialsStart = credentialsStart;
+        this.credentialsEnd = credentialsEnd;
+    }
+
+    /**
+     * @param value of {@link HttpHeaders#AUTHORIZATION} header
+     * @return credentials or null if value is absent or has no auth scheme
+     */
+    @Nullable
+    public static AuthorizationCredentials parse(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = value.length();
+        while (start < end && isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        int schemeEnd = start;
+        while (schemeEnd < end && HeaderTokenizer.isTokenChar(value.charAt(schemeEnd))) {
+            schemeEnd++;
+        }
+
+        if (schemeEnd == start || (schemeEnd < end && !isWhitespace(value.charAt(schemeEnd)))) {
+            return null;
+        }
+
+        int credentialsStart = schemeEnd;
+        while (credentialsStart < end && isWhitespace(value.charAt(credentialsStart))) {
+            credentialsStart++;
+        }
+
+        final String trimmed = (start == 0)
+                ? value
+                : value.substring(start);
+        return new AuthorizationCredentials(trimmed, schemeEnd - start, credentialsStart - start, end - start);
+    }
+
+    /**
+     * @param scheme to compare with
+     * @return true if auth scheme equals ignoring case
+     */
+    public boolean isScheme(@NotNull String scheme) {
+        return schemeEnd == scheme.length() && value.regionMatches(true, 0, scheme, 0, schemeEnd);
+    }
+
+    public boolean isBasic() {
+        return isScheme(BASIC);
+    }
+
+    public boolean isBearer() {
+        return isScheme(BEARER);
+    }
+
+    @NotNull
+    public String scheme() {
+        return value.substring(0, schemeEnd);
+    }
+
+    /**
+     * @return credentials after auth scheme as slice of header value without copying
+     */
+    @NotNull
+    public CharSequence credentials() {
+        return CharBuffer.wrap(value, credentialsStart, credentialsEnd);
+    }
+
+    /**
+     * @return bearer token as slice of header value without copying or null if scheme is not Bearer
+     */
+    @Nullable
+    public CharSequence bearerToken() {
+        return (isBearer() && credentialsEnd > credentialsStart)
+                ? credentials()
+                : null;
+    }
+
+    /**
+     * @return maximum amount of chars {@link #decodeBasic(char[])} may write
+     */
+    public int basicMaxLength() {
+        return (credentialsEnd - credentialsStart) / 4 * 3;
+    }
+
+    /**
+     * Decodes Base64 UTF-8 {@code user-id:password} Basic credentials into destination without
+     * intermediate String or byte array, destination can be reused and should be cleared by caller
+     *
+     * @param destination to decode into, must have at least {@link #basicMaxLength()} length
+     * @return amount of chars decoded or -1 if scheme is not Basic or credentials are invalid
+     * @throws IllegalArgumentException if destination is too small
+     */
+    public int decodeBasic(char @NotNull [] destination) {
+        if (!isBasic()) {
+            return -1;
+        }
+
+        final int length = credentialsEnd - credentialsStart;
+        if (length == 0 || length % 4 != 0) {
+            return -1;
+        } else if (destination.length < basicMaxLength()) {
+            throw new IllegalArgumentException("Destination length must be at least " + basicMaxLength()
+                    + ", but was: " + destination.length);
+        }
+
+        int written = 0;
+        int codePoint = 0;
+        int minimum = 0;
+        int continuations = 0;
+        for (int i = credentialsStart; i < credentialsEnd; i += 4) {
+            final int padding = (i + 4 == credentialsEnd)
+                    ? paddingOf(i)
+                    : 0;
+
+            int quad = 0;
+            for (int j = 0; j < 4 - padding; j++) {
+                final char c = value.charAt(i + j);
+                final int sextet = (c < 128)
+                        ? BASE64[c]
+                        : -1;
+                if (sextet == -1) {
+                    return -1;
+                }
+                quad = (quad << 6) | sextet;
+            }
+            quad <<= 6 * padding;
+
+            for (int j = 0; j < 3 - padding; j++) {
+                final int octet = (quad >> (16 - j * 8)) & 0xFF;
+                if (continuations == 0) {
+                    if (octet < 0x80) {
+                        destination[written++] = (char) octet;
+                        continue;
+                    } else if (octet >= 0xC2 && octet < 0xE0) {
+                        codePoint = octet & 0x1F;
+                        minimum = 0x80;
+                        continuations = 1;
+                    } else if (octet >= 0xE0 && octet < 0xF0) {
+                        codePoint = octet & 0x0F;
+                        minimum = 0x800;
+                        continuations = 2;
+                    } else if (octet >= 0xF0 && octet < 0xF5) {
+                        codePoint = octet & 0x07;
+                        minimum = 0x10000;
+                        continuations = 3;
+                    } else {
+                        return -1;
+                    }
+                } else if ((octet & 0xC0) == 0x80) {
+                    codePoint = (codePoint << 6) | (octet & 0x3F);
+                    if (--continuations == 0) {
+                        if (codePoint < minimum) {
+                            // overlong encoding
+                            return -1;
+                        } else if (codePoint < 0x10000) {
+                            if (Character.isSurrogate((char) codePoint)) {
+                                return -1;
+                            }
+                            destination[written++] = (char) codePoint;
+                        } else if (codePoint <= Character.MAX_CODE_POINT) {
+                            destination[written++] = Character.highSurrogate(codePoint);
+                            destination[written++] = Character.lowSurrogate(codePoint);
+                        } else {
+                            return -1;
+                        }
+                    }
+                } else {
+                    return -1;
+                }
+            }
+        }
+
+        return (continuations == 0)
+                ? written
+                : -1;
+    }
+
+    /**
+     * @param decoded Basic credentials decoded via {@link #decodeBasic(char[])}
+     * @param length  of decoded credentials
+     * @return index of colon separating user-id and password or -1 if absent
+     */
+    public static int indexOfPasswordSeparator(char @NotNull [] decoded, int length) {
+        for (int i = 0; i < length; i++) {
+            if (decoded[i] == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int paddingOf(int quadStart) {
+        if (value.charAt(quadStart + 3) != '=') {
+            return 0;
+        }
+
+        return (value.charAt(quadStart + 2) == '=')
+                ? 2
+                : 1;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * @return auth scheme only, credentials are not exposed
+     */
+    @Override
+    public String toString() {
+        return scheme() + " ***";
+    }
+}
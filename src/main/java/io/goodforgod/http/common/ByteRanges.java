@@ -0,0 +1,285 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Parser for {@link HttpHeaders#RANGE} header with bytes unit and formatter for
+ * {@link HttpHeaders#CONTENT_RANGE} header.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14">RFC 9110</a>
+ * <p>
+ * Ranges are represented as {@code long[]} of inclusive start and end pairs: {@code [start0, end0,
+ * start1, end1, ...]}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class ByteRanges {
+
+    /**
+     * Default limit of ranges in single header, requests with more ranges are ignored
+     */
+    public static final int DEFAULT_MAX_RANGES = 16;
+
+    /**
+     * Maximum length of formatted Content-Range header value
+     */
+    public static final int CONTENT_RANGE_MAX_LENGTH = 65;
+
+    private static final long[] NOT_SATISFIABLE = new long[0];
+    private static final byte[] BYTES_UNIT = "bytes ".getBytes(StandardCharsets.US_ASCII);
+
+    private ByteRanges() {}
+
+    /**
+     * @param value         of {@link HttpHeaders#RANGE} header
+     * @param contentLength of the representation
+     * @return ranges, see {@link #parse(CharSequence, long, int)}
+     */
+    public static long @Nullable [] parse(@Nullable CharSequence value, long contentLength) {
+        return parse(value, contentLength, DEFAULT_MAX_RANGES);
+    }
+
+    /**
+     * Parses ranges, resolves suffix and open-ended ranges against content length, sorts and merges
+     * overlapping or adjacent ranges.
+     *
+     * @param value         of {@link HttpHeaders#RANGE} header
+     * @param contentLength of the representation
+     * @param maxRanges     maximum amount of ranges allowed in header
+     * @return ranges as start and end pairs, empty array if no range is satisfiable
+     *             ({@link HttpStatus#REQUESTED_RANGE_NOT_SATISFIABLE}) or null if header should be
+     *             ignored cause it is absent, invalid or contains more than max ranges
+     */
+    public static long @Nullable [] parse(@Nullable CharSequence value, long contentLength, int maxRanges) {
+        if (value == null) {
+            return null;
+        }
+
+        final int length = value.length();
+        int i = 0;
+        while (i < length && isWhitespace(value.charAt(i))) {
+            i++;
+        }
+
+        if (length - i < 6 || !isBytesUnit(value, i)) {
+            return null;
+        }
+        i += 6;
+
+        long[] ranges = new long[4];
+        int count = 0;
+        int specs = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (c == ',' || isWhitespace(c)) {
+                i++;
+                continue;
+            }
+
+            if (++specs > maxRanges) {
+                return null;
+            }
+
+            long first = -1;
+            if (c != '-') {
+                final int start = i;
+                while (i < length && isDigit(value.charAt(i))) {
+                    i++;
+                }
+                first = parseLong(value, start, i);
+                if (first < 0) {
+                    return null;
+                }
+            }
+
+            if (i >= length || value.charAt(i) != '-') {
+                return null;
+            }
+            i++;
+
+            final int lastStart = i;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+            }
+            final long last = (lastStart == i)
+                    ? -1
+                    : parseLong(value, lastStart, i);
+            if (lastStart != i && last < 0) {
+                return null;
+            }
+
+            while (i < length && isWhitespace(value.charAt(i))) {
+                i++;
+            }
+            if (i < length && value.charAt(i) != ',') {
+                return null;
+            }
+
+            final long start;
+            final long end;
+            if (first == -1) {
+                // suffix range: -500
+                if (last == -1) {
+                    return null;
+                } else if (last == 0 || contentLength == 0) {
+                    continue;
+                }
+
+                start = Math.max(0, contentLength - last);
+                end = contentLength - 1;
+            } else {
+                if (last != -1 && last < first) {
+                    return null;
+                } else if (first >= contentLength) {
+                    continue;
+                }
+
+                start = first;
+                end = (last == -1 || last >= contentLength)
+                        ? contentLength - 1
+                        : last;
+            }
+
+            if (count == ranges.length) {
+                final long[] grown = new long[ranges.length * 2];
+                System.arraycopy(ranges, 0, grown, 0, count);
+                ranges = grown;
+            }
+            ranges[count++] = start;
+            ranges[count++] = end;
+        }
+
+        if (specs == 0) {
+            return null;
+        } else if (count == 0) {
+            return NOT_SATISFIABLE;
+        }
+
+        return merge(ranges, count);
+    }
+
+    private static long[] merge(long[] ranges, int count) {
+        // insertion sort by start, range count is small and bounded
+        for (int i = 2; i < count; i += 2) {
+            final long start = ranges[i];
+            final long end = ranges[i + 1];
+            int j = i - 2;
+            while (j >= 0 && ranges[j] > start) {
+                ranges[j + 2] = ranges[j];
+                ranges[j + 3] = ranges[j + 1];
+                j -= 2;
+            }
+            ranges[j + 2] = start;
+            ranges[j + 3] = end;
+        }
+
+        int merged = 2;
+        for (int i = 2; i < count; i += 2) {
+            if (ranges[i] <= ranges[merged - 1] + 1) {
+                ranges[merged - 1] = Math.max(ranges[merged - 1], ranges[i + 1]);
+            } else {
+                ranges[merged++] = ranges[i];
+                ranges[merged++] = ranges[i + 1];
+            }
+        }
+
+        if (merged == ranges.length) {
+            return ranges;
+        }
+
+        final long[] result = new long[merged];
+        System.arraycopy(ranges, 0, result, 0, merged);
+        return result;
+    }
+
+    private static boolean isBytesUnit(CharSequence value, int offset) {
+        return (value.charAt(offset) | 0x20) == 'b'
+                && (value.charAt(offset + 1) | 0x20) == 'y'
+                && (value.charAt(offset + 2) | 0x20) == 't'
+                && (value.charAt(offset + 3) | 0x20) == 'e'
+                && (value.charAt(offset + 4) | 0x20) == 's'
+                && value.charAt(offset + 5) == '=';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return parsed number or -1 if number is empty or overflows
+     */
+    private static long parseLong(CharSequence value, int start, int end) {
+        if (start == end || end - start > 18) {
+            return -1;
+        }
+
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+
+        return result;
+    }
+
+    /**
+     * @param start         of the range
+     * @param end           of the range inclusive
+     * @param contentLength of the representation
+     * @return Content-Range header value like {@code bytes 0-499/1234}
+     */
+    @NotNull
+    public static String contentRange(long start, long end, long contentLength) {
+        final byte[] bytes = new byte[CONTENT_RANGE_MAX_LENGTH];
+        final int length = writeContentRange(start, end, contentLength, bytes, 0);
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @param contentLength of the representation
+     * @return Content-Range header value for unsatisfied range like {@code bytes *}{@code /1234}
+     */
+    @NotNull
+    public static String contentRangeUnsatisfied(long contentLength) {
+        return "bytes */" + contentLength;
+    }
+
+    /**
+     * @param start         of the range
+     * @param end           of the range inclusive
+     * @param contentLength of the representation
+     * @param target        to write US-ASCII Content-Range value to, requires up to
+     *                          {@link #CONTENT_RANGE_MAX_LENGTH} bytes
+     * @param offset        to start writing from
+     * @return offset after last written byte
+     */
+    public static int writeContentRange(long start, long end, long contentLength, byte @NotNull [] target, int offset) {
+        if (start < 0 || end < start || end >= contentLength) {
+            throw new IllegalArgumentException("Invalid range " + start + "-" + end + " for length " + contentLength);
+        }
+
+        System.arraycopy(BYTES_UNIT, 0, target, offset, BYTES_UNIT.length);
+        offset = writeLong(start, target, offset + BYTES_UNIT.length);
+        target[offset++] = '-';
+        offset = writeLong(end, target, offset);
+        target[offset++] = '/';
+        return writeLong(contentLength, target, offset);
+    }
+
+    private static int writeLong(long value, byte[] target, int offset) {
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            target[offset++] = (byte) ('0' + value / divisor % 10);
+        }
+
+        return offset;
+    }
+}
@@ -0,0 +1,534 @@
+package io.goodforgod.http.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents parsed {@link HttpHeaders#CACHE_CONTROL} header value.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-5.2">RFC 9111</a>
+ * <p>
+ * Boolean directives are stored as bit flags and delta-seconds directives as int values, where
+ * {@link #ABSENT} indicates directive is not present.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class CacheControl {
+
+    /**
+     * Value of delta-seconds directive when directive is not present
+     */
+    public static final int ABSENT = -1;
+
+    private static final int NO_CACHE = 1;
+    private static final int NO_STORE = 1 << 1;
+    private static final int NO_TRANSFORM = 1 << 2;
+    private static final int ONLY_IF_CACHED = 1 << 3;
+    private static final int MUST_REVALIDATE = 1 << 4;
+    private static final int PROXY_REVALIDATE = 1 << 5;
+    private static final int MUST_UNDERSTAND = 1 << 6;
+    private static final int PUBLIC = 1 << 7;
+    private static final int PRIVATE = 1 << 8;
+    private static final int IMMUTABLE = 1 << 9;
+
+    private static final HeaderValueCache<CacheControl> CACHE = new HeaderValueCache<>(512);
+
+    private static final CacheControl EMPTY = new CacheControl(0, ABSENT, ABSENT, ABSENT, ABSENT, ABSENT, ABSENT);
+
+    private final int flags;
+    private final int maxAge;
+    private final int sMaxAge;
+    private final int maxStale;
+    private final int minFresh;
+    private final int staleWhileRevalidate;
+    private final int staleIfError;
+
+    private String value;
+
+    private CacheControl(int flags,
+                         int maxAge,
+                         int sMaxAge,
+                         int maxStale,
+                         int minFresh,
+                         int staleWhileRevalidate,
+                         int staleIfError) {
+        this.flags = flags;
+        this.maxAge = maxAge;
+        this.sMaxAge = sMaxAge;
+        this.maxStale = maxStale;
+        this.minFresh = minFresh;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.staleIfError = staleIfError;
+    }
+
+    public static final class Builder {
+
+        private int flags = 0;
+        private int maxAge = ABSENT;
+        private int sMaxAge = ABSENT;
+        private int maxStale = ABSENT;
+        private int minFresh = ABSENT;
+        private int staleWhileRevalidate = ABSENT;
+        private int staleIfError = ABSENT;
+
+        private Builder() {}
+
+        @NotNull
+        public Builder noCache() {
+            this.flags |= NO_CACHE;
+            return this;
+        }
+
+        @NotNull
+        public Builder noStore() {
+            this.flags |= NO_STORE;
+            return this;
+        }
+
+        @NotNull
+        public Builder noTransform() {
+            this.flags |= NO_TRANSFORM;
+            return this;
+        }
+
+        @NotNull
+        public Builder onlyIfCached() {
+            this.flags |= ONLY_IF_CACHED;
+            return this;
+        }
+
+        @NotNull
+        public Builder mustRevalidate() {
+            this.flags |= MUST_REVALIDATE;
+            return this;
+        }
+
+        @NotNull
+        public Builder proxyRevalidate() {
+            this.flags |= PROXY_REVALIDATE;
+            return this;
+        }
+
+        @NotNull
+        public Builder mustUnderstand() {
+            this.flags |= MUST_UNDERSTAND;
+            return this;
+        }
+
+        @NotNull
+        public Builder isPublic() {
+            this.flags |= PUBLIC;
+            return this;
+        }
+
+        @NotNull
+        public Builder isPrivate() {
+            this.flags |= PRIVATE;
+            return this;
+        }
+
+        @NotNull
+        public Builder immutable() {
+            this.flags |= IMMUTABLE;
+            return this;
+        }
+
+        @NotNull
+        public Builder maxAge(int seconds) {
+            this.maxAge = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public Builder sMaxAge(int seconds) {
+            this.sMaxAge = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public Builder maxStale(int seconds) {
+            this.maxStale = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public Builder minFresh(int seconds) {
+            this.minFresh = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public Builder staleWhileRevalidate(int seconds) {
+            this.staleWhileRevalidate = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public Builder staleIfError(int seconds) {
+            this.staleIfError = requireDeltaSeconds(seconds);
+            return this;
+        }
+
+        @NotNull
+        public CacheControl build() {
+            return new CacheControl(flags, maxAge, sMaxAge, maxStale, minFresh, staleWhileRevalidate, staleIfError);
+        }
+
+        private static int requireDeltaSeconds(int seconds) {
+            if (seconds < 0) {
+                throw new IllegalArgumentException("Delta seconds can't be negative, but was: " + seconds);
+            }
+
+            return seconds;
+        }
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return instance without any directives
+     */
+    @NotNull
+    public static CacheControl empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parses header value, results are cached in fixed size table where newer values replace older
+     * ones, cause usually only few distinct values are used.
+     *
+     * @param value of {@link HttpHeaders#CACHE_CONTROL} header
+     * @return parsed cache control
+     */
+    @NotNull
+    public static CacheControl parse(@Nullable String value) {
+        if (value == null || value.isEmpty()) {
+            return EMPTY;
+        }
+
+        final CacheControl cached = CACHE.get(value);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CacheControl cacheControl = parseValue(value);
+        CACHE.put(value, cacheControl);
+        return cacheControl;
+    }
+
+    private static CacheControl parseValue(CharSequence value) {
+        int flags = 0;
+        int maxAge = ABSENT;
+        int sMaxAge = ABSENT;
+        int maxStale = ABSENT;
+        int minFresh = ABSENT;
+        int staleWhileRevalidate = ABSENT;
+        int staleIfError = ABSENT;
+
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+        while (tokenizer.nextElement()) {
+            if (!tokenizer.readToken()) {
+                tokenizer.skipElement();
+                continue;
+            }
+
+            final int nameStart = tokenizer.start();
+            final int nameEnd = tokenizer.end();
+            final int argument = (tokenizer.consume('=') && tokenizer.readValue())
+                    ? parseDeltaSeconds(value, tokenizer.start(), tokenizer.end())
+                    : ABSENT;
+
+            switch (nameEnd - nameStart) {
+                case 6 -> {
+                    if (matches(value, nameStart, "public")) {
+                        flags |= PUBLIC;
+                    }
+                }
+                case 7 -> {
+                    if (matches(value, nameStart, "max-age")) {
+                        maxAge = argument;
+                    } else if (matches(value, nameStart, "private")) {
+                        flags |= PRIVATE;
+                    }
+                }
+                case 8 -> {
+                    if (matches(value, nameStart, "no-cache")) {
+                        flags |= NO_CACHE;
+                    } else if (matches(value, nameStart, "no-store")) {
+                        flags |= NO_STORE;
+                    } else if (matches(value, nameStart, "s-maxage")) {
+                        sMaxAge = argument;
+                    }
+                }
+                case 9 -> {
+                    if (matches(value, nameStart, "max-stale")) {
+                        // max-stale without argument means client accepts stale response of any age
+                        maxStale = (argument == ABSENT)
+                                ? Integer.MAX_VALUE
+                                : argument;
+                    } else if (matches(value, nameStart, "min-fresh")) {
+                        minFresh = argument;
+                    } else if (matches(value, nameStart, "immutable")) {
+                        flags |= IMMUTABLE;
+                    }
+                }
+                case 12 -> {
+                    if (matches(value, nameStart, "no-transform")) {
+                        flags |= NO_TRANSFORM;
+                    }
+                }
+                case 14 -> {
+                    if (matches(value, nameStart, "only-if-cached")) {
+                        flags |= ONLY_IF_CACHED;
+                    } else if (matches(value, nameStart, "stale-if-error")) {
+                        staleIfError = argument;
+                    }
+                }
+                case 15 -> {
+                    if (matches(value, nameStart, "must-revalidate")) {
+                        flags |= MUST_REVALIDATE;
+                    } else if (matches(value, nameStart, "must-understand")) {
+                        flags |= MUST_UNDERSTAND;
+                    }
+                }
+                case 16 -> {
+                    if (matches(value, nameStart, "proxy-revalidate")) {
+                        flags |= PROXY_REVALIDATE;
+                    }
+                }
+                case 22 -> {
+                    if (matches(value, nameStart, "stale-while-revalidate")) {
+                        staleWhileRevalidate = argument;
+                    }
+                }
+                default -> {
+                    // unknown directives are ignored
+                }
+            }
+
+            tokenizer.skipElement();
+        }
+
+        if (flags == 0 && maxAge == ABSENT && sMaxAge == ABSENT && maxStale == ABSENT && minFresh == ABSENT
+                && staleWhileRevalidate == ABSENT && staleIfError == ABSENT) {
+            return EMPTY;
+        }
+
+        return new CacheControl(flags, maxAge, sMaxAge, maxStale, minFresh, staleWhileRevalidate, staleIfError);
+    }
+
+    private static boolean matches(CharSequence value, int start, String lowerCaseName) {
+        for (int i = 0; i < lowerCaseName.length(); i++) {
+            final char c = value.charAt(start + i);
+            final char lower = (c >= 'A' && c <= 'Z')
+                    ? (char) (c + ('a' - 'A'))
+                    : c;
+            if (lower != lowerCaseName.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Delta-seconds greater than 2147483647 are treated as 2147483647 as RFC 9111 recommends
+     *
+     * @return seconds or {@link #ABSENT} if invalid
+     */
+    private static int parseDeltaSeconds(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return ABSENT;
+        }
+
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return ABSENT;
+            }
+
+            result = Math.min(result * 10 + digit, Integer.MAX_VALUE);
+        }
+
+        return (int) result;
+    }
+
+    public boolean noCache() {
+        return (flags & NO_CACHE) != 0;
+    }
+
+    public boolean noStore() {
+        return (flags & NO_STORE) != 0;
+    }
+
+    public boolean noTransform() {
+        return (flags & NO_TRANSFORM) != 0;
+    }
+
+    public boolean onlyIfCached() {
+        return (flags & ONLY_IF_CACHED) != 0;
+    }
+
+    public boolean mustRevalidate() {
+        return (flags & MUST_REVALIDATE) != 0;
+    }
+
+    public boolean proxyRevalidate() {
+        return (flags & PROXY_REVALIDATE) != 0;
+    }
+
+    public boolean mustUnderstand() {
+        return (flags & MUST_UNDERSTAND) != 0;
+    }
+
+    public boolean isPublic() {
+        return (flags & PUBLIC) != 0;
+    }
+
+    public boolean isPrivate() {
+        return (flags & PRIVATE) != 0;
+    }
+
+    public boolean immutable() {
+        return (flags & IMMUTABLE) != 0;
+    }
+
+    /**
+     * @return max-age seconds or {@link #ABSENT}
+     */
+    public int maxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return s-maxage seconds or {@link #ABSENT}
+     */
+    public int sMaxAge() {
+        return sMaxAge;
+    }
+
+    /**
+     * @return max-stale seconds, {@link Integer#MAX_VALUE} if any staleness accepted or {@link #ABSENT}
+     */
+    public int maxStale() {
+        return maxStale;
+    }
+
+    /**
+     * @return min-fresh seconds or {@link #ABSENT}
+     */
+    public int minFresh() {
+        return minFresh;
+    }
+
+    /**
+     * @return stale-while-revalidate seconds or {@link #ABSENT}
+     */
+    public int staleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    /**
+     * @return stale-if-error seconds or {@link #ABSENT}
+     */
+    public int staleIfError() {
+        return staleIfError;
+    }
+
+    /**
+     * @return true if no directives are present
+     */
+    public boolean isEmpty() {
+        return this.equals(EMPTY);
+    }
+
+    /**
+     * @param builder to append header value to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        final int start = builder.length();
+        appendFlag(builder, start, NO_CACHE, "no-cache");
+        appendFlag(builder, start, NO_STORE, "no-store");
+        appendFlag(builder, start, NO_TRANSFORM, "no-transform");
+        appendFlag(builder, start, ONLY_IF_CACHED, "only-if-cached");
+        appendFlag(builder, start, MUST_REVALIDATE, "must-revalidate");
+        appendFlag(builder, start, PROXY_REVALIDATE, "proxy-revalidate");
+        appendFlag(builder, start, MUST_UNDERSTAND, "must-understand");
+        appendFlag(builder, start, PUBLIC, "public");
+        appendFlag(builder, start, PRIVATE, "private");
+        appendFlag(builder, start, IMMUTABLE, "immutable");
+        appendSeconds(builder, start, maxAge, "max-age");
+        appendSeconds(builder, start, sMaxAge, "s-maxage");
+        if (maxStale == Integer.MAX_VALUE) {
+            appendDelimiter(builder, start).append("max-stale");
+        } else {
+            appendSeconds(builder, start, maxStale, "max-stale");
+        }
+        appendSeconds(builder, start, minFresh, "min-fresh");
+        appendSeconds(builder, start, staleWhileRevalidate, "stale-while-revalidate");
+        appendSeconds(builder, start, staleIfError, "stale-if-error");
+    }
+
+    private void appendFlag(StringBuilder builder, int start, int flag, String name) {
+        if ((flags & flag) != 0) {
+            appendDelimiter(builder, start).append(name);
+        }
+    }
+
+    private static void appendSeconds(StringBuilder builder, int start, int seconds, String name) {
+        if (seconds != ABSENT) {
+            appendDelimiter(builder, start).append(name).append('=').append(seconds);
+        }
+    }
+
+    private static StringBuilder appendDelimiter(StringBuilder builder, int start) {
+        return (builder.length() == start)
+                ? builder
+                : builder.append(", ");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        CacheControl that = (CacheControl) o;
+        return flags == that.flags && maxAge == that.maxAge && sMaxAge == that.sMaxAge && maxStale == that.maxStale
+                && minFresh == that.minFresh && staleWhileRevalidate == that.staleWhileRevalidate
+                && staleIfError == that.staleIfError;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = flags;
+        result = 31 * result + maxAge;
+        result = 31 * result + sMaxAge;
+        result = 31 * result + maxStale;
+        result = 31 * result + minFresh;
+        result = 31 * result + staleWhileRevalidate;
+        result = 31 * result + staleIfError;
+        return result;
+    }
+
+    /**
+     * @return header value representation
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        String value = this.value;
+        if (value == null) {
+            final StringBuilder builder = new StringBuilder(32);
+            appendTo(builder);
+            value = builder.toString();
+            this.value = value;
+        }
+
+        return value;
+    }
+}
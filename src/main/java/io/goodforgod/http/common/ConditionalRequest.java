@@ -0,0 +1,100 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Evaluates conditional request preconditions in order defined by
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-13.2.2">RFC 9110</a>
+ * without creating intermediate collections.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class ConditionalRequest {
+
+    /**
+     * Value of last modified date when resource has no last modified date
+     */
+    public static final long NO_LAST_MODIFIED = -1;
+
+    private ConditionalRequest() {}
+
+    /**
+     * Preconditions are evaluated for existing resource, so {@code *} list value always matches.
+     *
+     * @param method       of the request
+     * @param headers      of the request
+     * @param entityTag    current entity tag of the resource or null if resource has no entity tag
+     * @param lastModified current last modified epoch millis of the resource or {@link #NO_LAST_MODIFIED}
+     * @return {@link HttpStatus#NOT_MODIFIED} or {@link HttpStatus#PRECONDITION_FAILED} if precondition
+     *             failed, {@link HttpStatus#OK} if request should be processed normally
+     */
+    @NotNull
+    public static HttpStatus evaluate(@NotNull HttpMethod method,
+                                      @NotNull HttpHeaders headers,
+                                      @Nullable EntityTag entityTag,
+                                      long lastModified) {
+        // HTTP-date has second resolution
+        final long lastModifiedSeconds = (lastModified == NO_LAST_MODIFIED)
+                ? NO_LAST_MODIFIED
+                : Math.floorDiv(lastModified, 1000L);
+
+        final List<String> ifMatch = headers.findAll(HttpHeaders.IF_MATCH);
+        if (!ifMatch.isEmpty()) {
+            if (!matchesAny(ifMatch, entityTag, false)) {
+                return HttpStatus.PRECONDITION_FAILED;
+            }
+        } else if (lastModifiedSeconds != NO_LAST_MODIFIED) {
+            final long ifUnmodifiedSince = headers.getDate(HttpHeaders.IF_UNMODIFIED_SINCE, NO_LAST_MODIFIED);
+            if (ifUnmodifiedSince != NO_LAST_MODIFIED && lastModifiedSeconds > ifUnmodifiedSince / 1000L) {
+                return HttpStatus.PRECONDITION_FAILED;
+            }
+        }
+
+        final boolean isGetOrHead = method == HttpMethod.GET || method == HttpMethod.HEAD;
+        final List<String> ifNoneMatch = headers.findAll(HttpHeaders.IF_NONE_MATCH);
+        if (!ifNoneMatch.isEmpty()) {
+            if (matchesAny(ifNoneMatch, entityTag, true)) {
+                return isGetOrHead
+                        ? HttpStatus.NOT_MODIFIED
+                        : HttpStatus.PRECONDITION_FAILED;
+            }
+        } else if (isGetOrHead && lastModifiedSeconds != NO_LAST_MODIFIED) {
+            final long ifModifiedSince = headers.getDate(HttpHeaders.IF_MODIFIED_SINCE, NO_LAST_MODIFIED);
+            if (ifModifiedSince != NO_LAST_MODIFIED && lastModifiedSeconds <= ifModifiedSince / 1000L) {
+                return HttpStatus.NOT_MODIFIED;
+            }
+        }
+
+        return HttpStatus.OK;
+    }
+
+    private static boolean matchesAny(List<String> values, @Nullable EntityTag entityTag, boolean weakComparison) {
+        for (String value : values) {
+            if (entityTag == null) {
+                if (isAny(value)) {
+                    return true;
+                }
+            } else if (entityTag.matchesAny(value, weakComparison)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isAny(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '*') {
+                return true;
+            } else if (c != ' ' && c != '\t') {
+                return false;
+            }
+        }
+
+        return false;
+    }
+}
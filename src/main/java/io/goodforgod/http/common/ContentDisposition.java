@@ -0,0 +1,372 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents {@link HttpHeaders#CONTENT_DISPOSITION} header value with UTF-8 filename support via
+ * {@code filename*} extended parameter.
+ * <a href="https://www.rfc-editor.org/rfc/rfc6266">RFC 6266</a>
+ * <a href="https://www.rfc-editor.org/rfc/rfc5987">RFC 5987</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class ContentDisposition {
+
+    public static final String INLINE = "inline";
+    public static final String ATTACHMENT = "attachment";
+    public static final String FORM_DATA = "form-data";
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final String type;
+    private final String name;
+    private final String filename;
+
+    private ContentDisposition(String type, String name, String filename) {
+        this.type = type;
+        this.name = name;
+        this.filename = filename;
+    }
+
+    @NotNull
+    public static ContentDisposition inline(@Nullable String filename) {
+        return new ContentDisposition(INLINE, null, filename);
+    }
+
+    @NotNull
+    public static ContentDisposition attachment(@Nullable String filename) {
+        return new ContentDisposition(ATTACHMENT, null, filename);
+    }
+
+    /**
+     * @param name     of the form field
+     * @param filename of the uploaded file
+     * @return form-data disposition
+     */
+    @NotNull
+    public static ContentDisposition formData(@NotNull String name, @Nullable String filename) {
+        Objects.requireNonNull(name, "name");
+        return new ContentDisposition(FORM_DATA, name, filename);
+    }
+
+    /**
+     * Parses header value in single pass, {@code filename*} takes precedence over {@code filename}
+     *
+     * @param value of {@link HttpHeaders#CONTENT_DISPOSITION} header
+     * @return parsed disposition or null if disposition type is absent
+     */
+    @Nullable
+    public static ContentDisposition parse(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+        if (!tokenizer.readToken()) {
+            return null;
+        }
+
+        final String type = lowerCaseType(tokenizer);
+        String name = null;
+        String filename = null;
+        String extendedFilename = null;
+        while (tokenizer.nextParameter()) {
+            if (tokenizer.nameEqualsIgnoreCase("filename*")) {
+                final String decoded = decodeExtValue(value, tokenizer.start(), tokenizer.end());
+                if (decoded != null) {
+                    extendedFilename = decoded;
+                }
+            } else if (tokenizer.nameEqualsIgnoreCase("filename")) {
+                filename = tokenizer.value();
+            } else if (tokenizer.nameEqualsIgnoreCase("name")) {
+                name = tokenizer.value();
+            }
+        }
+
+        return new ContentDisposition(type, name, (extendedFilename == null)
+                ? filename
+                : extendedFilename);
+    }
+
+    private static String lowerCaseType(HeaderTokenizer tokenizer) {
+        if (tokenizer.valueEqualsIgnoreCase(ATTACHMENT)) {
+            return ATTACHMENT;
+        } else if (tokenizer.valueEqualsIgnoreCase(INLINE)) {
+            return INLINE;
+        } else if (tokenizer.valueEqualsIgnoreCase(FORM_DATA)) {
+            return FORM_DATA;
+        } else {
+            return tokenizer.value().toLowerCase();
+        }
+    }
+
+    /**
+     * Decodes {@code charset'[language]'value-chars} extended value
+     *
+     * @return decoded value or null if value or charset is invalid
+     */
+    private static String decodeExtValue(String value, int start, int end) {
+        final int charsetEnd = value.indexOf('\'', start);
+        if (charsetEnd == -1 || charsetEnd >= end) {
+            return null;
+        }
+
+        final int languageEnd = value.indexOf('\'', charsetEnd + 1);
+        if (languageEnd == -1 || languageEnd >= end) {
+            return null;
+        }
+
+        final Charset charset;
+        if (value.regionMatches(true, start, "UTF-8", 0, charsetEnd - start) && charsetEnd - start == 5) {
+            charset = StandardCharsets.UTF_8;
+        } else if (value.regionMatches(true, start, "ISO-8859-1", 0, charsetEnd - start) && charsetEnd - start == 10) {
+            charset = StandardCharsets.ISO_8859_1;
+        } else {
+            return null;
+        }
+
+        final byte[] bytes = new byte[end - languageEnd - 1];
+        int length = 0;
+        for (int i = languageEnd + 1; i < end; i++) {
+            final char c = value.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= end) {
+                    return null;
+                }
+
+                final int high = Character.digit(value.charAt(i + 1), 16);
+                final int low = Character.digit(value.charAt(i + 2), 16);
+                if (high == -1 || low == -1) {
+                    return null;
+                }
+
+                bytes[length++] = (byte) ((high << 4) | low);
+                i += 2;
+            } else {
+                bytes[length++] = (byte) c;
+            }
+        }
+
+        return new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * @return disposition type in lower case like {@link #ATTACHMENT}
+     */
+    @NotNull
+    public String type() {
+        return type;
+    }
+
+    public boolean isAttachment() {
+        return ATTACHMENT.equals(type);
+    }
+
+    public boolean isInline() {
+        return INLINE.equals(type);
+    }
+
+    public boolean isFormData() {
+        return FORM_DATA.equals(type);
+    }
+
+    /**
+     * @return form field name
+     */
+    @Nullable
+    public String name() {
+        return name;
+    }
+
+    @Nullable
+    public String filename() {
+        return filename;
+    }
+
+    /**
+     * @return media type resolved from filename via {@link MediaType#ofFilename(String)}
+     */
+    @NotNull
+    public Optional<MediaType> mediaType() {
+        return MediaType.ofFilename(filename);
+    }
+
+    /**
+     * @return media type resolved from filename via {@link MediaType#ofFilenameOrNull(String)} or null
+     */
+    @Nullable
+    public MediaType mediaTypeOrNull() {
+        return MediaType.ofFilenameOrNull(filename);
+    }
+
+    /**
+     * @param builder to append header value to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null);
+    }
+
+    /**
+     * @param buffer to write US-ASCII header value to
+     * @throws java.nio.BufferOverflowException if buffer has not enough space remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        render(null, buffer);
+    }
+
+    /**
+     * @return US-ASCII header value
+     */
+    public byte @NotNull [] toBytes() {
+        return toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Either builder or buffer is specified, so the same rendering code serves both.
+     * Non US-ASCII filename is written as {@code filename*} with US-ASCII {@code filename} fallback.
+     */
+    private void render(StringBuilder builder, ByteBuffer buffer) {
+        put(builder, buffer, type);
+        if (name != null) {
+            put(builder, buffer, "; name=");
+            putQuoted(builder, buffer, name);
+        }
+
+        if (filename != null) {
+            put(builder, buffer, "; filename=");
+            putQuoted(builder, buffer, filename);
+            if (!isAscii(filename)) {
+                put(builder, buffer, "; filename*=UTF-8''");
+                putPercentEncoded(builder, buffer, filename);
+            }
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < ' ' || c >= 0x7F) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void put(StringBuilder builder, ByteBuffer buffer, char c) {
+        if (builder != null) {
+            builder.append(c);
+        } else {
+            buffer.put((byte) c);
+        }
+    }
+
+    private static void put(StringBuilder builder, ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            put(builder, buffer, value.charAt(i));
+        }
+    }
+
+    /**
+     * Writes quoted-string where non US-ASCII characters are replaced with underscore
+     */
+    private static void putQuoted(StringBuilder builder, ByteBuffer buffer, String value) {
+        put(builder, buffer, '"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put(builder, buffer, '\\');
+                put(builder, buffer, c);
+            } else if (c < ' ' || c >= 0x7F) {
+                if (!Character.isLowSurrogate(c)) {
+                    put(builder, buffer, '_');
+                }
+            } else {
+                put(builder, buffer, c);
+            }
+        }
+        put(builder, buffer, '"');
+    }
+
+    /**
+     * Writes UTF-8 value where everything except attr-char is percent-encoded
+     */
+    private static void putPercentEncoded(StringBuilder builder, ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            int codePoint = value.charAt(i);
+            if (Character.isHighSurrogate((char) codePoint) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                codePoint = Character.toCodePoint((char) codePoint, value.charAt(++i));
+            }
+
+            if (isAttrChar(codePoint)) {
+                put(builder, buffer, (char) codePoint);
+            } else if (codePoint < 0x80) {
+                putPercent(builder, buffer, codePoint);
+            } else if (codePoint < 0x800) {
+                putPercent(builder, buffer, 0xC0 | (codePoint >> 6));
+                putPercent(builder, buffer, 0x80 | (codePoint & 0x3F));
+            } else if (codePoint < 0x10000) {
+                if (Character.isSurrogate((char) codePoint)) {
+                    // unpaired surrogate is encoded as '?' the same way String#getBytes does
+                    putPercent(builder, buffer, '?');
+                } else {
+                    putPercent(builder, buffer, 0xE0 | (codePoint >> 12));
+                    putPercent(builder, buffer, 0x80 | ((codePoint >> 6) & 0x3F));
+                    putPercent(builder, buffer, 0x80 | (codePoint & 0x3F));
+                }
+            } else {
+                putPercent(builder, buffer, 0xF0 | (codePoint >> 18));
+                putPercent(builder, buffer, 0x80 | ((codePoint >> 12) & 0x3F));
+                putPercent(builder, buffer, 0x80 | ((codePoint >> 6) & 0x3F));
+                putPercent(builder, buffer, 0x80 | (codePoint & 0x3F));
+            }
+        }
+    }
+
+    private static void putPercent(StringBuilder builder, ByteBuffer buffer, int octet) {
+        put(builder, buffer, '%');
+        put(builder, buffer, HEX[octet >> 4]);
+        put(builder, buffer, HEX[octet & 0xF]);
+    }
+
+    private static boolean isAttrChar(int c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || (c < 0x80 && "!#$&+-.^_`|~".indexOf(c) != -1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        ContentDisposition that = (ContentDisposition) o;
+        return type.equals(that.type) && Objects.equals(name, that.name) && Objects.equals(filename, that.filename);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, name, filename);
+    }
+
+    /**
+     * @return header value representation
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(32);
+        render(builder, null);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package io.goodforgod.http.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy view over {@link HttpHeaders#COOKIE} header values, cookies are scanned in place on lookup and
+ * only the requested cookie value is allocated.
+ * <a href="https://www.rfc-editor.org/rfc/rfc6265#section-4.2">RFC 6265</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class Cookies {
+
+    private static final Cookies EMPTY = new Cookies(Collections.emptyList());
+
+    private final List<String> headerValues;
+
+    private Cookies(@NotNull List<String> headerValues) {
+        this.headerValues = headerValues;
+    }
+
+    @NotNull
+    static Cookies of(@NotNull List<String> headerValues) {
+        return headerValues.isEmpty()
+                ? EMPTY
+                : new Cookies(headerValues);
+    }
+
+    /**
+     * @param name of the cookie
+     * @return value of the first cookie with given name (without surrounding quotes) or null if absent
+     */
+    @Nullable
+    public String get(@NotNull CharSequence name) {
+        for (String headerValue : headerValues) {
+            final int valueStart = indexOfValue(headerValue, name);
+            if (valueStart != -1) {
+                final int valueEnd = headerValue.indexOf(';', valueStart);
+                return value(headerValue, valueStart, (valueEnd == -1)
+                        ? headerValue.length()
+                        : valueEnd);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return value in region without surrounding whitespaces and quotes
+     */
+    private static String value(String headerValue, int valueStart, int valueEnd) {
+        while (valueStart < valueEnd && isWhitespace(headerValue.charAt(valueStart))) {
+            valueStart++;
+        }
+        while (valueEnd > valueStart && isWhitespace(headerValue.charAt(valueEnd - 1))) {
+            valueEnd--;
+        }
+
+        if (valueEnd - valueStart >= 2
+                && headerValue.charAt(valueStart) == '"'
+                && headerValue.charAt(valueEnd - 1) == '"') {
+            return headerValue.substring(valueStart + 1, valueEnd - 1);
+        }
+
+        return headerValue.substring(valueStart, valueEnd);
+    }
+
+    /**
+     * @param name of the cookie
+     * @return true if cookie with given name is present
+     */
+    public boolean contains(@NotNull CharSequence name) {
+        for (String headerValue : headerValues) {
+            if (indexOfValue(headerValue, name) != -1) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return true if no cookies are present
+     */
+    public boolean isEmpty() {
+        return headerValues.isEmpty();
+    }
+
+    /**
+     * Parses all cookies, prefer {@link #get(CharSequence)} when only few cookies are required
+     *
+     * @return all cookies where first cookie wins for duplicate names
+     */
+    @NotNull
+    public Map<String, String> toMap() {
+        if (headerValues.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, String> cookies = new LinkedHashMap<>(8);
+        for (String headerValue : headerValues) {
+            final int length = headerValue.length();
+            int i = 0;
+            while (i < length) {
+                // single scan of the segment, so each char is visited once
+                int separator = -1;
+                int end = i;
+                while (end < length && headerValue.charAt(end) != ';') {
+                    if (separator == -1 && headerValue.charAt(end) == '=') {
+                        separator = end;
+                    }
+                    end++;
+                }
+
+                if (separator != -1) {
+                    final String name = headerValue.substring(i, separator).strip();
+                    if (!name.isEmpty()) {
+                        cookies.putIfAbsent(name, value(headerValue, separator + 1, end));
+                    }
+                }
+
+                i = end + 1;
+            }
+        }
+
+        return cookies;
+    }
+
+    /**
+     * @return index of cookie value start (after optional whitespaces) or -1 if cookie not found
+     */
+    private static int indexOfValue(String headerValue, CharSequence name) {
+        final int length = headerValue.length();
+        final int nameLength = name.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && (isWhitespace(headerValue.charAt(i)) || headerValue.charAt(i) == ';')) {
+                i++;
+            }
+
+            final int nameStart = i;
+            while (i < length && headerValue.charAt(i) != '=' && headerValue.charAt(i) != ';') {
+                i++;
+            }
+
+            if (i < length && headerValue.charAt(i) == '=') {
+                int nameEnd = i;
+                while (nameEnd > nameStart && isWhitespace(headerValue.charAt(nameEnd - 1))) {
+                    nameEnd--;
+                }
+
+                if (nameEnd - nameStart == nameLength && regionEquals(headerValue, nameStart, name)) {
+                    int valueStart = i + 1;
+                    while (valueStart < length && isWhitespace(headerValue.charAt(valueStart))) {
+                        valueStart++;
+                    }
+                    return valueStart;
+                }
+            }
+
+            while (i < length && headerValue.charAt(i) != ';') {
+                i++;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean regionEquals(String value, int start, CharSequence name) {
+        for (int j = 0; j < name.length(); j++) {
+            if (value.charAt(start + j) != name.charAt(j)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    @Override
+    public String toString() {
+        return String.join("; ", headerValues);
+    }
+}
@@ -0,0 +1,162 @@
+package io.goodforgod.http.common;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Selects content coding for response based on {@link HttpHeaders#ACCEPT_ENCODING} header and
+ * content codings supported by server.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-12.5.3">RFC 9110</a>
+ * <p>
+ * Decisions are memoised per distinct header value in bounded cache where newer values replace
+ * older ones.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class EncodingNegotiator {
+
+    public static final String IDENTITY = "identity";
+
+    // marks not acceptable decision in cache, compared by reference
+    private static final String NOT_ACCEPTABLE = new String("not-acceptable");
+
+    private final String[] codings;
+    private final HeaderValueCache<String> cache = new HeaderValueCache<>(1024);
+
+    private EncodingNegotiator(String[] codings) {
+        this.codings = codings;
+    }
+
+    /**
+     * @param codings supported by server ordered by preference, for example {@code "br", "zstd", "gzip"}
+     * @return negotiator
+     */
+    @NotNull
+    public static EncodingNegotiator of(@NotNull String... codings) {
+        final Set<String> supported = new LinkedHashSet<>(codings.length);
+        for (String coding : codings) {
+            final String normalized = coding.strip().toLowerCase();
+            if (normalized.isEmpty() || "*".equals(normalized)) {
+                throw new IllegalArgumentException("Content coding must be a token, but was: " + coding);
+            } else if (!IDENTITY.equals(normalized)) {
+                supported.add(normalized);
+            }
+        }
+
+        return new EncodingNegotiator(supported.toArray(String[]::new));
+    }
+
+    /**
+     * @param acceptEncoding value of {@link HttpHeaders#ACCEPT_ENCODING} header
+     * @return selected coding, {@link #IDENTITY} if no coding should be applied or null if no
+     *             acceptable coding found ({@link HttpStatus#NOT_ACCEPTABLE})
+     */
+    @Nullable
+    public String negotiate(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return IDENTITY;
+        }
+
+        String coding = cache.get(acceptEncoding);
+        if (coding == null) {
+            coding = negotiateValue(acceptEncoding);
+            cache.put(acceptEncoding, coding);
+        }
+
+        return (coding == NOT_ACCEPTABLE)
+                ? null
+                : coding;
+    }
+
+    /**
+     * @param headers of the request, multiple {@link HttpHeaders#ACCEPT_ENCODING} field lines are
+     *                    combined
+     * @return selected coding, see {@link #negotiate(String)}
+     */
+    @Nullable
+    public String negotiate(@NotNull HttpHeaders headers) {
+        return negotiate(headers.combined(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private String negotiateValue(String value) {
+        final int[] weights = new int[codings.length];
+        Arrays.fill(weights, QualityValues.INVALID);
+        int anyWeight = QualityValues.INVALID;
+        int identityWeight = QualityValues.INVALID;
+
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+        while (tokenizer.nextElement()) {
+            if (!tokenizer.readToken()) {
+                tokenizer.skipElement();
+                continue;
+            }
+
+            final int nameStart = tokenizer.start();
+            final int nameEnd = tokenizer.end();
+            final int weight = QualityValues.parseWeight(tokenizer);
+            tokenizer.skipElement();
+            if (weight == QualityValues.INVALID) {
+                continue;
+            }
+
+            if (nameEnd - nameStart == 1 && value.charAt(nameStart) == '*') {
+                anyWeight = weight;
+            } else if (equalsIgnoreCase(value, nameStart, nameEnd, IDENTITY)) {
+                identityWeight = weight;
+            } else {
+                for (int j = 0; j < codings.length; j++) {
+                    if (weights[j] == QualityValues.INVALID && (equalsIgnoreCase(value, nameStart, nameEnd, codings[j])
+                            || ("gzip".equals(codings[j]) && equalsIgnoreCase(value, nameStart, nameEnd, "x-gzip")))) {
+                        weights[j] = weight;
+                        break;
+                    }
+                }
+            }
+        }
+
+        String best = null;
+        int bestWeight = 0;
+        for (int j = 0; j < codings.length; j++) {
+            final int weight = (weights[j] == QualityValues.INVALID)
+                    ? anyWeight
+                    : weights[j];
+            if (weight > bestWeight) {
+                best = codings[j];
+                bestWeight = weight;
+            }
+        }
+
+        if (identityWeight > bestWeight) {
+            return IDENTITY;
+        } else if (best != null) {
+            return best;
+        }
+
+        // identity is acceptable unless excluded explicitly or via "*;q=0"
+        final boolean isIdentityAcceptable = (identityWeight == QualityValues.INVALID)
+                ? anyWeight != 0
+                : identityWeight > 0;
+
+        return isIdentityAcceptable
+                ? IDENTITY
+                : NOT_ACCEPTABLE;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence value, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
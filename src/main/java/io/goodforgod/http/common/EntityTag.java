@@ -0,0 +1,205 @@
+package io.goodforgod.http.common;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents {@link HttpHeaders#ETAG} entity-tag value.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-8.8.3">RFC 9110</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class EntityTag {
+
+    private final String tag;
+    private final boolean weak;
+
+    private EntityTag(String tag, boolean weak) {
+        this.tag = tag;
+        this.weak = weak;
+    }
+
+    /**
+     * @param tag opaque tag without quotes
+     * @return strong entity tag
+     */
+    @NotNull
+    public static EntityTag strong(@NotNull String tag) {
+        return new EntityTag(requireOpaqueTag(tag), false);
+    }
+
+    /**
+     * @param tag opaque tag without quotes
+     * @return weak entity tag
+     */
+    @NotNull
+    public static EntityTag weak(@NotNull String tag) {
+        return new EntityTag(requireOpaqueTag(tag), true);
+    }
+
+    /**
+     * @param value entity-tag like {@code "xyzzy"} or {@code W/"xyzzy"}
+     * @return entity tag or null if value is not a valid entity-tag
+     */
+    @Nullable
+    public static EntityTag parse(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String stripped = value.strip();
+        final boolean weak = stripped.startsWith("W/");
+        final int start = weak
+                ? 2
+                : 0;
+        if (stripped.length() - start < 2 || stripped.charAt(start) != '"' || stripped.charAt(stripped.length() - 1) != '"') {
+            return null;
+        }
+
+        final String tag = stripped.substring(start + 1, stripped.length() - 1);
+        return isOpaqueTag(tag)
+                ? new EntityTag(tag, weak)
+                : null;
+    }
+
+    private static String requireOpaqueTag(String tag) {
+        if (!isOpaqueTag(tag)) {
+            throw new IllegalArgumentException("Entity tag contains illegal characters: " + tag);
+        }
+
+        return tag;
+    }
+
+    private static boolean isOpaqueTag(String tag) {
+        for (int i = 0; i < tag.length(); i++) {
+            final char c = tag.charAt(i);
+            if (c <= ' ' || c == '"' || c == 0x7F) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return opaque tag without quotes and weakness indicator
+     */
+    @NotNull
+    public String tag() {
+        return tag;
+    }
+
+    public boolean isWeak() {
+        return weak;
+    }
+
+    /**
+     * @param other to compare with
+     * @return true if both tags are strong and opaque tags are equal
+     */
+    public boolean strongMatch(@NotNull EntityTag other) {
+        return !weak && !other.weak && tag.equals(other.tag);
+    }
+
+    /**
+     * @param other to compare with
+     * @return true if opaque tags are equal regardless of weakness
+     */
+    public boolean weakMatch(@NotNull EntityTag other) {
+        return tag.equals(other.tag);
+    }
+
+    /**
+     * Scans {@link HttpHeaders#IF_MATCH} or {@link HttpHeaders#IF_NONE_MATCH} list in place without
+     * allocating entity tags for list members.
+     *
+     * @param headerValue    list of entity-tags or {@code *}
+     * @param weakComparison true to use weak comparison, false to use strong comparison
+     * @return true if list contains {@code *} or any entity-tag that matches this tag
+     */
+    public boolean matchesAny(@NotNull CharSequence headerValue, boolean weakComparison) {
+        final int length = headerValue.length();
+        int i = 0;
+        while (i < length) {
+            char c = headerValue.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+
+            if (c == '*') {
+                return true;
+            }
+
+            boolean memberWeak = false;
+            if (c == 'W' && i + 1 < length && headerValue.charAt(i + 1) == '/') {
+                memberWeak = true;
+                i += 2;
+            }
+
+            if (i < length && headerValue.charAt(i) == '"') {
+                final int start = i + 1;
+                int end = start;
+                while (end < length && headerValue.charAt(end) != '"') {
+                    end++;
+                }
+
+                if (end < length
+                        && (weakComparison || (!memberWeak && !weak))
+                        && regionEquals(headerValue, start, end)) {
+                    return true;
+                }
+
+                i = end + 1;
+            }
+
+            while (i < length && headerValue.charAt(i) != ',') {
+                i++;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean regionEquals(CharSequence value, int start, int end) {
+        if (end - start != tag.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < tag.length(); i++) {
+            if (value.charAt(start + i) != tag.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        EntityTag entityTag = (EntityTag) o;
+        return weak == entityTag.weak && tag.equals(entityTag.tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tag, weak);
+    }
+
+    /**
+     * @return header value representation
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        return weak
+                ? "W/\"" + tag + "\""
+                : "\"" + tag + "\"";
+    }
+}
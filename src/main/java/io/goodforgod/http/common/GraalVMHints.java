@@ -4,6 +4,7 @@
 
 @InitializationHint(typeNames = {
         "io.goodforgod.http.common",
+        "io.goodforgod.http.common.cache",
         "io.goodforgod.http.common.uri",
         "io.goodforgod.http.common.exception" },
         value = InitializationHint.InitPhase.BUILD)
@@ -0,0 +1,433 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Cursor-based tokenizer for header field values that operates on {@link CharSequence} or bytes in
+ * place, Strings are allocated only when {@link #value()} or {@link #name()} are requested.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-5.6">RFC 9110</a>
+ * <p>
+ * Supports list elements separated by commas, tokens, quoted-strings with escapes and
+ * {@code ;name=value} parameters. Last read value region is available via {@link #start()} and
+ * {@link #end()}, for quoted-string region excludes surrounding quotes.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HeaderTokenizer {
+
+    private static final boolean[] TCHAR = new boolean[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            TCHAR[c] = true;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            TCHAR[c] = true;
+            TCHAR[c - ('a' - 'A')] = true;
+        }
+        for (char c : "!#$%&'*+-.^_`|~".toCharArray()) {
+            TCHAR[c] = true;
+        }
+    }
+
+    private final CharSequence chars;
+    private final byte[] bytes;
+    private final int limit;
+
+    private int position;
+    private int start;
+    private int end;
+    private boolean quoted;
+    private int nameStart;
+    private int nameEnd;
+
+    private HeaderTokenizer(CharSequence chars, byte[] bytes, int offset, int limit) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.position = offset;
+        this.start = offset;
+        this.end = offset;
+        this.nameStart = offset;
+        this.nameEnd = offset;
+        this.limit = limit;
+    }
+
+    @NotNull
+    public static HeaderTokenizer of(@NotNull CharSequence value) {
+        return new HeaderTokenizer(value, null, 0, value.length());
+    }
+
+    /**
+     * @param value to tokenize
+     * @param start of region to tokenize inclusive
+     * @param end   of region to tokenize exclusive
+     * @return tokenizer
+     */
+    @NotNull
+    public static HeaderTokenizer of(@NotNull CharSequence value, int start, int end) {
+        return new HeaderTokenizer(value, null, start, end);
+    }
+
+    /**
+     * @param bytes  US-ASCII or ISO-8859-1 header value
+     * @param offset to start tokenizing from
+     * @param length of header value
+     * @return tokenizer
+     */
+    @NotNull
+    public static HeaderTokenizer of(byte @NotNull [] bytes, int offset, int length) {
+        return new HeaderTokenizer(null, bytes, offset, offset + length);
+    }
+
+    /**
+     * @param c character to check
+     * @return true if character is tchar allowed in token
+     */
+    public static boolean isTokenChar(int c) {
+        return c < 128 && c >= 0 && TCHAR[c];
+    }
+
+    /**
+     * @param index absolute index in underlying value
+     * @return character at index
+     */
+    public char charAt(int index) {
+        return (chars != null)
+                ? chars.charAt(index)
+                : (char) (bytes[index] & 0xFF);
+    }
+
+    /**
+     * @return current cursor position
+     */
+    public int position() {
+        return position;
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * @return start of last read value inclusive
+     */
+    public int start() {
+        return start;
+    }
+
+    /**
+     * @return end of last read value exclusive
+     */
+    public int end() {
+        return end;
+    }
+
+    /**
+     * @return true if last read value was quoted-string
+     */
+    public boolean isQuoted() {
+        return quoted;
+    }
+
+    /**
+     * Skips whitespaces and commas before next list element
+     *
+     * @return true if list element is available
+     */
+    public boolean nextElement() {
+        while (position < limit) {
+            final char c = charAt(position);
+            if (c == ',' || isWhitespace(c)) {
+                position++;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Skips the rest of current list element up to the next comma outside of quoted-string
+     */
+    public void skipElement() {
+        while (position < limit) {
+            final char c = charAt(position);
+            if (c == ',') {
+                return;
+            } else if (c == '"') {
+                skipQuotedString();
+            } else {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of current list element without surrounding whitespaces as value region
+     *
+     * @return true if element is not empty
+     */
+    public boolean readElement() {
+        skipWhitespaces();
+        final int elementStart = position;
+        skipElement();
+
+        int elementEnd = position;
+        while (elementEnd > elementStart && isWhitespace(charAt(elementEnd - 1))) {
+            elementEnd--;
+        }
+
+        this.start = elementStart;
+        this.end = elementEnd;
+        this.quoted = false;
+        return elementEnd > elementStart;
+    }
+
+    /**
+     * Reads token after optional whitespaces as value region
+     *
+     * @return true if token was read
+     */
+    public boolean readToken() {
+        skipWhitespaces();
+        final int tokenStart = position;
+        while (position < limit && isTokenChar(charAt(position))) {
+            position++;
+        }
+
+        this.start = tokenStart;
+        this.end = position;
+        this.quoted = false;
+        return position > tokenStart;
+    }
+
+    /**
+     * Reads quoted-string or unquoted value after optional whitespaces as value region, unquoted value
+     * is read leniently up to whitespace, comma or semicolon
+     *
+     * @return true if value was read
+     */
+    public boolean readValue() {
+        skipWhitespaces();
+        if (position < limit && charAt(position) == '"') {
+            final int quoteStart = position;
+            final boolean isClosed = skipQuotedString();
+            this.start = quoteStart + 1;
+            this.end = isClosed
+                    ? position - 1
+                    : position;
+            this.quoted = true;
+            return true;
+        }
+
+        final int valueStart = position;
+        while (position < limit) {
+            final char c = charAt(position);
+            if (c == ',' || c == ';' || c == '"' || isWhitespace(c)) {
+                break;
+            }
+            position++;
+        }
+
+        this.start = valueStart;
+        this.end = position;
+        this.quoted = false;
+        return position > valueStart;
+    }
+
+    /**
+     * Consumes character after optional whitespaces if it is present
+     *
+     * @param c character to consume
+     * @return true if character was consumed
+     */
+    public boolean consume(char c) {
+        skipWhitespaces();
+        if (position < limit && charAt(position) == c) {
+            position++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads next {@code ;name=value} parameter of current list element, parameter name region is
+     * available via {@link #name()} and value region via {@link #start()} and {@link #end()}.
+     * Parameters without value have empty value region.
+     *
+     * @return true if parameter was read, false if current list element has no more parameters
+     */
+    public boolean nextParameter() {
+        while (skipToParameter()) {
+            if (!readToken()) {
+                continue;
+            }
+
+            this.nameStart = start;
+            this.nameEnd = end;
+            if (consume('=')) {
+                if (!readValue()) {
+                    this.start = position;
+                    this.end = position;
+                }
+            } else {
+                this.start = position;
+                this.end = position;
+                this.quoted = false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return last read parameter name
+     */
+    @NotNull
+    public String name() {
+        return substring(nameStart, nameEnd);
+    }
+
+    /**
+     * @param name to compare with
+     * @return true if last read parameter name equals ignoring case
+     */
+    public boolean nameEqualsIgnoreCase(@NotNull String name) {
+        return regionEqualsIgnoreCase(nameStart, nameEnd, name);
+    }
+
+    /**
+     * @return last read value, quoted-string is unescaped
+     */
+    @NotNull
+    public String value() {
+        if (!quoted) {
+            return substring(start, end);
+        }
+
+        final StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                builder.append(charAt(++i));
+            } else {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * @param interner to share instances of common unquoted values
+     * @return last read value, quoted-string is unescaped
+     */
+    @NotNull
+    public String value(@NotNull HeaderValueInterner interner) {
+        if (quoted) {
+            return value();
+        }
+
+        return (chars != null)
+                ? interner.intern(chars, start, end)
+                : interner.intern(bytes, start, end - start);
+    }
+
+    /**
+     * @param value to compare with
+     * @return true if last read value equals ignoring case
+     */
+    public boolean valueEqualsIgnoreCase(@NotNull String value) {
+        return regionEqualsIgnoreCase(start, end, value);
+    }
+
+    /**
+     * @return true if last read value is empty
+     */
+    public boolean isValueEmpty() {
+        return start == end;
+    }
+
+    private boolean regionEqualsIgnoreCase(int regionStart, int regionEnd, String value) {
+        if (regionEnd - regionStart != value.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (toLowerCase(charAt(regionStart + i)) != toLowerCase(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static char toLowerCase(char c) {
+        return (c >= 'A' && c <= 'Z')
+                ? (char) (c + ('a' - 'A'))
+                : c;
+    }
+
+    private String substring(int from, int to) {
+        return (chars != null)
+                ? chars.subSequence(from, to).toString()
+                : new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return true if quoted-string has closing quote
+     */
+    private boolean skipQuotedString() {
+        position++;
+        while (position < limit) {
+            final char c = charAt(position++);
+            if (c == '\\') {
+                position++;
+            } else if (c == '"') {
+                return true;
+            }
+        }
+
+        position = limit;
+        return false;
+    }
+
+    /**
+     * Skips unexpected characters up to parameter separator outside of quoted-string
+     *
+     * @return true if parameter separator was consumed
+     */
+    private boolean skipToParameter() {
+        while (position < limit) {
+            final char c = charAt(position);
+            if (c == ';') {
+                position++;
+                return true;
+            } else if (c == ',') {
+                return false;
+            } else if (c == '"') {
+                skipQuotedString();
+            } else {
+                position++;
+            }
+        }
+
+        return false;
+    }
+
+    private void skipWhitespaces() {
+        while (position < limit && isWhitespace(charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,146 @@
+package io.goodforgod.http.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Validates header field names as tokens and field values as field-vchar sequences to prevent CRLF
+ * injection and response splitting.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-5.5">RFC 9110</a>
+ * <p>
+ * Names are checked via tchar lookup table, values via field-vchar lookup table where HTAB, SP,
+ * VCHAR and obs-text are allowed. Byte values are scanned 8 bytes per long and fall back to lookup
+ * table only for words that contain control characters.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HeaderValidator {
+
+    private static final boolean[] FIELD_VCHAR = new boolean[128];
+
+    static {
+        FIELD_VCHAR['\t'] = true;
+        for (char c = ' '; c < 0x7F; c++) {
+            FIELD_VCHAR[c] = true;
+        }
+    }
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long SPACES = ONES * ' ';
+    private static final long DELETES = ONES * 0x7F;
+
+    private HeaderValidator() {}
+
+    /**
+     * @param c character to check
+     * @return true if character is allowed in field value
+     */
+    public static boolean isFieldChar(int c) {
+        return (c < 128)
+                ? c >= 0 && FIELD_VCHAR[c]
+                : c <= 0xFF;
+    }
+
+    /**
+     * @param name header name
+     * @return true if name is non empty token
+     */
+    public static boolean isValidName(@NotNull CharSequence name) {
+        return indexOfInvalidName(name) == -1 && name.length() > 0;
+    }
+
+    /**
+     * @param value header value
+     * @return true if value contains only field-vchar, SP and HTAB
+     */
+    public static boolean isValidValue(@NotNull CharSequence value) {
+        return indexOfInvalidValue(value) == -1;
+    }
+
+    /**
+     * @param value  ISO-8859-1 header value
+     * @param offset of header value
+     * @param length of header value
+     * @return true if value contains only field-vchar, SP and HTAB
+     */
+    public static boolean isValidValue(byte @NotNull [] value, int offset, int length) {
+        return indexOfInvalidValue(value, offset, length) == -1;
+    }
+
+    /**
+     * @param name  header name
+     * @param value header value
+     * @throws IllegalArgumentException if name is not a token or value contains illegal character
+     */
+    public static void validate(@NotNull CharSequence name, @NotNull CharSequence value) {
+        if (name.length() == 0) {
+            throw new IllegalArgumentException("Header name can't be empty");
+        }
+
+        final int nameIndex = indexOfInvalidName(name);
+        if (nameIndex != -1) {
+            throw new IllegalArgumentException("Header name contains illegal character at " + nameIndex + ": " + name);
+        }
+
+        final int valueIndex = indexOfInvalidValue(value);
+        if (valueIndex != -1) {
+            throw new IllegalArgumentException("Header '" + name + "' value contains illegal character at " + valueIndex);
+        }
+    }
+
+    private static int indexOfInvalidName(CharSequence name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (!HeaderTokenizer.isTokenChar(name.charAt(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int indexOfInvalidValue(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isFieldChar(value.charAt(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return index of first illegal byte or -1 if value is valid
+     */
+    static int indexOfInvalidValue(byte[] value, int offset, int length) {
+        final int end = offset + length;
+        int i = offset;
+        for (; i + Long.BYTES <= end; i += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(value, i);
+            // any byte below SP (high bit bytes are obs-text and are excluded by ~word) or equal to DEL
+            final long belowSpace = (word - SPACES) & ~word & HIGHS;
+            final long delete = word ^ DELETES;
+            final long isDelete = (delete - ONES) & ~delete & HIGHS;
+            if ((belowSpace | isDelete) != 0) {
+                for (int j = i; j < i + Long.BYTES; j++) {
+                    if (!isFieldChar(value[j] & 0xFF)) {
+                        return j;
+                    }
+                }
+            }
+        }
+
+        for (; i < end; i++) {
+            if (!isFieldChar(value[i] & 0xFF)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
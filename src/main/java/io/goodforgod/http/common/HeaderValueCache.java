@@ -0,0 +1,81 @@
+package io.goodforgod.http.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded memo of results computed from header values, direct-mapped slot table where new entry
+ * replaces whatever entry hashes into the same slot. Memory is fixed by capacity regardless of how
+ * many distinct values are seen and values longer than {@link #MAX_KEY_LENGTH} are never stored.
+ * Table is lock-free and racy by design, entries are immutable so racy publication is safe and
+ * losing an update only costs recomputation.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class HeaderValueCache<V> {
+
+    /**
+     * Header values longer than this are never cached
+     */
+    static final int MAX_KEY_LENGTH = 256;
+
+    private static final class Entry<V> {
+
+        private final String key;
+        private final V value;
+
+        private Entry(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final Entry<V>[] slots;
+    private final int mask;
+
+    /**
+     * @param capacity amount of slots, must be power of two
+     */
+    HeaderValueCache(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be power of two, but was: " + capacity);
+        }
+
+        @SuppressWarnings("unchecked")
+        final Entry<V>[] slots = (Entry<V>[]) new Entry<?>[capacity];
+        this.slots = slots;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @param key header value
+     * @return cached result or null if absent
+     */
+    @Nullable
+    V get(@NotNull String key) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return null;
+        }
+
+        final Entry<V> entry = slots[slot(key)];
+        return (entry != null && entry.key.equals(key))
+                ? entry.value
+                : null;
+    }
+
+    /**
+     * @param key   header value, ignored if longer than {@link #MAX_KEY_LENGTH}
+     * @param value result, replaces entry occupying the same slot
+     */
+    void put(@NotNull String key, @NotNull V value) {
+        if (key.length() <= MAX_KEY_LENGTH) {
+            slots[slot(key)] = new Entry<>(key, value);
+        }
+    }
+
+    private int slot(String key) {
+        final int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
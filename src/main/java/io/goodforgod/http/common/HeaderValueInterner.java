@@ -0,0 +1,347 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Opt-in interner for header values that lets parsers return shared String instances instead of
+ * allocating new ones for values seen over and over, like {@code keep-alive} or {@code gzip}.
+ * <p>
+ * Lookups first probe fixed table of well-known values including {@link MediaType} constants, then
+ * bounded adaptive table of recently repeated values. Value is admitted into adaptive table on
+ * second sighting only and may be evicted by other value hashing into the same slot. Adaptive table
+ * is lock-free and racy by design, Strings are immutable so racy publication is safe and losing an
+ * update only costs an allocation. Matching is exact and case-sensitive.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HeaderValueInterner {
+
+    /**
+     * Default amount of adaptive table slots
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Values longer than this are never admitted into adaptive table
+     */
+    public static final int MAX_ADAPTIVE_LENGTH = 64;
+
+    private static final String[] WELL_KNOWN_VALUES = {
+            MediaType.ALL,
+            MediaType.APPLICATION_FORM_URLENCODED,
+            MediaType.MULTIPART_FORM_DATA,
+            MediaType.TEXT_HTML,
+            MediaType.TEXT_CSV,
+            MediaType.APPLICATION_XHTML,
+            MediaType.APPLICATION_XML,
+            MediaType.TEXT_JSON,
+            MediaType.TEXT_JSON_UTF_8,
+            MediaType.TEXT_PLAIN,
+            MediaType.TEXT_PLAIN_UTF_8,
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_JSON_UTF_8,
+            MediaType.APPLICATION_YAML,
+            MediaType.APPLICATION_YAML_UTF_8,
+            MediaType.MICROSOFT_EXCEL_OPEN_XML,
+            MediaType.MICROSOFT_EXCEL,
+            MediaType.TEXT_XML,
+            MediaType.TEXT_EVENT_STREAM,
+            MediaType.APPLICATION_JSON_STREAM,
+            MediaType.APPLICATION_OCTET_STREAM,
+            MediaType.APPLICATION_GRAPHQL,
+            MediaType.APPLICATION_PDF,
+            MediaType.IMAGE_PNG,
+            MediaType.IMAGE_JPEG,
+            MediaType.IMAGE_GIF,
+            MediaType.IMAGE_WEBP,
+            "text/html; charset=utf-8",
+            "text/html;charset=UTF-8",
+            "application/json; charset=utf-8",
+            "application/json;charset=UTF-8",
+            "text/plain; charset=utf-8",
+            "text/plain;charset=UTF-8",
+            "keep-alive",
+            "close",
+            "Keep-Alive",
+            "Close",
+            "upgrade",
+            "Upgrade",
+            "websocket",
+            "gzip",
+            "br",
+            "deflate",
+            "identity",
+            "zstd",
+            "gzip, deflate",
+            "gzip, deflate, br",
+            "gzip, deflate, br, zstd",
+            "chunked",
+            "bytes",
+            "none",
+            "no-cache",
+            "no-store",
+            "no-cache, no-store, must-revalidate",
+            "max-age=0",
+            "private",
+            "public",
+            "must-revalidate",
+            "nosniff",
+            "DENY",
+            "SAMEORIGIN",
+            "*",
+            "0",
+            "1",
+            "?0",
+            "?1",
+            "true",
+            "false",
+            "trailers",
+            "Accept-Encoding",
+            "Origin",
+            "en-US,en;q=0.9",
+            "en-US,en;q=0.5",
+            "en",
+            "en-US",
+            "cors",
+            "navigate",
+            "no-cors",
+            "same-origin",
+            "same-site",
+            "cross-site",
+            "document",
+            "empty",
+    };
+
+    private static final String[] WELL_KNOWN = wellKnownTable();
+    private static final int WELL_KNOWN_MAX_LENGTH = maxLength(WELL_KNOWN_VALUES);
+
+    private final String[] adaptive;
+    private final int[] seen;
+    private final int mask;
+
+    private HeaderValueInterner(int capacity) {
+        this.adaptive = new String[capacity];
+        this.seen = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return interner with {@link #DEFAULT_CAPACITY} adaptive table slots
+     */
+    @NotNull
+    public static HeaderValueInterner create() {
+        return new HeaderValueInterner(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity of adaptive table rounded up to power of two, zero disables adaptive table
+     * @return interner
+     */
+    @NotNull
+    public static HeaderValueInterner create(int capacity) {
+        if (capacity < 0 || capacity > (1 << 20)) {
+            throw new IllegalArgumentException("Capacity must be in range [0, 1048576], but was: " + capacity);
+        }
+
+        int size = (capacity == 0)
+                ? 0
+                : 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        return new HeaderValueInterner(size);
+    }
+
+    /**
+     * @param value to intern
+     * @return shared instance equal to value or value itself
+     */
+    @NotNull
+    public String intern(@NotNull String value) {
+        final int length = value.length();
+        if (length > WELL_KNOWN_MAX_LENGTH && length > MAX_ADAPTIVE_LENGTH) {
+            return value;
+        }
+
+        final int hash = value.hashCode();
+        final String wellKnown = findWellKnown(hash, value, null, 0, length);
+        if (wellKnown != null) {
+            return wellKnown;
+        }
+
+        final String cached = findAdaptive(hash, value, null, 0, length);
+        if (cached != null) {
+            return cached;
+        }
+
+        admit(hash, length, value);
+        return value;
+    }
+
+    /**
+     * @param value to intern region of
+     * @param start of region inclusive
+     * @param end   of region exclusive
+     * @return shared instance equal to region or new String
+     */
+    @NotNull
+    public String intern(@NotNull CharSequence value, int start, int end) {
+        final int length = end - start;
+        if (length > WELL_KNOWN_MAX_LENGTH && length > MAX_ADAPTIVE_LENGTH) {
+            return value.subSequence(start, end).toString();
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+
+        final String wellKnown = findWellKnown(hash, value, null, start, length);
+        if (wellKnown != null) {
+            return wellKnown;
+        }
+
+        final String cached = findAdaptive(hash, value, null, start, length);
+        if (cached != null) {
+            return cached;
+        }
+
+        final String created = value.subSequence(start, end).toString();
+        admit(hash, length, created);
+        return created;
+    }
+
+    /**
+     * @param bytes  US-ASCII or ISO-8859-1 header value
+     * @param offset of value
+     * @param length of value
+     * @return shared instance equal to value or new String
+     */
+    @NotNull
+    public String intern(byte @NotNull [] bytes, int offset, int length) {
+        if (length > WELL_KNOWN_MAX_LENGTH && length > MAX_ADAPTIVE_LENGTH) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + (bytes[i] & 0xFF);
+        }
+
+        final String wellKnown = findWellKnown(hash, null, bytes, offset, length);
+        if (wellKnown != null) {
+            return wellKnown;
+        }
+
+        final String cached = findAdaptive(hash, null, bytes, offset, length);
+        if (cached != null) {
+            return cached;
+        }
+
+        final String created = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        admit(hash, length, created);
+        return created;
+    }
+
+    /**
+     * @param value to check
+     * @return true if value is in fixed table of well-known values
+     */
+    public static boolean isWellKnown(@NotNull String value) {
+        return value.length() <= WELL_KNOWN_MAX_LENGTH
+                && findWellKnown(value.hashCode(), value, null, 0, value.length()) != null;
+    }
+
+    private static String findWellKnown(int hash, CharSequence chars, byte[] bytes, int offset, int length) {
+        if (length > WELL_KNOWN_MAX_LENGTH) {
+            return null;
+        }
+
+        final int tableMask = WELL_KNOWN.length - 1;
+        for (int i = spread(hash) & tableMask;; i = (i + 1) & tableMask) {
+            final String candidate = WELL_KNOWN[i];
+            if (candidate == null) {
+                return null;
+            } else if (candidate.hashCode() == hash && regionEquals(candidate, chars, bytes, offset, length)) {
+                return candidate;
+            }
+        }
+    }
+
+    private String findAdaptive(int hash, CharSequence chars, byte[] bytes, int offset, int length) {
+        if (adaptive.length == 0 || length > MAX_ADAPTIVE_LENGTH) {
+            return null;
+        }
+
+        final String candidate = adaptive[spread(hash) & mask];
+        return (candidate != null && candidate.hashCode() == hash && regionEquals(candidate, chars, bytes, offset, length))
+                ? candidate
+                : null;
+    }
+
+    /**
+     * Admits value into its slot only when the same hash missed the slot just before, so one-off
+     * values don't evict frequently repeated ones
+     */
+    private void admit(int hash, int length, String value) {
+        if (adaptive.length == 0 || length > MAX_ADAPTIVE_LENGTH) {
+            return;
+        }
+
+        final int slot = spread(hash) & mask;
+        if (seen[slot] == hash) {
+            adaptive[slot] = value;
+        } else {
+            seen[slot] = hash;
+        }
+    }
+
+    private static boolean regionEquals(String candidate, CharSequence chars, byte[] bytes, int offset, int length) {
+        if (candidate.length() != length) {
+            return false;
+        }
+
+        if (chars != null) {
+            for (int i = 0; i < length; i++) {
+                if (candidate.charAt(i) != chars.charAt(offset + i)) {
+                    return false;
+                }
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (candidate.charAt(i) != (bytes[offset + i] & 0xFF)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String[] wellKnownTable() {
+        final String[] table = new String[Integer.highestOneBit(WELL_KNOWN_VALUES.length) << 2];
+        final int tableMask = table.length - 1;
+        for (String value : WELL_KNOWN_VALUES) {
+            int i = spread(value.hashCode()) & tableMask;
+            while (table[i] != null && !table[i].equals(value)) {
+                i = (i + 1) & tableMask;
+            }
+            table[i] = value;
+        }
+        return table;
+    }
+
+    private static int maxLength(String[] values) {
+        int max = 0;
+        for (String value : values) {
+            max = Math.max(max, value.length());
+        }
+        return max;
+    }
+}
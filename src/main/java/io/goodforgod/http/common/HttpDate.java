@@ -0,0 +1,378 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.time.ZoneOffset;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * HTTP-date parser and formatter working on chars and bytes without intermediate allocations, apart
+ * from {@link #format(long)} that has to allocate resulting String.
+ * Formats dates as IMF-fixdate and parses IMF-fixdate, obsolete RFC 850 and ANSI C asctime() formats.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-5.6.7">RFC 9110</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HttpDate {
+
+    /**
+     * Length of IMF-fixdate: Sun, 06 Nov 1994 08:49:37 GMT
+     */
+    public static final int LENGTH = 29;
+
+    private static final long MILLIS_IN_SECOND = 1000L;
+    private static final long SECONDS_IN_DAY = 86400L;
+
+    private static final byte[][] DAYS = {
+            bytes("Sun"), bytes("Mon"), bytes("Tue"), bytes("Wed"), bytes("Thu"), bytes("Fri"), bytes("Sat") };
+    private static final byte[][] MONTHS = {
+            bytes("Jan"), bytes("Feb"), bytes("Mar"), bytes("Apr"), bytes("May"), bytes("Jun"),
+            bytes("Jul"), bytes("Aug"), bytes("Sep"), bytes("Oct"), bytes("Nov"), bytes("Dec") };
+
+    private record CurrentYear(int year, long startMillis, long endMillis) {}
+
+    // racy single-check, record is immutable and value is always computed the same for the same year
+    private static CurrentYear currentYear = new CurrentYear(0, 0, 0);
+
+    private HttpDate() {}
+
+    /**
+     * @param value        HTTP-date to parse
+     * @param defaultValue to return if value is not a valid HTTP-date
+     * @return epoch millis or default value
+     */
+    public static long parse(@Nullable CharSequence value, long defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+
+        return parse(value, null, 0, value.length(), defaultValue);
+    }
+
+    /**
+     * @param bytes        US-ASCII bytes containing HTTP-date
+     * @param offset       to start parsing from
+     * @param length       of HTTP-date bytes
+     * @param defaultValue to return if value is not a valid HTTP-date
+     * @return epoch millis or default value
+     */
+    public static long parse(byte @NotNull [] bytes, int offset, int length, long defaultValue) {
+        return parse(null, bytes, offset, offset + length, defaultValue);
+    }
+
+    /**
+     * @param epochMillis to format
+     * @return IMF-fixdate representation
+     */
+    @NotNull
+    public static String format(long epochMillis) {
+        final byte[] bytes = new byte[LENGTH];
+        format(epochMillis, bytes, 0);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @param epochMillis to format
+     * @param builder     to append IMF-fixdate to
+     */
+    public static void format(long epochMillis, @NotNull StringBuilder builder) {
+        render(epochMillis, builder, null, 0);
+    }
+
+    /**
+     * @param epochMillis to format
+     * @param target      to write {@link #LENGTH} IMF-fixdate bytes to
+     * @param offset      to start writing from
+     * @return offset after last written byte
+     */
+    public static int format(long epochMillis, byte @NotNull [] target, int offset) {
+        render(epochMillis, null, target, offset);
+        return offset + LENGTH;
+    }
+
+    /**
+     * Either builder or target is specified, chars are written in order so builder just appends them
+     */
+    private static void render(long epochMillis, StringBuilder builder, byte[] target, int offset) {
+        final long epochSecond = Math.floorDiv(epochMillis, MILLIS_IN_SECOND);
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_IN_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_IN_DAY);
+
+        // days to civil date: http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final long z = epochDay + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long dayOfEra = z - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10
+                ? mp + 3
+                : mp - 9);
+        final long year = yearOfEra + era * 400 + (month <= 2
+                ? 1
+                : 0);
+
+        if (year < 0 || year > 9999) {
+            throw new IllegalArgumentException("HTTP-date year must be in range 0-9999, but was: " + year);
+        }
+
+        final byte[] dayName = DAYS[Math.floorMod(epochDay + 4, 7)];
+        put(builder, target, offset, dayName[0]);
+        put(builder, target, offset + 1, dayName[1]);
+        put(builder, target, offset + 2, dayName[2]);
+        put(builder, target, offset + 3, ',');
+        put(builder, target, offset + 4, ' ');
+        putTwoDigits(builder, target, offset + 5, day);
+        put(builder, target, offset + 7, ' ');
+        final byte[] monthName = MONTHS[month - 1];
+        put(builder, target, offset + 8, monthName[0]);
+        put(builder, target, offset + 9, monthName[1]);
+        put(builder, target, offset + 10, monthName[2]);
+        put(builder, target, offset + 11, ' ');
+        putTwoDigits(builder, target, offset + 12, (int) (year / 100));
+        putTwoDigits(builder, target, offset + 14, (int) (year % 100));
+        put(builder, target, offset + 16, ' ');
+        putTwoDigits(builder, target, offset + 17, secondOfDay / 3600);
+        put(builder, target, offset + 19, ':');
+        putTwoDigits(builder, target, offset + 20, secondOfDay / 60 % 60);
+        put(builder, target, offset + 22, ':');
+        putTwoDigits(builder, target, offset + 23, secondOfDay % 60);
+        put(builder, target, offset + 25, ' ');
+        put(builder, target, offset + 26, 'G');
+        put(builder, target, offset + 27, 'M');
+        put(builder, target, offset + 28, 'T');
+    }
+
+    private static void put(StringBuilder builder, byte[] target, int offset, int c) {
+        if (builder != null) {
+            builder.append((char) c);
+        } else {
+            target[offset] = (byte) c;
+        }
+    }
+
+    private static void putTwoDigits(StringBuilder builder, byte[] target, int offset, int value) {
+        put(builder, target, offset, '0' + value / 10);
+        put(builder, target, offset + 1, '0' + value % 10);
+    }
+
+    /**
+     * Either chars or bytes are specified, so the same parsing code serves both without wrapping
+     */
+    private static long parse(CharSequence chars, byte[] bytes, int start, int end, long defaultValue) {
+        while (start < end && charAt(chars, bytes, start) == ' ') {
+            start++;
+        }
+        while (end > start && charAt(chars, bytes, end - 1) == ' ') {
+            end--;
+        }
+
+        final int length = end - start;
+        if (length < 24) {
+            return defaultValue;
+        }
+
+        final int day;
+        final int month;
+        final int year;
+        final int time;
+        if (charAt(chars, bytes, start + 3) == ',') {
+            // IMF-fixdate: Sun, 06 Nov 1994 08:49:37 GMT
+            if (length != LENGTH
+                    || charAt(chars, bytes, start + 4) != ' '
+                    || charAt(chars, bytes, start + 7) != ' '
+                    || charAt(chars, bytes, start + 11) != ' '
+                    || charAt(chars, bytes, start + 16) != ' '
+                    || charAt(chars, bytes, start + 25) != ' '
+                    || !isGmt(chars, bytes, start + 26)) {
+                return defaultValue;
+            }
+
+            day = parseDigits(chars, bytes, start + 5, 2);
+            month = parseMonth(chars, bytes, start + 8);
+            year = parseDigits(chars, bytes, start + 12, 4);
+            time = parseTime(chars, bytes, start + 17);
+        } else if (charAt(chars, bytes, start + 3) == ' ') {
+            // asctime: Sun Nov  6 08:49:37 1994
+            if (length != 24
+                    || charAt(chars, bytes, start + 7) != ' '
+                    || charAt(chars, bytes, start + 10) != ' '
+                    || charAt(chars, bytes, start + 19) != ' ') {
+                return defaultValue;
+            }
+
+            month = parseMonth(chars, bytes, start + 4);
+            day = (charAt(chars, bytes, start + 8) == ' ')
+                    ? parseDigits(chars, bytes, start + 9, 1)
+                    : parseDigits(chars, bytes, start + 8, 2);
+            time = parseTime(chars, bytes, start + 11);
+            year = parseDigits(chars, bytes, start + 20, 4);
+        } else {
+            // RFC 850: Sunday, 06-Nov-94 08:49:37 GMT
+            int comma = start + 6;
+            while (comma < start + 10 && charAt(chars, bytes, comma) != ',') {
+                comma++;
+            }
+
+            final int p = comma + 2;
+            if (charAt(chars, bytes, comma) != ','
+                    || end - p != 22
+                    || charAt(chars, bytes, comma + 1) != ' '
+                    || charAt(chars, bytes, p + 2) != '-'
+                    || charAt(chars, bytes, p + 6) != '-'
+                    || charAt(chars, bytes, p + 9) != ' '
+                    || charAt(chars, bytes, p + 18) != ' '
+                    || !isGmt(chars, bytes, p + 19)) {
+                return defaultValue;
+            }
+
+            day = parseDigits(chars, bytes, p, 2);
+            month = parseMonth(chars, bytes, p + 3);
+            final int twoDigitYear = parseDigits(chars, bytes, p + 7, 2);
+            year = (twoDigitYear < 0)
+                    ? -1
+                    : resolveTwoDigitYear(twoDigitYear);
+            time = parseTime(chars, bytes, p + 10);
+        }
+
+        if (day < 1 || month < 1 || year < 0 || time < 0 || day > daysInMonth(year, month)) {
+            return defaultValue;
+        }
+
+        return (toEpochDay(year, month, day) * SECONDS_IN_DAY + time) * MILLIS_IN_SECOND;
+    }
+
+    /**
+     * Two-digit year that appears to be more than 50 years in the future is interpreted as the most
+     * recent year in the past with the same last two digits
+     */
+    private static int resolveTwoDigitYear(int twoDigitYear) {
+        final int currentYear = currentYear();
+        final int year = currentYear / 100 * 100 + twoDigitYear;
+        return (year > currentYear + 50)
+                ? year - 100
+                : year;
+    }
+
+    /**
+     * @return current UTC year, resolved once per year instead of on every parse
+     */
+    private static int currentYear() {
+        final long millis = System.currentTimeMillis();
+        CurrentYear current = HttpDate.currentYear;
+        if (millis < current.startMillis || millis >= current.endMillis) {
+            final int year = Year.now(ZoneOffset.UTC).getValue();
+            current = new CurrentYear(year,
+                    toEpochDay(year, 1, 1) * SECONDS_IN_DAY * MILLIS_IN_SECOND,
+                    toEpochDay(year + 1, 1, 1) * SECONDS_IN_DAY * MILLIS_IN_SECOND);
+            HttpDate.currentYear = current;
+        }
+
+        return current.year;
+    }
+
+    private static char charAt(CharSequence chars, byte[] bytes, int index) {
+        return (chars != null)
+                ? chars.charAt(index)
+                : (char) (bytes[index] & 0xFF);
+    }
+
+    private static boolean isGmt(CharSequence chars, byte[] bytes, int index) {
+        return charAt(chars, bytes, index) == 'G'
+                && charAt(chars, bytes, index + 1) == 'M'
+                && charAt(chars, bytes, index + 2) == 'T';
+    }
+
+    /**
+     * @return parsed number or -1 if not all chars are digits
+     */
+    private static int parseDigits(CharSequence chars, byte[] bytes, int index, int count) {
+        int result = 0;
+        for (int i = index; i < index + count; i++) {
+            final int digit = charAt(chars, bytes, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * @return seconds of day for hh:mm:ss or -1 if invalid
+     */
+    private static int parseTime(CharSequence chars, byte[] bytes, int index) {
+        if (charAt(chars, bytes, index + 2) != ':' || charAt(chars, bytes, index + 5) != ':') {
+            return -1;
+        }
+
+        final int hours = parseDigits(chars, bytes, index, 2);
+        final int minutes = parseDigits(chars, bytes, index + 3, 2);
+        final int seconds = parseDigits(chars, bytes, index + 6, 2);
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 60) {
+            return -1;
+        }
+
+        return hours * 3600 + minutes * 60 + seconds;
+    }
+
+    /**
+     * @return month number starting from 1 or -1 if invalid
+     */
+    private static int parseMonth(CharSequence chars, byte[] bytes, int index) {
+        final int key = charAt(chars, bytes, index) << 16
+                | charAt(chars, bytes, index + 1) << 8
+                | charAt(chars, bytes, index + 2);
+
+        return switch (key) {
+            case 'J' << 16 | 'a' << 8 | 'n' -> 1;
+            case 'F' << 16 | 'e' << 8 | 'b' -> 2;
+            case 'M' << 16 | 'a' << 8 | 'r' -> 3;
+            case 'A' << 16 | 'p' << 8 | 'r' -> 4;
+            case 'M' << 16 | 'a' << 8 | 'y' -> 5;
+            case 'J' << 16 | 'u' << 8 | 'n' -> 6;
+            case 'J' << 16 | 'u' << 8 | 'l' -> 7;
+            case 'A' << 16 | 'u' << 8 | 'g' -> 8;
+            case 'S' << 16 | 'e' << 8 | 'p' -> 9;
+            case 'O' << 16 | 'c' << 8 | 't' -> 10;
+            case 'N' << 16 | 'o' << 8 | 'v' -> 11;
+            case 'D' << 16 | 'e' << 8 | 'c' -> 12;
+            default -> -1;
+        };
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> ((year % 4 == 0 && year % 100 != 0) || year % 400 == 0)
+                    ? 29
+                    : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Civil date to days: http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        final int y = (month <= 2)
+                ? year - 1
+                : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2
+                ? month - 3
+                : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
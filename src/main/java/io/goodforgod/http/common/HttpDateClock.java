@@ -0,0 +1,78 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provides current {@link HttpHeaders#DATE} header value that is formatted at most once per second
+ * of the underlying {@link Clock}, so every response can reuse it.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HttpDateClock {
+
+    private record Snapshot(long epochSecond, String value, byte[] bytes) {}
+
+    private static final HttpDateClock SYSTEM = new HttpDateClock(Clock.systemUTC());
+
+    private final Clock clock;
+    private volatile Snapshot snapshot = new Snapshot(Long.MIN_VALUE, null, null);
+
+    private HttpDateClock(@NotNull Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return shared instance backed by {@link Clock#systemUTC()}
+     */
+    @NotNull
+    public static HttpDateClock system() {
+        return SYSTEM;
+    }
+
+    @NotNull
+    public static HttpDateClock of(@NotNull Clock clock) {
+        return new HttpDateClock(clock);
+    }
+
+    /**
+     * @return current date as IMF-fixdate
+     */
+    @NotNull
+    public String value() {
+        return current().value;
+    }
+
+    /**
+     * @return current date as IMF-fixdate US-ASCII bytes, array is shared and must not be modified
+     */
+    public byte @NotNull [] bytes() {
+        return current().bytes;
+    }
+
+    /**
+     * @param target to write {@link HttpDate#LENGTH} bytes of current date to
+     * @param offset to start writing from
+     * @return offset after last written byte
+     */
+    public int write(byte @NotNull [] target, int offset) {
+        System.arraycopy(current().bytes, 0, target, offset, HttpDate.LENGTH);
+        return offset + HttpDate.LENGTH;
+    }
+
+    private Snapshot current() {
+        final long millis = clock.millis();
+        final long epochSecond = Math.floorDiv(millis, 1000L);
+        Snapshot current = this.snapshot;
+        if (current.epochSecond != epochSecond) {
+            final byte[] bytes = new byte[HttpDate.LENGTH];
+            HttpDate.format(millis, bytes, 0);
+            current = new Snapshot(epochSecond, new String(bytes, StandardCharsets.US_ASCII), bytes);
+            this.snapshot = current;
+        }
+
+        return current;
+    }
+}
@@ -35,6 +35,7 @@ public final class HttpHeaders {
     public static final String AUTHORIZATION = "Authorization";
     public static final String AUTHORIZATION_INFO = "Authorization-Info";
     public static final String CACHE_CONTROL = "Cache-Control";
+    public static final String CACHE_STATUS = "Cache-Status";
     public static final String CONNECTION = "Connection";
     public static final String CONTENT_BASE = "Content-Base";
     public static final String CONTENT_DISPOSITION = "Content-Disposition";
@@ -72,8 +73,10 @@ public final class HttpHeaders {
     public static final String MAX_FORWARDS = "Max-Forwards";
     public static final String ORIGIN = "Origin";
     public static final String PRAGMA = "Pragma";
+    public static final String PRIORITY = "Priority";
     public static final String PROXY_AUTHENTICATE = "Proxy-Authenticate";
     public static final String PROXY_AUTHORIZATION = "Proxy-Authorization";
+    public static final String PROXY_STATUS = "Proxy-Status";
     public static final String RANGE = "Range";
     public static final String REFERER = "Referer";
     public static final String REFERRER_POLICY = "Referrer-Policy";
@@ -93,6 +96,8 @@ public final class HttpHeaders {
     public static final String SET_COOKIE2 = "Set-Cookie2";
     public static final String SOURCE_MAP = "SourceMap";
     public static final String TE = "TE";
+    public static final String TRACEPARENT = "traceparent";
+    public static final String TRACESTATE = "tracestate";
     public static final String TRAILER = "Trailer";
     public static final String TRANSFER_ENCODING = "Transfer-Encoding";
     public static final String UPGRADE = "Upgrade";
@@ -107,17 +112,43 @@ public final class HttpHeaders {
     public static final String WIDTH = "Width";
     public static final String WWW_AUTHENTICATE = "WWW-Authenticate";
     public static final String X_AUTH_TOKEN = "X-Auth-Token";
+    public static final String X_FORWARDED_FOR = "X-Forwarded-For";
 
     private static final HttpHeaders EMPTY = new HttpHeaders(Collections.emptyMap());
 
     private final Map<String, List<String>> multiHeaderMap;
 
+    // Lazy values below use racy single-check idiom, safe cause instance is immutable and values are immutable
+    private Optional<Long> contentLength;
+    private Optional<MediaType> contentType;
+    private CacheControl cacheControl;
+    private Cookies cookies;
+    private AuthorizationCredentials authorizationCredentials;
+    private TraceContext traceContext;
+    private java.net.http.HttpHeaders jdkHeaders;
+    private Map<String, String> singleValueMap;
+    /**
+     * 0 - not resolved, 1 - not keep alive, 2 - keep alive
+     */
+    private byte keepAlive;
+
     private HttpHeaders(@NotNull Map<String, List<String>> multiHeaderMap) {
         this.multiHeaderMap = multiHeaderMap;
     }
 
     @NotNull
     public static HttpHeaders ofMultiMap(@Nullable Map<String, List<String>> multiHeaderMap) {
+        return ofMultiMap(multiHeaderMap, false);
+    }
+
+    /**
+     * @param multiHeaderMap headers to copy
+     * @param validate       whether to validate names and values via {@link HeaderValidator}
+     * @return headers
+     * @throws IllegalArgumentException if validation is enabled and header name or value is illegal
+     */
+    @NotNull
+    public static HttpHeaders ofMultiMap(@Nullable Map<String, List<String>> multiHeaderMap, boolean validate) {
         if (multiHeaderMap == null || multiHeaderMap.isEmpty()) {
             return EMPTY;
         }
@@ -125,13 +156,26 @@ public static HttpHeaders ofMultiMap(@Nullable Map<String, List<String>> multiHe
         final Map<String, List<String>> headers = Map.copyOf(multiHeaderMap.entrySet().stream()
                 .filter(e -> e.getKey() != null && !e.getKey().isEmpty()
                         && e.getValue() != null && !e.getValue().isEmpty())
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.copyOf(e.getValue()))));
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.copyOf(validate
+                        ? validated(e.getKey(), e.getValue())
+                        : e.getValue()))));
 
         return new HttpHeaders(headers);
     }
 
     @NotNull
     public static HttpHeaders ofMap(@Nullable Map<String, String> headerMap) {
+        return ofMap(headerMap, false);
+    }
+
+    /**
+     * @param headerMap headers to copy
+     * @param validate  whether to validate names and values via {@link HeaderValidator}
+     * @return headers
+     * @throws IllegalArgumentException if validation is enabled and header name or value is illegal
+     */
+    @NotNull
+    public static HttpHeaders ofMap(@Nullable Map<String, String> headerMap, boolean validate) {
         if (headerMap == null || headerMap.isEmpty()) {
             return EMPTY;
         }
@@ -139,11 +183,79 @@ public static HttpHeaders ofMap(@Nullable Map<String, String> headerMap) {
         final Map<String, List<String>> headers = Map.copyOf(headerMap.entrySet().stream()
                 .filter(e -> e.getKey() != null && !e.getKey().isEmpty()
                         && e.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))));
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(validate
+                        ? validated(e.getKey(), e.getValue())
+                        : e.getValue()))));
 
         return new HttpHeaders(headers);
     }
 
+    /**
+     * Adapts JDK headers without copying, lookups are case-insensitive as in JDK headers
+     *
+     * @param headers from {@link java.net.http.HttpResponse#headers()} or
+     *                {@link java.net.http.HttpRequest#headers()}
+     * @return headers
+     */
+    @NotNull
+    public static HttpHeaders wrap(@NotNull java.net.http.HttpHeaders headers) {
+        final Map<String, List<String>> map = headers.map();
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+
+        final HttpHeaders httpHeaders = new HttpHeaders(map);
+        httpHeaders.jdkHeaders = headers;
+        return httpHeaders;
+    }
+
+    /**
+     * Adapts map without copying, caller is trusted to provide map that is immutable and has no null
+     * or empty names and values lists, like {@link Map#of()} or {@link java.net.http.HttpHeaders#map()}
+     *
+     * @param multiHeaderMap immutable headers
+     * @return headers
+     */
+    @NotNull
+    public static HttpHeaders wrapImmutable(@Nullable Map<String, List<String>> multiHeaderMap) {
+        if (multiHeaderMap == null || multiHeaderMap.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new HttpHeaders(multiHeaderMap);
+    }
+
+    /**
+     * Creates layered view where override headers shadow base headers with the same name, layers are
+     * not merged so per-request headers cost only their own entries when base is shared.
+     *
+     * @param base     shared headers like client defaults
+     * @param override per-request headers
+     * @return headers
+     */
+    @NotNull
+    public static HttpHeaders overlay(@NotNull HttpHeaders base, @NotNull HttpHeaders override) {
+        if (override.multiHeaderMap.isEmpty()) {
+            return base;
+        } else if (base.multiHeaderMap.isEmpty()) {
+            return override;
+        }
+
+        return new HttpHeaders(new OverlayHeaderMap(base.multiHeaderMap, override.multiHeaderMap));
+    }
+
+    private static String validated(String name, String value) {
+        HeaderValidator.validate(name, value);
+        return value;
+    }
+
+    private static List<String> validated(String name, List<String> values) {
+        for (String value : values) {
+            HeaderValidator.validate(name, value);
+        }
+        return values;
+    }
+
     @NotNull
     public static HttpHeaders of(@Nullable String... headerAndValue) {
         if (headerAndValue == null || headerAndValue.length == 0) {
@@ -181,12 +293,38 @@ public static HttpHeaders empty() {
      */
     @NotNull
     public Optional<String> findFirst(@NotNull CharSequence headerName) {
+        return Optional.ofNullable(getFirst(headerName));
+    }
+
+    /**
+     * Get the first value of the given header without {@link Optional} allocation.
+     *
+     * @param headerName The header name
+     * @return The first value or null if it is not present
+     */
+    @Nullable
+    public String getFirst(@NotNull CharSequence headerName) {
         final List<String> values = multiHeaderMap.get(headerName.toString());
         if (values == null) {
-            return Optional.empty();
+            return null;
         }
 
-        return Optional.of(values.get(0));
+        return values.get(0);
+    }
+
+    /**
+     * Get the first value of the given header or default value if header is not present.
+     *
+     * @param headerName   The header name
+     * @param defaultValue The value to return if header is not present
+     * @return The first value or default value
+     */
+    @NotNull
+    public String getFirstOrDefault(@NotNull CharSequence headerName, @NotNull String defaultValue) {
+        final String value = getFirst(headerName);
+        return (value == null)
+                ? defaultValue
+                : value;
     }
 
     /**
@@ -209,33 +347,149 @@ public Map<String, List<String>> getMultiMap() {
     }
 
     /**
-     * @return all headers and only first corresponding value as map
+     * Headers as JDK headers, instance is cached and when headers were created via
+     * {@link #wrap(java.net.http.HttpHeaders)} the original instance is returned. Names that differ
+     * only in case are merged into one name with values concatenated in map iteration order, cause
+     * JDK headers are case-insensitive and reject such duplicates.
+     *
+     * @return JDK headers
+     */
+    @NotNull
+    public java.net.http.HttpHeaders toJdkHeaders() {
+        java.net.http.HttpHeaders headers = this.jdkHeaders;
+        if (headers == null) {
+            headers = java.net.http.HttpHeaders.of(mergeCaseInsensitive(multiHeaderMap), (name, value) -> true);
+            this.jdkHeaders = headers;
+        }
+
+        return headers;
+    }
+
+    private static Map<String, List<String>> mergeCaseInsensitive(Map<String, List<String>> multiHeaderMap) {
+        final Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> entry : multiHeaderMap.entrySet()) {
+            merged.merge(entry.getKey(), entry.getValue(), (values, other) -> {
+                final List<String> concatenated = new ArrayList<>(values.size() + other.size());
+                concatenated.addAll(values);
+                concatenated.addAll(other);
+                return concatenated;
+            });
+        }
+
+        return (merged.size() == multiHeaderMap.size())
+                ? multiHeaderMap
+                : merged;
+    }
+
+    /**
+     * @return all headers and only first corresponding value as unmodifiable map view, view is cached
+     *             and reads through to headers without copying
      */
     @NotNull
     public Map<String, String> getMap() {
-        return multiHeaderMap.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().iterator().next()));
+        Map<String, String> map = this.singleValueMap;
+        if (map == null) {
+            map = new SingleValueHeaderMap(multiHeaderMap);
+            this.singleValueMap = map;
+        }
+
+        return map;
     }
 
     /**
-     * The request or response content type.
+     * The request or response content length, value is parsed once and then cached.
      *
-     * @return The content type
+     * @return The content length
      */
     @NotNull
     public Optional<Long> contentLength() {
-        return findFirst(CONTENT_LENGTH)
-                .map(Long::parseLong);
+        Optional<Long> length = this.contentLength;
+        if (length == null) {
+            length = findFirst(CONTENT_LENGTH).map(HttpHeaders::parseContentLength);
+            this.contentLength = length;
+        }
+
+        return length;
     }
 
     /**
-     * The request or response content type.
+     * The request or response content length unboxed, value is parsed once and then cached same as
+     * {@link #contentLength()}, so only first call allocates.
+     *
+     * @param defaultValue The value to return if header is not present
+     * @return The content length or default value
+     * @throws NumberFormatException if header value is not a valid content length
+     */
+    public long contentLength(long defaultValue) {
+        final Optional<Long> length = contentLength();
+        return length.isPresent()
+                ? length.get()
+                : defaultValue;
+    }
+
+    /**
+     * The request or response content type, value is parsed once and then cached.
      *
      * @return The content type
      */
     @NotNull
     public Optional<MediaType> contentType() {
-        return findFirst(CONTENT_TYPE).map(MediaType::of);
+        Optional<MediaType> mediaType = this.contentType;
+        if (mediaType == null) {
+            mediaType = findFirst(CONTENT_TYPE).map(MediaType::of);
+            this.contentType = mediaType;
+        }
+
+        return mediaType;
+    }
+
+    /**
+     * The {@link #CACHE_CONTROL} directives, value is parsed once and then cached.
+     *
+     * @return The cache control or {@link CacheControl#empty()} if header is not present
+     */
+    @NotNull
+    public CacheControl cacheControl() {
+        CacheControl cacheControl = this.cacheControl;
+        if (cacheControl == null) {
+            final List<String> values = findAll(CACHE_CONTROL);
+            cacheControl = switch (values.size()) {
+                case 0 -> CacheControl.empty();
+                case 1 -> CacheControl.parse(values.get(0));
+                default -> CacheControl.parse(String.join(", ", values));
+            };
+            this.cacheControl = cacheControl;
+        }
+
+        return cacheControl;
+    }
+
+    /**
+     * The {@link #COOKIE} header view, cookies are scanned only when requested by name.
+     *
+     * @return The cookies view
+     */
+    @NotNull
+    public Cookies cookies() {
+        Cookies cookies = this.cookies;
+        if (cookies == null) {
+            cookies = Cookies.of(findAll(COOKIE));
+            this.cookies = cookies;
+        }
+
+        return cookies;
+    }
+
+    /**
+     * Parses HTTP-date header like {@link #DATE}, {@link #LAST_MODIFIED}, {@link #EXPIRES} or
+     * {@link #IF_MODIFIED_SINCE}.
+     *
+     * @param headerName   The header name
+     * @param defaultValue The value to return if header is not present or is not a valid HTTP-date
+     * @return The epoch millis or default value
+     */
+    public long getDate(@NotNull CharSequence headerName, long defaultValue) {
+        return HttpDate.parse(getFirst(headerName), defaultValue);
     }
 
     /**
@@ -255,12 +509,178 @@ public Optional<String> authorization() {
     }
 
     /**
-     * @return Whether the {@link HttpHeaders#CONNECTION} header is set to Keep-Alive
+     * The parsed {@link #AUTHORIZATION} header, value is parsed once and then cached.
+     *
+     * @return The credentials or null if header is not present or has no auth scheme
+     */
+    @Nullable
+    public AuthorizationCredentials authorizationCredentials() {
+        AuthorizationCredentials credentials = this.authorizationCredentials;
+        if (credentials == null) {
+            credentials = AuthorizationCredentials.parse(getFirst(AUTHORIZATION));
+            if (credentials == null) {
+                credentials = AuthorizationCredentials.ABSENT;
+            }
+            this.authorizationCredentials = credentials;
+        }
+
+        return (credentials == AuthorizationCredentials.ABSENT)
+                ? null
+                : credentials;
+    }
+
+    /**
+     * The {@link #TRACEPARENT} with {@link #TRACESTATE} context, value is parsed once and then cached.
+     * Multiple traceparent headers are treated as invalid, multiple tracestate headers are combined.
+     *
+     * @return The trace context or null if traceparent is not present or is invalid
+     */
+    @Nullable
+    public TraceContext traceContext() {
+        TraceContext context = this.traceContext;
+        if (context == null) {
+            final List<String> parents = findAll(TRACEPARENT);
+            if (parents.size() == 1) {
+                final List<String> states = findAll(TRACESTATE);
+                context = TraceContext.parse(parents.get(0), switch (states.size()) {
+                    case 0 -> null;
+                    case 1 -> states.get(0);
+                    default -> String.join(",", states);
+                });
+            }
+            if (context == null) {
+                context = TraceContext.ABSENT;
+            }
+            this.traceContext = context;
+        }
+
+        return (context == TraceContext.ABSENT)
+                ? null
+                : context;
+    }
+
+    /**
+     * Parses RFC 8941 Structured Field item header like {@link #PRIORITY}.
+     *
+     * @param headerName The header name
+     * @return The item or null if header is not present or is not a valid item
+     */
+    @Nullable
+    public StructuredItem structuredItem(@NotNull CharSequence headerName) {
+        return StructuredItem.parse(combined(headerName));
+    }
+
+    /**
+     * Parses RFC 8941 Structured Field list header like {@link #CACHE_STATUS}, multiple header values
+     * are combined.
+     *
+     * @param headerName The header name
+     * @return The list or null if header is not present or is not a valid list
+     */
+    @Nullable
+    public StructuredList structuredList(@NotNull CharSequence headerName) {
+        return StructuredList.parse(combined(headerName));
+    }
+
+    /**
+     * Parses RFC 8941 Structured Field dictionary header, multiple header values are combined.
+     *
+     * @param headerName The header name
+     * @return The dictionary or null if header is not present or is not a valid dictionary
+     */
+    @Nullable
+    public StructuredDictionary structuredDictionary(@NotNull CharSequence headerName) {
+        return StructuredDictionary.parse(combined(headerName));
+    }
+
+    /**
+     * @return all field lines of header joined with comma or null if absent
+     */
+    @Nullable
+    String combined(@NotNull CharSequence headerName) {
+        final List<String> values = findAll(headerName);
+        return switch (values.size()) {
+            case 0 -> null;
+            case 1 -> values.get(0);
+            default -> String.join(", ", values);
+        };
+    }
+
+    /**
+     * Checks whether any value of the given list header contains the token, for example
+     * {@code Connection: keep-alive, Upgrade} contains {@code upgrade}.
+     *
+     * @param headerName The header name
+     * @param token      The token to find ignoring case
+     * @return true if token is present
+     */
+    public boolean containsToken(@NotNull CharSequence headerName, @NotNull String token) {
+        for (String value : findAll(headerName)) {
+            final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+            while (tokenizer.nextElement()) {
+                if (tokenizer.readToken() && tokenizer.valueEqualsIgnoreCase(token)) {
+                    return true;
+                }
+
+                tokenizer.skipElement();
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Whether the {@link HttpHeaders#CONNECTION} header contains Keep-Alive token
      */
     public boolean isKeepAlive() {
-        return findFirst(CONNECTION)
-                .map(v -> v.equalsIgnoreCase("keep-alive"))
-                .orElse(false);
+        byte keepAlive = this.keepAlive;
+        if (keepAlive == 0) {
+            final boolean isKeepAlive = containsToken(CONNECTION, "keep-alive");
+
+            keepAlive = (byte) (isKeepAlive
+                    ? 2
+                    : 1);
+            this.keepAlive = keepAlive;
+        }
+
+        return keepAlive == 2;
+    }
+
+    /**
+     * Parses non-negative decimal number in place, surrounding whitespaces are ignored
+     *
+     * @param value to parse
+     * @return parsed number
+     */
+    private static long parseContentLength(@NotNull String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        if (start == end || end - start > 18) {
+            throw new NumberFormatException("Invalid Content-Length: " + value);
+        }
+
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Invalid Content-Length: " + value);
+            }
+
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
     }
 
     /**
@@ -277,10 +697,11 @@ public List<MediaType> accept() {
 
         final List<MediaType> mediaTypes = new ArrayList<>(6);
         for (String value : values) {
-            for (String token : value.split(",")) {
-                if (!token.isEmpty()) {
+            final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+            while (tokenizer.nextElement()) {
+                if (tokenizer.readElement()) {
                     try {
-                        mediaTypes.add(MediaType.of(token));
+                        mediaTypes.add(MediaType.of(tokenizer.value()));
                     } catch (IllegalArgumentException e) {
                         // ignore
                     }
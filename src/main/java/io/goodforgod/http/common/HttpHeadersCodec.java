@@ -0,0 +1,474 @@
+package io.goodforgod.http.common;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Compact versioned binary encoding for {@link HttpHeaders} and {@link MediaType}.
+ * <p>
+ * Well-known header names from {@link HttpHeaders} constants and common values including
+ * {@link MediaType} constants are encoded as one byte ids, everything else as varint length-prefixed
+ * UTF-8. Ids tables are append-only so data encoded by previous versions stays decodable.
+ * <p>
+ * Headers layout: version (byte), names count (varint), then for each name: name id (byte) with
+ * literal name when id is zero, values count (varint) and for each value: value id (byte) with
+ * literal value when id is zero.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HttpHeadersCodec {
+
+    /**
+     * Current encoding version
+     */
+    public static final byte VERSION = 1;
+
+    private static final int LITERAL = 0;
+
+    /**
+     * Version 1 header names, append only
+     */
+    private static final String[] NAMES = {
+            HttpHeaders.ACCEPT,
+            HttpHeaders.ACCEPT_CH,
+            HttpHeaders.ACCEPT_CH_LIFETIME,
+            HttpHeaders.ACCEPT_CHARSET,
+            HttpHeaders.ACCEPT_ENCODING,
+            HttpHeaders.ACCEPT_LANGUAGE,
+            HttpHeaders.ACCEPT_RANGES,
+            HttpHeaders.ACCEPT_PATCH,
+            HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS,
+            HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS,
+            HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+            HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS,
+            HttpHeaders.ACCESS_CONTROL_MAX_AGE,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+            HttpHeaders.AGE,
+            HttpHeaders.ALLOW,
+            HttpHeaders.AUTHORIZATION,
+            HttpHeaders.AUTHORIZATION_INFO,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.CONNECTION,
+            HttpHeaders.CONTENT_BASE,
+            HttpHeaders.CONTENT_DISPOSITION,
+            HttpHeaders.CONTENT_DPR,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CONTENT_LANGUAGE,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONTENT_LOCATION,
+            HttpHeaders.CONTENT_TRANSFER_ENCODING,
+            HttpHeaders.CONTENT_MD5,
+            HttpHeaders.CONTENT_RANGE,
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.COOKIE,
+            HttpHeaders.CROSS_ORIGIN_RESOURCE_POLICY,
+            HttpHeaders.DATE,
+            HttpHeaders.DEVICE_MEMORY,
+            HttpHeaders.DOWNLINK,
+            HttpHeaders.DPR,
+            HttpHeaders.ECT,
+            HttpHeaders.ETAG,
+            HttpHeaders.EXPECT,
+            HttpHeaders.EXPIRES,
+            HttpHeaders.FEATURE_POLICY,
+            HttpHeaders.FORWARDED,
+            HttpHeaders.FROM,
+            HttpHeaders.HOST,
+            HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE,
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_RANGE,
+            HttpHeaders.IF_UNMODIFIED_SINCE,
+            HttpHeaders.LAST_MODIFIED,
+            HttpHeaders.LINK,
+            HttpHeaders.LOCATION,
+            HttpHeaders.MAX_FORWARDS,
+            HttpHeaders.ORIGIN,
+            HttpHeaders.PRAGMA,
+            HttpHeaders.PROXY_AUTHENTICATE,
+            HttpHeaders.PROXY_AUTHORIZATION,
+            HttpHeaders.RANGE,
+            HttpHeaders.REFERER,
+            HttpHeaders.REFERRER_POLICY,
+            HttpHeaders.RETRY_AFTER,
+            HttpHeaders.RTT,
+            HttpHeaders.SAVE_DATA,
+            HttpHeaders.SEC_WEBSOCKET_KEY1,
+            HttpHeaders.SEC_WEBSOCKET_KEY2,
+            HttpHeaders.SEC_WEBSOCKET_LOCATION,
+            HttpHeaders.SEC_WEBSOCKET_ORIGIN,
+            HttpHeaders.SEC_WEBSOCKET_PROTOCOL,
+            HttpHeaders.SEC_WEBSOCKET_VERSION,
+            HttpHeaders.SEC_WEBSOCKET_KEY,
+            HttpHeaders.SEC_WEBSOCKET_ACCEPT,
+            HttpHeaders.SERVER,
+            HttpHeaders.SET_COOKIE,
+            HttpHeaders.SET_COOKIE2,
+            HttpHeaders.SOURCE_MAP,
+            HttpHeaders.TE,
+            HttpHeaders.TRAILER,
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.UPGRADE,
+            HttpHeaders.USER_AGENT,
+            HttpHeaders.VARY,
+            HttpHeaders.VIA,
+            HttpHeaders.VIEWPORT_WIDTH,
+            HttpHeaders.WARNING,
+            HttpHeaders.WEBSOCKET_LOCATION,
+            HttpHeaders.WEBSOCKET_ORIGIN,
+            HttpHeaders.WEBSOCKET_PROTOCOL,
+            HttpHeaders.WIDTH,
+            HttpHeaders.WWW_AUTHENTICATE,
+            HttpHeaders.X_AUTH_TOKEN,
+            HttpHeaders.X_FORWARDED_FOR
+    };
+
+    /**
+     * Version 1 header values, append only
+     */
+    private static final String[] VALUES = {
+            MediaType.ALL,
+            MediaType.APPLICATION_FORM_URLENCODED,
+            MediaType.MULTIPART_FORM_DATA,
+            MediaType.TEXT_HTML,
+            MediaType.TEXT_CSV,
+            MediaType.APPLICATION_XHTML,
+            MediaType.APPLICATION_XML,
+            MediaType.TEXT_JSON,
+            MediaType.TEXT_JSON_UTF_8,
+            MediaType.TEXT_PLAIN,
+            MediaType.TEXT_PLAIN_UTF_8,
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_JSON_UTF_8,
+            MediaType.APPLICATION_YAML,
+            MediaType.APPLICATION_YAML_UTF_8,
+            MediaType.MICROSOFT_EXCEL_OPEN_XML,
+            MediaType.MICROSOFT_EXCEL,
+            MediaType.TEXT_XML,
+            MediaType.TEXT_EVENT_STREAM,
+            MediaType.APPLICATION_JSON_STREAM,
+            MediaType.APPLICATION_OCTET_STREAM,
+            MediaType.APPLICATION_GRAPHQL,
+            MediaType.APPLICATION_PDF,
+            MediaType.IMAGE_PNG,
+            MediaType.IMAGE_JPEG,
+            MediaType.IMAGE_GIF,
+            MediaType.IMAGE_WEBP,
+            "keep-alive",
+            "close",
+            "upgrade",
+            "websocket",
+            "gzip",
+            "br",
+            "deflate",
+            "identity",
+            "chunked",
+            "bytes",
+            "none",
+            "no-cache",
+            "no-store",
+            "no-cache, no-store, must-revalidate",
+            "max-age=0",
+            "private",
+            "public",
+            "must-revalidate",
+            "nosniff",
+            "DENY",
+            "SAMEORIGIN",
+            "*",
+            "0",
+            "true",
+            "Accept-Encoding",
+            "Origin",
+            "text/html; charset=utf-8",
+            "application/json; charset=utf-8",
+            "text/plain; charset=utf-8"
+    };
+
+    private static final Map<String, Integer> NAME_IDS = ids(NAMES);
+    private static final Map<String, Integer> VALUE_IDS = ids(VALUES);
+
+    private HttpHeadersCodec() {}
+
+    private static Map<String, Integer> ids(String[] table) {
+        if (table.length > 255) {
+            throw new IllegalStateException("Ids table can't exceed 255 entries");
+        }
+
+        final Map<String, Integer> ids = new HashMap<>(table.length * 2);
+        for (int i = 0; i < table.length; i++) {
+            ids.putIfAbsent(table[i], i + 1);
+        }
+        return ids;
+    }
+
+    /**
+     * @param headers to encode
+     * @return exact amount of bytes {@link #encode(HttpHeaders, ByteBuffer)} writes
+     */
+    public static int encodedLength(@NotNull HttpHeaders headers) {
+        final Map<String, List<String>> map = headers.getMultiMap();
+        int length = 1 + varintLength(map.size());
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            length += entryLength(NAME_IDS, entry.getKey());
+            length += varintLength(entry.getValue().size());
+            for (String value : entry.getValue()) {
+                length += entryLength(VALUE_IDS, value);
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * @param headers to encode
+     * @return encoded headers
+     */
+    public static byte @NotNull [] encode(@NotNull HttpHeaders headers) {
+        final ByteBuffer buffer = ByteBuffer.allocate(encodedLength(headers));
+        encode(headers, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * @param headers to encode
+     * @param buffer  to write to starting from its position
+     * @throws BufferOverflowException if buffer has less than {@link #encodedLength(HttpHeaders)}
+     *                                 remaining
+     */
+    public static void encode(@NotNull HttpHeaders headers, @NotNull ByteBuffer buffer) {
+        final Map<String, List<String>> map = headers.getMultiMap();
+        buffer.put(VERSION);
+        putVarint(buffer, map.size());
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            putEntry(buffer, NAME_IDS, entry.getKey());
+            putVarint(buffer, entry.getValue().size());
+            for (String value : entry.getValue()) {
+                putEntry(buffer, VALUE_IDS, value);
+            }
+        }
+    }
+
+    /**
+     * @param bytes encoded headers
+     * @return decoded headers
+     * @throws IllegalArgumentException if encoding is invalid or version is unsupported
+     */
+    @NotNull
+    public static HttpHeaders decode(byte @NotNull [] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * @param buffer to read encoded headers from its position, position is advanced past headers
+     * @return decoded headers
+     * @throws IllegalArgumentException if encoding is invalid or version is unsupported
+     */
+    @NotNull
+    public static HttpHeaders decode(@NotNull ByteBuffer buffer) {
+        try {
+            checkVersion(buffer.get());
+            final int count = getCount(buffer);
+            if (count == 0) {
+                return HttpHeaders.empty();
+            }
+
+            final Map<String, List<String>> map = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                final String name = getEntry(buffer, NAMES);
+                final int valuesCount = getCount(buffer);
+                if (valuesCount == 0) {
+                    throw new IllegalArgumentException("Header '" + name + "' has no values");
+                }
+
+                final String[] values = new String[valuesCount];
+                for (int j = 0; j < valuesCount; j++) {
+                    values[j] = getEntry(buffer, VALUES);
+                }
+                map.put(name, List.of(values));
+            }
+
+            return HttpHeaders.wrapImmutable(Map.copyOf(map));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded headers are truncated", e);
+        }
+    }
+
+    /**
+     * @param mediaType to encode
+     * @param buffer    to write version and media type to
+     * @throws BufferOverflowException if buffer has not enough space remaining
+     */
+    public static void encode(@NotNull MediaType mediaType, @NotNull ByteBuffer buffer) {
+        buffer.put(VERSION);
+        putEntry(buffer, VALUE_IDS, mediaType.toString());
+    }
+
+    /**
+     * @param buffer to read encoded media type from its position
+     * @return decoded media type
+     * @throws IllegalArgumentException if encoding is invalid or version is unsupported
+     */
+    @NotNull
+    public static MediaType decodeMediaType(@NotNull ByteBuffer buffer) {
+        try {
+            checkVersion(buffer.get());
+            return MediaType.of(getEntry(buffer, VALUES));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded media type is truncated", e);
+        }
+    }
+
+    private static void checkVersion(byte version) {
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported encoding version: " + version);
+        }
+    }
+
+    private static int entryLength(Map<String, Integer> ids, String value) {
+        if (ids.containsKey(value)) {
+            return 1;
+        }
+
+        final int length = utf8Length(value);
+        return 1 + varintLength(length) + length;
+    }
+
+    private static void putEntry(ByteBuffer buffer, Map<String, Integer> ids, String value) {
+        final Integer id = ids.get(value);
+        if (id != null) {
+            buffer.put(id.byteValue());
+        } else {
+            buffer.put((byte) LITERAL);
+            putVarint(buffer, utf8Length(value));
+            putUtf8(buffer, value);
+        }
+    }
+
+    private static String getEntry(ByteBuffer buffer, String[] table) {
+        final int id = Byte.toUnsignedInt(buffer.get());
+        if (id != LITERAL) {
+            if (id > table.length) {
+                throw new IllegalArgumentException("Unknown id: " + id);
+            }
+            return table[id - 1];
+        }
+
+        final int length = getVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static int varintLength(int value) {
+        int length = 1;
+        while ((value >>>= 7) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Every entry takes at least one byte, so count above remaining bytes is rejected before anything
+     * is allocated for it
+     */
+    private static int getCount(ByteBuffer buffer) {
+        final int count = getVarint(buffer);
+        if (count > buffer.remaining()) {
+            throw new IllegalArgumentException("Count " + count + " exceeds remaining " + buffer.remaining() + " bytes");
+        }
+        return count;
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (result < 0) {
+                    throw new IllegalArgumentException("Varint is negative");
+                }
+                return result;
+            }
+        }
+
+        throw new IllegalArgumentException("Varint is too long");
+    }
+
+    private static int utf8Length(String value) {
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    length += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes UTF-8 without intermediate array, unpaired surrogates are written as '?' like
+     * {@link String#getBytes(java.nio.charset.Charset)} does
+     */
+    private static void putUtf8(ByteBuffer buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.goodforgod.http.common;
 
+import java.nio.ByteBuffer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -64,6 +65,32 @@ public enum HttpMethod implements CharSequence {
      */
     CUSTOM;
 
+    private static final HttpMethod[] VALUES = values();
+
+    /**
+     * Lowercase method names packed big-endian into long, parsed bytes are folded to lowercase by
+     * setting 0x20 bit which maps only uppercase letters onto lowercase letters
+     */
+    private static final long GET_WORD = pack("get");
+    private static final long PUT_WORD = pack("put");
+    private static final long HEAD_WORD = pack("head");
+    private static final long POST_WORD = pack("post");
+    private static final long PATCH_WORD = pack("patch");
+    private static final long TRACE_WORD = pack("trace");
+    private static final long DELETE_WORD = pack("delete");
+    private static final long OPTIONS_WORD = pack("options");
+    private static final long CONNECT_WORD = pack("connect");
+
+    private static final int LENGTH_MASK = 0xFFFFFF;
+
+    private static long pack(String name) {
+        long word = 0;
+        for (int i = 0; i < name.length(); i++) {
+            word = (word << 8) | name.charAt(i);
+        }
+        return word;
+    }
+
     /**
      * @return true if given method allows a request body
      */
@@ -95,6 +122,126 @@ public static HttpMethod of(@NotNull String httpMethodName) {
         return CUSTOM;
     }
 
+    /**
+     * Parses method token at the start of HTTP/1.1 request-line without allocations, method names are
+     * matched ignoring case like {@link #of(String)} does.
+     *
+     * @param bytes  of request-line
+     * @param offset of method token
+     * @return packed result to decode with {@link #method(int)} and {@link #consumed(int)} or -1 if
+     *             there is no method token at offset
+     */
+    public static int parse(byte @NotNull [] bytes, int offset) {
+        int end = offset;
+        while (end < bytes.length && HeaderTokenizer.isTokenChar(bytes[end])) {
+            end++;
+        }
+
+        final int length = end - offset;
+        if (length == 0) {
+            return -1;
+        }
+
+        long word = 0;
+        if (length <= 7) {
+            for (int i = offset; i < end; i++) {
+                word = (word << 8) | (bytes[i] | 0x20);
+            }
+        }
+        return packed(word, length);
+    }
+
+    /**
+     * Parses method token like {@link #parse(byte[], int)}, buffer position is not changed
+     *
+     * @param buffer with request-line
+     * @param offset absolute index of method token
+     * @return packed result to decode with {@link #method(int)} and {@link #consumed(int)} or -1 if
+     *             there is no method token at offset
+     */
+    public static int parse(@NotNull ByteBuffer buffer, int offset) {
+        final int limit = buffer.limit();
+        int end = offset;
+        while (end < limit && HeaderTokenizer.isTokenChar(buffer.get(end))) {
+            end++;
+        }
+
+        final int length = end - offset;
+        if (length == 0) {
+            return -1;
+        }
+
+        long word = 0;
+        if (length <= 7) {
+            for (int i = offset; i < end; i++) {
+                word = (word << 8) | (buffer.get(i) | 0x20);
+            }
+        }
+        return packed(word, length);
+    }
+
+    /**
+     * @param parsed result of {@link #parse(byte[], int)} other than -1
+     * @return parsed method, {@link #CUSTOM} for nonstandard method
+     */
+    @NotNull
+    public static HttpMethod method(int parsed) {
+        return VALUES[parsed >>> 24];
+    }
+
+    /**
+     * @param parsed result of {@link #parse(byte[], int)} other than -1
+     * @return length of method token
+     */
+    public static int consumed(int parsed) {
+        return parsed & LENGTH_MASK;
+    }
+
+    private static int packed(long word, int length) {
+        return (match(word, length).ordinal() << 24) | Math.min(length, LENGTH_MASK);
+    }
+
+    private static HttpMethod match(long word, int length) {
+        switch (length) {
+            case 3 -> {
+                if (word == GET_WORD) {
+                    return GET;
+                } else if (word == PUT_WORD) {
+                    return PUT;
+                }
+            }
+            case 4 -> {
+                if (word == POST_WORD) {
+                    return POST;
+                } else if (word == HEAD_WORD) {
+                    return HEAD;
+                }
+            }
+            case 5 -> {
+                if (word == PATCH_WORD) {
+                    return PATCH;
+                } else if (word == TRACE_WORD) {
+                    return TRACE;
+                }
+            }
+            case 6 -> {
+                if (word == DELETE_WORD) {
+                    return DELETE;
+                }
+            }
+            case 7 -> {
+                if (word == OPTIONS_WORD) {
+                    return OPTIONS;
+                } else if (word == CONNECT_WORD) {
+                    return CONNECT;
+                }
+            }
+            default -> {}
+        }
+
+        return CUSTOM;
+    }
+
     /**
      * @param httpMethodName to parse which is always upper or lower case
      * @return Http parsed method name instance or null
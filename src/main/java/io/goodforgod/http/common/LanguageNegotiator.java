@@ -0,0 +1,206 @@
+package io.goodforgod.http.common;
+
+import java.util.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Matches {@link HttpHeaders#ACCEPT_LANGUAGE} language ranges against available locales using
+ * <a href="https://www.rfc-editor.org/rfc/rfc4647">RFC 4647</a> lookup and basic filtering.
+ * <p>
+ * Results are memoised per distinct header value in bounded cache where newer values replace older
+ * ones and contain shared instances of available locales.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class LanguageNegotiator {
+
+    private record LanguageRange(String range, int weight) {}
+
+    private final String[] tags;
+    private final Locale[] locales;
+    private final Map<String, Locale> tagToLocale;
+    private final HeaderValueCache<Optional<Locale>> lookupCache = new HeaderValueCache<>(1024);
+    private final HeaderValueCache<List<Locale>> filterCache = new HeaderValueCache<>(1024);
+
+    private LanguageNegotiator(Locale[] locales) {
+        this.locales = locales;
+        this.tags = new String[locales.length];
+        this.tagToLocale = new HashMap<>(locales.length * 2);
+        for (int i = 0; i < locales.length; i++) {
+            this.tags[i] = locales[i].toLanguageTag().toLowerCase(Locale.ROOT);
+            this.tagToLocale.putIfAbsent(this.tags[i], locales[i]);
+        }
+    }
+
+    /**
+     * @param available locales ordered by preference
+     * @return negotiator
+     */
+    @NotNull
+    public static LanguageNegotiator of(@NotNull Locale... available) {
+        return of(Arrays.asList(available));
+    }
+
+    /**
+     * @param available locales ordered by preference
+     * @return negotiator
+     */
+    @NotNull
+    public static LanguageNegotiator of(@NotNull Collection<Locale> available) {
+        final Set<Locale> locales = new LinkedHashSet<>(available);
+        if (locales.isEmpty()) {
+            throw new IllegalArgumentException("Available locales can't be empty");
+        }
+
+        return new LanguageNegotiator(locales.toArray(Locale[]::new));
+    }
+
+    /**
+     * RFC 4647 lookup, language ranges are tried in order of their weight and each range is
+     * progressively truncated until matching locale is found, candidates equal to range with
+     * {@code q=0} are not acceptable and skipped.
+     *
+     * @param acceptLanguage value of {@link HttpHeaders#ACCEPT_LANGUAGE} header
+     * @return best matching available locale or null if none matches
+     */
+    @Nullable
+    public Locale lookup(@Nullable String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return null;
+        }
+
+        Optional<Locale> locale = lookupCache.get(acceptLanguage);
+        if (locale == null) {
+            locale = Optional.ofNullable(lookupValue(acceptLanguage));
+            lookupCache.put(acceptLanguage, locale);
+        }
+
+        return locale.orElse(null);
+    }
+
+    /**
+     * @param acceptLanguage value of {@link HttpHeaders#ACCEPT_LANGUAGE} header
+     * @param defaultLocale  to return if no locale matches
+     * @return best matching available locale or default locale
+     */
+    @NotNull
+    public Locale lookup(@Nullable String acceptLanguage, @NotNull Locale defaultLocale) {
+        final Locale locale = lookup(acceptLanguage);
+        return (locale == null)
+                ? defaultLocale
+                : locale;
+    }
+
+    /**
+     * RFC 4647 basic filtering, available locale matches range if range equals its tag or is a prefix
+     * of its tag followed by {@code -}, wildcard {@code *} matches all locales.
+     *
+     * @param acceptLanguage value of {@link HttpHeaders#ACCEPT_LANGUAGE} header
+     * @return matching available locales ordered by weight of range they matched
+     */
+    @NotNull
+    public List<Locale> filter(@Nullable String acceptLanguage) {
+        if (acceptLanguage == null || acceptLanguage.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        List<Locale> filtered = filterCache.get(acceptLanguage);
+        if (filtered == null) {
+            filtered = filterValue(acceptLanguage);
+            filterCache.put(acceptLanguage, filtered);
+        }
+
+        return filtered;
+    }
+
+    private Locale lookupValue(String value) {
+        final List<LanguageRange> ranges = parseRanges(value);
+        for (LanguageRange languageRange : ranges) {
+            String range = languageRange.range;
+            if (languageRange.weight == 0) {
+                break;
+            } else if ("*".equals(range)) {
+                continue;
+            }
+
+            while (!range.isEmpty()) {
+                final Locale locale = tagToLocale.get(range);
+                if (locale != null && !isExcluded(ranges, range)) {
+                    return locale;
+                }
+
+                int separator = range.lastIndexOf('-');
+                if (separator == -1) {
+                    break;
+                }
+
+                // singleton subtag is removed together with the following subtag
+                if (separator >= 2 && range.charAt(separator - 2) == '-') {
+                    separator -= 2;
+                }
+                range = range.substring(0, separator);
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isExcluded(List<LanguageRange> ranges, String tag) {
+        for (int i = ranges.size() - 1; i >= 0 && ranges.get(i).weight == 0; i--) {
+            if (ranges.get(i).range.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Locale> filterValue(String value) {
+        final List<Locale> filtered = new ArrayList<>(locales.length);
+        for (LanguageRange languageRange : parseRanges(value)) {
+            final String range = languageRange.range;
+            if (languageRange.weight == 0) {
+                break;
+            }
+
+            for (int i = 0; i < tags.length; i++) {
+                final String tag = tags[i];
+                final boolean matches = "*".equals(range)
+                        || tag.equals(range)
+                        || (tag.startsWith(range) && tag.charAt(range.length()) == '-');
+                if (matches && !filtered.contains(locales[i])) {
+                    filtered.add(locales[i]);
+                }
+            }
+        }
+
+        return List.copyOf(filtered);
+    }
+
+    /**
+     * @return valid ranges ordered by weight descending, so not acceptable {@code q=0} ranges are last,
+     *             order of equal weight ranges is preserved
+     */
+    private static List<LanguageRange> parseRanges(String value) {
+        final List<LanguageRange> ranges = new ArrayList<>(4);
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(value);
+        while (tokenizer.nextElement()) {
+            if (!tokenizer.readToken()) {
+                tokenizer.skipElement();
+                continue;
+            }
+
+            final int rangeStart = tokenizer.start();
+            final int rangeEnd = tokenizer.end();
+            final int weight = QualityValues.parseWeight(tokenizer);
+            tokenizer.skipElement();
+            if (weight >= 0) {
+                ranges.add(new LanguageRange(value.substring(rangeStart, rangeEnd).toLowerCase(Locale.ROOT), weight));
+            }
+        }
+
+        ranges.sort((r1, r2) -> Integer.compare(r2.weight, r1.weight));
+        return ranges;
+    }
+}
@@ -18,7 +18,7 @@
  */
 public final class MediaType implements CharSequence {
 
-    private record MediaTypeParsed(String name, BigDecimal quality, Map<String, String> parameters) {}
+    private record MediaTypeParsed(String name, BigDecimal quality, Charset charset, Map<String, String> parameters) {}
 
     /**
      * File extension used for Microsoft Excel Open XML Spreadsheet (XLSX).
@@ -311,6 +311,8 @@ private record MediaTypeParsed(String name, BigDecimal quality, Map<String, Stri
     private final String extension;
     private final String representation;
     private final Map<String, String> parameters;
+    @Nullable
+    private final Charset charset;
 
     /**
      * See
@@ -337,6 +339,7 @@ private MediaType(@NotNull String name, @Nullable String extension) {
         final MediaTypeParsed mediaTypeParsed = parseMediaTypeName(name);
         this.name = mediaTypeParsed.name;
         this.quality = mediaTypeParsed.quality;
+        this.charset = mediaTypeParsed.charset;
 
         final int i = this.name.indexOf('/');
         if (i > -1) {
@@ -362,42 +365,43 @@ private MediaType(@NotNull String name, @Nullable String extension) {
     @NotNull
     private MediaTypeParsed parseMediaTypeName(@NotNull String name) {
         name = name.strip();
-        final List<String> nameSplitBySemicolon = Arrays.stream(name.split(";"))
-                .filter(s -> !s.isBlank())
-                .toList();
-        name = nameSplitBySemicolon.get(0).strip().toLowerCase();
-
-        if (nameSplitBySemicolon.size() > 1) {
-            BigDecimal q = BigDecimal.ONE;
-            Map<String, String> parameters = Collections.emptyMap();
-            for (int i = 1; i < nameSplitBySemicolon.size(); i++) {
-                final String paramExpression = nameSplitBySemicolon.get(i);
-                final int index = paramExpression.indexOf('=');
-
-                if (index > -1) {
-                    if (parameters.isEmpty()) {
-                        parameters = new LinkedHashMap<>(4);
-                    }
-
-                    final String paramName = paramExpression.substring(0, index).trim();
-                    final String paramValue = paramExpression.substring(index + 1).trim();
-
-                    if ("q".equalsIgnoreCase(paramName)) {
-                        q = new BigDecimal(paramValue);
-                        parameters.put(paramName.toLowerCase(), paramValue);
-                    } else if ("charset".equalsIgnoreCase(paramName)) {
-                        final Charset charset = Charset.forName(paramValue);
-                        parameters.put(paramName.toLowerCase(), charset.name());
-                    } else {
-                        parameters.put(paramName, paramValue);
-                    }
-                }
+        final int separator = name.indexOf(';');
+        if (separator == -1) {
+            return new MediaTypeParsed(name.toLowerCase(), BigDecimal.ONE, null, Collections.emptyMap());
+        }
+
+        final String typeName = name.substring(0, separator).strip().toLowerCase();
+        BigDecimal q = BigDecimal.ONE;
+        Charset charset = null;
+        Map<String, String> parameters = Collections.emptyMap();
+
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(name, separator, name.length());
+        while (tokenizer.nextParameter()) {
+            if (tokenizer.isValueEmpty() && !tokenizer.isQuoted()) {
+                continue;
             }
 
-            return new MediaTypeParsed(name, q, parameters);
-        } else {
-            return new MediaTypeParsed(name, BigDecimal.ONE, Collections.emptyMap());
+            if (parameters.isEmpty()) {
+                parameters = new LinkedHashMap<>(4);
+            }
+
+            if (tokenizer.nameEqualsIgnoreCase("q")) {
+                final String paramValue = tokenizer.value();
+                q = new BigDecimal(paramValue);
+                parameters.put("q", paramValue);
+            } else if (tokenizer.nameEqualsIgnoreCase("charset")) {
+                charset = Charset.forName(tokenizer.value());
+                parameters.put("charset", charset.name());
+            } else {
+                // quoted value is kept as is to preserve representation
+                final String paramValue = tokenizer.isQuoted()
+                        ? '"' + name.substring(tokenizer.start(), tokenizer.end()) + '"'
+                        : tokenizer.value();
+                parameters.put(tokenizer.name(), paramValue);
+            }
         }
+
+        return new MediaTypeParsed(typeName, q, charset, parameters);
     }
 
     /**
@@ -497,12 +501,15 @@ public BigDecimal qualityAsNumber() {
      */
     @NotNull
     public Optional<Charset> charset() {
-        final String charset = parameters.get("charset");
-        if (charset != null) {
-            return Optional.of(Charset.forName(charset));
-        }
+        return Optional.ofNullable(charset);
+    }
 
-        return Optional.empty();
+    /**
+     * @return The charset of the media type if specified or null
+     */
+    @Nullable
+    public Charset charsetOrNull() {
+        return charset;
     }
 
     @NotNull
@@ -540,14 +547,25 @@ public static MediaType of(@NotNull CharSequence mediaType) {
      */
     @NotNull
     public static Optional<MediaType> ofExtension(@Nullable String extension) {
+        return Optional.ofNullable(ofExtensionOrNull(extension));
+    }
+
+    /**
+     * Resolve the {@link MediaType} for the given file extension without {@link Optional} allocation.
+     *
+     * @param extension The file extension
+     * @return The {@link MediaType} or null if extension is unknown
+     */
+    @Nullable
+    public static MediaType ofExtensionOrNull(@Nullable String extension) {
         if (extension != null && !extension.isEmpty()) {
             final String mimeType = MimeExtensions.getMime(extension);
             if (mimeType != null) {
-                return Optional.of(new MediaType(mimeType, extension));
+                return new MediaType(mimeType, extension);
             }
         }
 
-        return Optional.empty();
+        return null;
     }
 
     /**
@@ -559,12 +577,23 @@ public static Optional<MediaType> ofExtension(@Nullable String extension) {
      */
     @NotNull
     public static Optional<MediaType> ofFilename(@Nullable String filename) {
+        return Optional.ofNullable(ofFilenameOrNull(filename));
+    }
+
+    /**
+     * Resolve the {@link MediaType} for the given file name without {@link Optional} allocation.
+     *
+     * @param filename The file name
+     * @return The {@link MediaType} or null if extension is unknown
+     */
+    @Nullable
+    public static MediaType ofFilenameOrNull(@Nullable String filename) {
         if (filename != null && !filename.isEmpty()) {
             final String extension = extensionForFilename(filename);
-            return ofExtension(extension);
+            return ofExtensionOrNull(extension);
         }
 
-        return Optional.empty();
+        return null;
     }
 
     @Nullable
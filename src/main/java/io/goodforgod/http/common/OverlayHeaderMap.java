@@ -0,0 +1,149 @@
+package io.goodforgod.http.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only map view where override layer shadows base layer, base entries shadowed by override are
+ * skipped lazily during iteration so layers are never merged. Lookups match names exactly in both
+ * layers, while base entry is shadowed by override entry with the same name in any case, so base
+ * entry hidden from iteration is hidden from lookups as well.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class OverlayHeaderMap extends AbstractMap<String, List<String>> {
+
+    private final Map<String, List<String>> base;
+    private final Map<String, List<String>> override;
+    private final Set<String> overrideNames;
+
+    // racy single-check, value is always computed the same
+    private int size = -1;
+    private Set<Entry<String, List<String>>> entrySet;
+
+    OverlayHeaderMap(@NotNull Map<String, List<String>> base, @NotNull Map<String, List<String>> override) {
+        this.base = base;
+        this.override = override;
+        this.overrideNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        this.overrideNames.addAll(override.keySet());
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        final List<String> values = override.get(key);
+        if (values != null || isShadowed(key)) {
+            return values;
+        }
+
+        return base.get(key);
+    }
+
+    @Override
+    public List<String> getOrDefault(Object key, List<String> defaultValue) {
+        final List<String> values = get(key);
+        return (values == null)
+                ? defaultValue
+                : values;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return override.containsKey(key) || (!isShadowed(key) && base.containsKey(key));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return override.isEmpty() && base.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        int size = this.size;
+        if (size == -1) {
+            size = override.size();
+            for (String name : base.keySet()) {
+                if (!isShadowed(name)) {
+                    size++;
+                }
+            }
+            this.size = size;
+        }
+
+        return size;
+    }
+
+    private boolean isShadowed(Object key) {
+        return key instanceof String && overrideNames.contains(key);
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        Set<Entry<String, List<String>>> entries = this.entrySet;
+        if (entries == null) {
+            entries = new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<String, List<String>>> iterator() {
+                    return new OverlayIterator();
+                }
+
+                @Override
+                public int size() {
+                    return OverlayHeaderMap.this.size();
+                }
+            };
+            this.entrySet = entries;
+        }
+
+        return entries;
+    }
+
+    private final class OverlayIterator implements Iterator<Entry<String, List<String>>> {
+
+        private final Iterator<Entry<String, List<String>>> overrideIterator = override.entrySet().iterator();
+        private final Iterator<Entry<String, List<String>>> baseIterator = base.entrySet().iterator();
+        private Entry<String, List<String>> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+
+            if (overrideIterator.hasNext()) {
+                next = overrideIterator.next();
+                return true;
+            }
+
+            while (baseIterator.hasNext()) {
+                final Entry<String, List<String>> entry = baseIterator.next();
+                if (!isShadowed(entry.getKey())) {
+                    next = entry;
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public Entry<String, List<String>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final Entry<String, List<String>> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.goodforgod.http.common;
+
+/**
+ * Fixed-point parser for quality values (weights) used in content negotiation headers, qvalue is
+ * represented as integer in thousandths from 0 to {@link #MAX}.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#section-12.4.2">RFC 9110</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class QualityValues {
+
+    static final int MAX = 1000;
+    static final int INVALID = -1;
+
+    private QualityValues() {}
+
+    /**
+     * @param value tokenizer to parse qvalue from
+     * @param start of qvalue inclusive
+     * @param end   of qvalue exclusive
+     * @return qvalue in thousandths or {@link #INVALID}
+     */
+    static int parse(HeaderTokenizer value, int start, int end) {
+        final int length = end - start;
+        if (length < 1 || length > 5) {
+            return INVALID;
+        }
+
+        final char first = value.charAt(start);
+        if (first != '0' && first != '1') {
+            return INVALID;
+        } else if (length == 1) {
+            return (first - '0') * MAX;
+        } else if (value.charAt(start + 1) != '.') {
+            return INVALID;
+        }
+
+        int result = 0;
+        int multiplier = 100;
+        for (int i = start + 2; i < end; i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+
+            result += digit * multiplier;
+            multiplier /= 10;
+        }
+
+        if (first == '1') {
+            return (result == 0)
+                    ? MAX
+                    : INVALID;
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads parameters of current list element and finds {@code q} parameter like in
+     * {@code ;level=1;q=0.5}
+     *
+     * @param tokenizer positioned after list element value
+     * @return qvalue in thousandths, {@link #MAX} if q parameter is absent or {@link #INVALID}
+     */
+    static int parseWeight(HeaderTokenizer tokenizer) {
+        int weight = MAX;
+        while (tokenizer.nextParameter()) {
+            if (tokenizer.nameEqualsIgnoreCase("q")) {
+                weight = parse(tokenizer, tokenizer.start(), tokenizer.end());
+            }
+        }
+
+        return weight;
+    }
+}
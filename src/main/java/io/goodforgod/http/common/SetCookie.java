@@ -0,0 +1,368 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents {@link HttpHeaders#SET_COOKIE} header value that is rendered directly into
+ * {@link StringBuilder} or bytes.
+ * <a href="https://www.rfc-editor.org/rfc/rfc6265#section-4.1">RFC 6265</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class SetCookie {
+
+    public enum SameSite {
+
+        STRICT("Strict"),
+        LAX("Lax"),
+        NONE("None");
+
+        private final String value;
+
+        SameSite(String value) {
+            this.value = value;
+        }
+
+        @NotNull
+        public String value() {
+            return value;
+        }
+    }
+
+    private static final long ABSENT = Long.MIN_VALUE;
+
+    private final String name;
+    private final String value;
+    private final String domain;
+    private final String path;
+    private final long maxAge;
+    private final long expires;
+    private final boolean secure;
+    private final boolean httpOnly;
+    private final boolean partitioned;
+    private final SameSite sameSite;
+
+    private SetCookie(Builder builder) {
+        this.name = builder.name;
+        this.value = builder.value;
+        this.domain = builder.domain;
+        this.path = builder.path;
+        this.maxAge = builder.maxAge;
+        this.expires = builder.expires;
+        this.secure = builder.secure;
+        this.httpOnly = builder.httpOnly;
+        this.partitioned = builder.partitioned;
+        this.sameSite = builder.sameSite;
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private final String value;
+        private String domain;
+        private String path;
+        private long maxAge = ABSENT;
+        private long expires = ABSENT;
+        private boolean secure;
+        private boolean httpOnly;
+        private boolean partitioned;
+        private SameSite sameSite;
+
+        private Builder(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @NotNull
+        public Builder domain(@Nullable String domain) {
+            this.domain = (domain == null)
+                    ? null
+                    : requireAttributeValue(domain, "Domain");
+            return this;
+        }
+
+        @NotNull
+        public Builder path(@Nullable String path) {
+            this.path = (path == null)
+                    ? null
+                    : requireAttributeValue(path, "Path");
+            return this;
+        }
+
+        /**
+         * @param seconds until cookie expires, zero or negative value expires cookie immediately
+         * @return self
+         */
+        @NotNull
+        public Builder maxAge(long seconds) {
+            this.maxAge = seconds;
+            return this;
+        }
+
+        /**
+         * @param epochMillis when cookie expires
+         * @return self
+         */
+        @NotNull
+        public Builder expires(long epochMillis) {
+            this.expires = epochMillis;
+            return this;
+        }
+
+        @NotNull
+        public Builder secure(boolean secure) {
+            this.secure = secure;
+            return this;
+        }
+
+        @NotNull
+        public Builder httpOnly(boolean httpOnly) {
+            this.httpOnly = httpOnly;
+            return this;
+        }
+
+        /**
+         * @param partitioned to store cookie using partitioned storage (CHIPS), requires Secure attribute
+         * @return self
+         */
+        @NotNull
+        public Builder partitioned(boolean partitioned) {
+            this.partitioned = partitioned;
+            return this;
+        }
+
+        /**
+         * @param sameSite policy of the cookie, {@link SameSite#NONE} requires Secure attribute
+         * @return self
+         */
+        @NotNull
+        public Builder sameSite(@Nullable SameSite sameSite) {
+            this.sameSite = sameSite;
+            return this;
+        }
+
+        /**
+         * @return cookie
+         * @throws IllegalStateException if Partitioned or SameSite=None is set without Secure
+         */
+        @NotNull
+        public SetCookie build() {
+            if (!secure) {
+                if (partitioned) {
+                    throw new IllegalStateException("Partitioned cookie must be Secure: " + name);
+                } else if (sameSite == SameSite.NONE) {
+                    throw new IllegalStateException("SameSite=None cookie must be Secure: " + name);
+                }
+            }
+
+            return new SetCookie(this);
+        }
+    }
+
+    /**
+     * @param name  of the cookie, must be a token
+     * @param value of the cookie, must contain only cookie-octets
+     * @return builder
+     */
+    @NotNull
+    public static Builder builder(@NotNull String name, @NotNull String value) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(value, "value");
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Cookie name can't be empty");
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c <= ' ' || c >= 0x7F || "()<>@,;:\\\"/[]?={}".indexOf(c) != -1) {
+                throw new IllegalArgumentException("Cookie name contains illegal character at " + i + ": " + name);
+            }
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c <= ' ' || c >= 0x7F || c == '"' || c == ',' || c == ';' || c == '\\') {
+                throw new IllegalArgumentException("Cookie value contains illegal character at " + i + ": " + value);
+            }
+        }
+
+        return new Builder(name, value);
+    }
+
+    private static String requireAttributeValue(String value, String attribute) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < ' ' || c >= 0x7F || c == ';') {
+                throw new IllegalArgumentException(attribute + " contains illegal character at " + i + ": " + value);
+            }
+        }
+
+        return value;
+    }
+
+    @NotNull
+    public String name() {
+        return name;
+    }
+
+    @NotNull
+    public String value() {
+        return value;
+    }
+
+    /**
+     * @param builder to append header value to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null);
+    }
+
+    /**
+     * @param buffer to write US-ASCII header value to
+     * @throws java.nio.BufferOverflowException if buffer has not enough space remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        render(null, buffer);
+    }
+
+    /**
+     * @return US-ASCII header value
+     */
+    public byte @NotNull [] toBytes() {
+        final ByteBuffer buffer = ByteBuffer.allocate(estimateLength());
+        render(null, buffer);
+        if (buffer.hasRemaining()) {
+            final byte[] bytes = new byte[buffer.position()];
+            buffer.flip().get(bytes);
+            return bytes;
+        }
+
+        return buffer.array();
+    }
+
+    private int estimateLength() {
+        int length = name.length() + 1 + value.length();
+        if (domain != null) {
+            length += 9 + domain.length();
+        }
+        if (path != null) {
+            length += 7 + path.length();
+        }
+        if (maxAge != ABSENT) {
+            length += 10 + 20;
+        }
+        if (expires != ABSENT) {
+            length += 10 + HttpDate.LENGTH;
+        }
+        if (sameSite != null) {
+            length += 11 + sameSite.value.length();
+        }
+        return length + 8 + 10 + 13;
+    }
+
+    /**
+     * Either builder or buffer is specified, so the same rendering code serves both
+     */
+    private void render(StringBuilder builder, ByteBuffer buffer) {
+        put(builder, buffer, name);
+        put(builder, buffer, "=");
+        put(builder, buffer, value);
+        if (domain != null) {
+            put(builder, buffer, "; Domain=");
+            put(builder, buffer, domain);
+        }
+        if (path != null) {
+            put(builder, buffer, "; Path=");
+            put(builder, buffer, path);
+        }
+        if (maxAge != ABSENT) {
+            put(builder, buffer, "; Max-Age=");
+            putNumber(builder, buffer, maxAge);
+        }
+        if (expires != ABSENT) {
+            put(builder, buffer, "; Expires=");
+            if (builder != null) {
+                HttpDate.format(expires, builder);
+            } else {
+                final byte[] date = new byte[HttpDate.LENGTH];
+                HttpDate.format(expires, date, 0);
+                buffer.put(date);
+            }
+        }
+        if (secure) {
+            put(builder, buffer, "; Secure");
+        }
+        if (httpOnly) {
+            put(builder, buffer, "; HttpOnly");
+        }
+        if (sameSite != null) {
+            put(builder, buffer, "; SameSite=");
+            put(builder, buffer, sameSite.value);
+        }
+        if (partitioned) {
+            put(builder, buffer, "; Partitioned");
+        }
+    }
+
+    private static void put(StringBuilder builder, ByteBuffer buffer, String value) {
+        if (builder != null) {
+            builder.append(value);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        }
+    }
+
+    private static void putNumber(StringBuilder builder, ByteBuffer buffer, long number) {
+        if (builder != null) {
+            builder.append(number);
+        } else {
+            if (number < 0) {
+                buffer.put((byte) '-');
+                number = -number;
+            }
+
+            long divisor = 1;
+            while (divisor <= number / 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                buffer.put((byte) ('0' + number / divisor % 10));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        SetCookie setCookie = (SetCookie) o;
+        return maxAge == setCookie.maxAge && expires == setCookie.expires && secure == setCookie.secure
+                && httpOnly == setCookie.httpOnly && partitioned == setCookie.partitioned && name.equals(setCookie.name)
+                && value.equals(setCookie.value) && Objects.equals(domain, setCookie.domain)
+                && Objects.equals(path, setCookie.path) && sameSite == setCookie.sameSite;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, value, domain, path, maxAge, expires, secure, httpOnly, partitioned, sameSite);
+    }
+
+    /**
+     * @return header value representation
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(estimateLength());
+        render(builder, null);
+        return builder.toString();
+    }
+}
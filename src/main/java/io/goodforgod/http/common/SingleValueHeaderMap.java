@@ -0,0 +1,92 @@
+package io.goodforgod.http.common;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only map view over multi value headers that exposes only first value of each header and reads
+ * through to the underlying map without copying.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class SingleValueHeaderMap extends AbstractMap<String, String> {
+
+    private final Map<String, List<String>> multiHeaderMap;
+
+    private Set<Entry<String, String>> entrySet;
+
+    SingleValueHeaderMap(@NotNull Map<String, List<String>> multiHeaderMap) {
+        this.multiHeaderMap = multiHeaderMap;
+    }
+
+    @Override
+    public String get(Object key) {
+        final List<String> values = multiHeaderMap.get(key);
+        return (values == null)
+                ? null
+                : values.get(0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return multiHeaderMap.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return multiHeaderMap.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return multiHeaderMap.isEmpty();
+    }
+
+    @NotNull
+    @Override
+    public Set<String> keySet() {
+        return multiHeaderMap.keySet();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        Set<Entry<String, String>> entries = this.entrySet;
+        if (entries == null) {
+            entries = new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    final Iterator<Entry<String, List<String>>> iterator = multiHeaderMap.entrySet().iterator();
+                    return new Iterator<>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            final Entry<String, List<String>> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get(0));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return multiHeaderMap.size();
+                }
+            };
+            this.entrySet = entries;
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,322 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RFC 8941 Structured Field dictionary of lowercase keys to items and inner lists. Parsed dictionary
+ * validates the whole field upfront without allocations, keys are compared in place and members are
+ * materialized only when they are accessed. Duplicate keys keep position of first occurrence and
+ * value of the last one.
+ * <a href="https://www.rfc-editor.org/rfc/rfc8941#section-3.2">RFC 8941</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StructuredDictionary {
+
+    private static final StructuredDictionary EMPTY = new StructuredDictionary(null, null, null, new String[0],
+            new StructuredItem[0]);
+
+    private final CharSequence chars;
+    private final byte[] bytes;
+    /**
+     * Key start, key end and value start per member, value start is negative (-start - 1) for members
+     * without value that are boolean true with parameters
+     */
+    private final int[] members;
+    private final String[] keys;
+    private final StructuredItem[] values;
+
+    private StructuredDictionary(CharSequence chars, byte[] bytes, int[] members, String[] keys, StructuredItem[] values) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.members = members;
+        this.keys = keys;
+        this.values = values;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, StructuredItem> members = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        /**
+         * @param key   lowercase key
+         * @param value item or inner list, replaces value of existing key
+         * @return self
+         */
+        @NotNull
+        public Builder put(@NotNull String key, @NotNull StructuredItem value) {
+            StructuredParameters.checkKey(key);
+            members.put(key, value);
+            return this;
+        }
+
+        @NotNull
+        public StructuredDictionary build() {
+            return members.isEmpty()
+                    ? EMPTY
+                    : new StructuredDictionary(null, null, null, members.keySet().toArray(String[]::new),
+                            members.values().toArray(StructuredItem[]::new));
+        }
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @NotNull
+    public static StructuredDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param value field value, empty value is empty dictionary
+     * @return dictionary or null if value is absent or is not valid dictionary
+     */
+    @Nullable
+    public static StructuredDictionary parse(@Nullable CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String source = value.toString();
+        return parse(source, null, source.length());
+    }
+
+    /**
+     * @param bytes  US-ASCII field value, region is copied
+     * @param offset of value
+     * @param length of value
+     * @return dictionary or null if value is not valid dictionary
+     */
+    @Nullable
+    public static StructuredDictionary parse(byte @NotNull [] bytes, int offset, int length) {
+        return parse(null, Arrays.copyOfRange(bytes, offset, offset + length), length);
+    }
+
+    private static StructuredDictionary parse(CharSequence chars, byte[] bytes, int length) {
+        final StructuredFieldParser parser = new StructuredFieldParser(chars, bytes, 0, length);
+        try {
+            parser.skipSpaces();
+            if (!parser.hasRemaining()) {
+                return EMPTY;
+            }
+
+            int[] members = new int[12];
+            int size = 0;
+            do {
+                parser.key();
+                final int keyStart = parser.keyStart();
+                final int keyEnd = parser.keyEnd();
+                final int valueStart;
+                if (parser.consume('=')) {
+                    valueStart = parser.position();
+                    parser.itemOrInnerList(false);
+                } else {
+                    valueStart = -parser.position() - 1;
+                    parser.parameters(false);
+                }
+
+                int member = 0;
+                while (member < size
+                        && !parser.regionEquals(members[member * 3], members[member * 3 + 1], keyStart, keyEnd)) {
+                    member++;
+                }
+                if (member == size) {
+                    if (size * 3 == members.length) {
+                        members = Arrays.copyOf(members, members.length * 2);
+                    }
+                    members[size * 3] = keyStart;
+                    members[size * 3 + 1] = keyEnd;
+                    size++;
+                }
+                members[member * 3 + 2] = valueStart;
+            } while (parser.nextMember());
+            parser.end();
+
+            return new StructuredDictionary(chars, bytes, Arrays.copyOf(members, size * 3), new String[size],
+                    new StructuredItem[size]);
+        } catch (RuntimeException e) {
+            if (e == StructuredFieldParser.INVALID) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * @param index of member
+     * @return key of member
+     */
+    @NotNull
+    public String key(int index) {
+        String key = keys[index];
+        if (key == null) {
+            key = parser(0).key(members[index * 3], members[index * 3 + 1]);
+            keys[index] = key;
+        }
+        return key;
+    }
+
+    /**
+     * @param index of member
+     * @return item or inner list of member, parsed on first access
+     */
+    @NotNull
+    public StructuredItem value(int index) {
+        StructuredItem value = values[index];
+        if (value == null) {
+            final int valueStart = members[index * 3 + 2];
+            if (valueStart >= 0) {
+                value = parser(valueStart).itemOrInnerList(true);
+            } else {
+                final StructuredParameters parameters = parser(-valueStart - 1).parameters(true);
+                value = parameters.isEmpty()
+                        ? StructuredItem.TRUE
+                        : StructuredItem.TRUE.withParameters(parameters);
+            }
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @param key of member
+     * @return item or inner list of member or null if absent
+     */
+    @Nullable
+    public StructuredItem get(@NotNull String key) {
+        final int index = indexOf(key);
+        return (index == -1)
+                ? null
+                : value(index);
+    }
+
+    public boolean contains(@NotNull String key) {
+        return indexOf(key) != -1;
+    }
+
+    private int indexOf(String key) {
+        if (members == null) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        final StructuredFieldParser parser = parser(0);
+        for (int i = 0; i < keys.length; i++) {
+            if (parser.regionEquals(members[i * 3], members[i * 3 + 1], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return all members in order, parsing them if required
+     */
+    @NotNull
+    public Map<String, StructuredItem> toMap() {
+        final Map<String, StructuredItem> map = new LinkedHashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(key(i), value(i));
+        }
+        return map;
+    }
+
+    /**
+     * @return keys in order
+     */
+    @NotNull
+    public List<String> keys() {
+        final List<String> result = new ArrayList<>(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            result.add(key(i));
+        }
+        return result;
+    }
+
+    private StructuredFieldParser parser(int position) {
+        return (chars != null)
+                ? new StructuredFieldParser(chars, null, position, chars.length())
+                : new StructuredFieldParser(null, bytes, position, bytes.length);
+    }
+
+    /**
+     * @param builder to append serialized dictionary to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null);
+    }
+
+    /**
+     * @param buffer to write US-ASCII serialized dictionary to
+     * @throws java.nio.BufferOverflowException if buffer has not enough space remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        render(null, buffer);
+    }
+
+    private void render(StringBuilder builder, ByteBuffer buffer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                StructuredItem.put(builder, buffer, ", ");
+            }
+
+            StructuredItem.put(builder, buffer, key(i));
+            final StructuredItem value = value(i);
+            if (value.isTrue()) {
+                value.parameters().render(builder, buffer);
+            } else {
+                StructuredItem.put(builder, buffer, '=');
+                value.render(builder, buffer);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return toMap().equals(((StructuredDictionary) o).toMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return toMap().hashCode();
+    }
+
+    /**
+     * @return serialized dictionary
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        render(builder, null);
+        return builder.toString();
+    }
+}
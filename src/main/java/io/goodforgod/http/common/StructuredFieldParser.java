@@ -0,0 +1,417 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Cursor-based RFC 8941 parser over {@link CharSequence} or bytes. Each production can either
+ * materialize the value or only validate and skip it, so containers can validate the whole field
+ * without allocations and materialize members on access.
+ * <a href="https://www.rfc-editor.org/rfc/rfc8941#section-4.2">RFC 8941</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class StructuredFieldParser {
+
+    /**
+     * Thrown on invalid input, stackless singleton cause invalid fields are ignored and not reported
+     */
+    static final RuntimeException INVALID = new RuntimeException("Invalid structured field", null, false, false) {};
+
+    private static final long MAX_INTEGER = 999_999_999_999_999L;
+
+    private final CharSequence chars;
+    private final byte[] bytes;
+    private final int limit;
+
+    private int position;
+    private int keyStart;
+    private int keyEnd;
+
+    StructuredFieldParser(CharSequence chars, byte[] bytes, int position, int limit) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int keyStart() {
+        return keyStart;
+    }
+
+    int keyEnd() {
+        return keyEnd;
+    }
+
+    char charAt(int index) {
+        return (chars != null)
+                ? chars.charAt(index)
+                : (char) (bytes[index] & 0xFF);
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    boolean consume(char c) {
+        if (position < limit && charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    void skipSpaces() {
+        while (position < limit && charAt(position) == ' ') {
+            position++;
+        }
+    }
+
+    void skipOws() {
+        while (position < limit && (charAt(position) == ' ' || charAt(position) == '\t')) {
+            position++;
+        }
+    }
+
+    /**
+     * Skips trailing spaces and requires end of input
+     */
+    void end() {
+        skipSpaces();
+        if (position != limit) {
+            throw INVALID;
+        }
+    }
+
+    /**
+     * Consumes list member separator after member
+     *
+     * @return true if next member follows, false if input ended
+     */
+    boolean nextMember() {
+        skipOws();
+        if (position == limit) {
+            return false;
+        }
+        if (!consume(',')) {
+            throw INVALID;
+        }
+        skipOws();
+        if (position == limit) {
+            throw INVALID;
+        }
+        return true;
+    }
+
+    /**
+     * @return item or inner list or null if materialize is false
+     */
+    StructuredItem itemOrInnerList(boolean materialize) {
+        if (position < limit && charAt(position) == '(') {
+            return innerList(materialize);
+        }
+        return item(materialize);
+    }
+
+    StructuredItem item(boolean materialize) {
+        final StructuredItem bare = bareItem(materialize);
+        final StructuredParameters parameters = parameters(materialize);
+        return (materialize && !parameters.isEmpty())
+                ? bare.withParameters(parameters)
+                : bare;
+    }
+
+    private StructuredItem innerList(boolean materialize) {
+        position++;
+        final List<StructuredItem> items = materialize
+                ? new ArrayList<>(4)
+                : null;
+        while (true) {
+            skipSpaces();
+            if (consume(')')) {
+                final StructuredParameters parameters = parameters(materialize);
+                return materialize
+                        ? StructuredItem.ofInnerListUnchecked(items, parameters)
+                        : null;
+            }
+
+            final StructuredItem item = item(materialize);
+            if (materialize) {
+                items.add(item);
+            }
+            if (position >= limit || (charAt(position) != ' ' && charAt(position) != ')')) {
+                throw INVALID;
+            }
+        }
+    }
+
+    /**
+     * @return parameters, empty when materialize is false
+     */
+    StructuredParameters parameters(boolean materialize) {
+        StructuredParameters.Builder builder = null;
+        while (consume(';')) {
+            skipSpaces();
+            key();
+            final int start = keyStart;
+            final int end = keyEnd;
+            final StructuredItem value = consume('=')
+                    ? bareItem(materialize)
+                    : StructuredItem.TRUE;
+            if (materialize) {
+                if (builder == null) {
+                    builder = StructuredParameters.builder();
+                }
+                builder.putUnchecked(substring(start, end), value);
+            }
+        }
+
+        return (builder == null)
+                ? StructuredParameters.empty()
+                : builder.build();
+    }
+
+    /**
+     * Reads key region available via {@link #keyStart()} and {@link #keyEnd()}
+     */
+    void key() {
+        if (position >= limit) {
+            throw INVALID;
+        }
+
+        final char first = charAt(position);
+        if (!(first >= 'a' && first <= 'z') && first != '*') {
+            throw INVALID;
+        }
+
+        keyStart = position++;
+        while (position < limit && isKeyChar(charAt(position))) {
+            position++;
+        }
+        keyEnd = position;
+    }
+
+    String key(int start, int end) {
+        return substring(start, end);
+    }
+
+    boolean regionEquals(int start, int end, CharSequence value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean regionEquals(int start, int end, int otherStart, int otherEnd) {
+        if (end - start != otherEnd - otherStart) {
+            return false;
+        }
+        for (int i = 0; i < end - start; i++) {
+            if (charAt(start + i) != charAt(otherStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isKeyChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-' || c == '.' || c == '*';
+    }
+
+    private StructuredItem bareItem(boolean materialize) {
+        if (position >= limit) {
+            throw INVALID;
+        }
+
+        final char c = charAt(position);
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            return number(materialize);
+        } else if (c == '"') {
+            return string(materialize);
+        } else if (c == ':') {
+            return byteSequence(materialize);
+        } else if (c == '?') {
+            return bool();
+        } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '*') {
+            return token(materialize);
+        }
+
+        throw INVALID;
+    }
+
+    private StructuredItem number(boolean materialize) {
+        final boolean negative = consume('-');
+        long integer = 0;
+        int integerDigits = 0;
+        while (position < limit && isDigit(charAt(position))) {
+            integer = integer * 10 + (charAt(position++) - '0');
+            if (++integerDigits > 15) {
+                throw INVALID;
+            }
+        }
+        if (integerDigits == 0) {
+            throw INVALID;
+        }
+
+        if (!consume('.')) {
+            final long value = negative
+                    ? -integer
+                    : integer;
+            return materialize
+                    ? StructuredItem.ofInteger(value)
+                    : null;
+        }
+
+        if (integerDigits > 12) {
+            throw INVALID;
+        }
+
+        long fraction = 0;
+        int fractionDigits = 0;
+        while (position < limit && isDigit(charAt(position))) {
+            fraction = fraction * 10 + (charAt(position++) - '0');
+            if (++fractionDigits > 3) {
+                throw INVALID;
+            }
+        }
+        if (fractionDigits == 0) {
+            throw INVALID;
+        }
+
+        for (int i = fractionDigits; i < 3; i++) {
+            fraction *= 10;
+        }
+
+        final long thousandths = integer * 1000 + fraction;
+        return materialize
+                ? StructuredItem.ofThousandths(negative
+                        ? -thousandths
+                        : thousandths)
+                : null;
+    }
+
+    private StructuredItem string(boolean materialize) {
+        position++;
+        final int start = position;
+        boolean escaped = false;
+        while (position < limit) {
+            final char c = charAt(position++);
+            if (c == '\\') {
+                if (position >= limit) {
+                    throw INVALID;
+                }
+                final char next = charAt(position++);
+                if (next != '"' && next != '\\') {
+                    throw INVALID;
+                }
+                escaped = true;
+            } else if (c == '"') {
+                if (!materialize) {
+                    return null;
+                }
+
+                if (!escaped) {
+                    return StructuredItem.ofStringUnchecked(substring(start, position - 1));
+                }
+
+                final StringBuilder builder = new StringBuilder(position - start);
+                for (int i = start; i < position - 1; i++) {
+                    final char ch = charAt(i);
+                    builder.append((ch == '\\')
+                            ? charAt(++i)
+                            : ch);
+                }
+                return StructuredItem.ofStringUnchecked(builder.toString());
+            } else if (c < 0x20 || c > 0x7E) {
+                throw INVALID;
+            }
+        }
+
+        throw INVALID;
+    }
+
+    private StructuredItem token(boolean materialize) {
+        final int start = position++;
+        while (position < limit) {
+            final char c = charAt(position);
+            if (HeaderTokenizer.isTokenChar(c) || c == ':' || c == '/') {
+                position++;
+            } else {
+                break;
+            }
+        }
+
+        return materialize
+                ? StructuredItem.ofTokenUnchecked(substring(start, position))
+                : null;
+    }
+
+    private StructuredItem byteSequence(boolean materialize) {
+        position++;
+        final int start = position;
+        while (position < limit) {
+            final char c = charAt(position);
+            if (c == ':') {
+                final String encoded = substring(start, position++);
+                try {
+                    // decoded even when not materialized cause invalid base64 makes whole field invalid
+                    final byte[] decoded = Base64.getDecoder().decode(encoded);
+                    return materialize
+                            ? StructuredItem.ofBytesUnchecked(decoded)
+                            : null;
+                } catch (IllegalArgumentException e) {
+                    throw INVALID;
+                }
+            } else if (!isBase64Char(c)) {
+                throw INVALID;
+            }
+            position++;
+        }
+
+        throw INVALID;
+    }
+
+    private StructuredItem bool() {
+        position++;
+        if (consume('1')) {
+            return StructuredItem.TRUE;
+        } else if (consume('0')) {
+            return StructuredItem.FALSE;
+        }
+        throw INVALID;
+    }
+
+    private String substring(int from, int to) {
+        return (chars != null)
+                ? chars.subSequence(from, to).toString()
+                : new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBase64Char(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '/' || c == '=';
+    }
+
+    static long checkInteger(long value) {
+        if (value > MAX_INTEGER || value < -MAX_INTEGER) {
+            throw new IllegalArgumentException("Integer must be in range [-999999999999999, 999999999999999], but was: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,435 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RFC 8941 Structured Field item or inner list with parameters, rendered directly into
+ * {@link StringBuilder} or bytes. Decimal is kept as exact amount of thousandths.
+ * <a href="https://www.rfc-editor.org/rfc/rfc8941#section-3.3">RFC 8941</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StructuredItem {
+
+    public enum Type {
+        INTEGER,
+        DECIMAL,
+        STRING,
+        TOKEN,
+        BYTE_SEQUENCE,
+        BOOLEAN,
+        INNER_LIST
+    }
+
+    static final StructuredItem TRUE = new StructuredItem(Type.BOOLEAN, 1, null, StructuredParameters.empty());
+    static final StructuredItem FALSE = new StructuredItem(Type.BOOLEAN, 0, null, StructuredParameters.empty());
+
+    private static final long MAX_DECIMAL_THOUSANDTHS = 999_999_999_999_999L;
+
+    private final Type type;
+    private final long number;
+    private final Object value;
+    private final StructuredParameters parameters;
+
+    private StructuredItem(Type type, long number, Object value, StructuredParameters parameters) {
+        this.type = type;
+        this.number = number;
+        this.value = value;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @param value field value
+     * @return item or null if value is absent or is not valid item
+     */
+    @Nullable
+    public static StructuredItem parse(@Nullable CharSequence value) {
+        return (value == null)
+                ? null
+                : parse(new StructuredFieldParser(value, null, 0, value.length()));
+    }
+
+    /**
+     * @param bytes  US-ASCII field value
+     * @param offset of value
+     * @param length of value
+     * @return item or null if value is not valid item
+     */
+    @Nullable
+    public static StructuredItem parse(byte @NotNull [] bytes, int offset, int length) {
+        return parse(new StructuredFieldParser(null, bytes, offset, offset + length));
+    }
+
+    private static StructuredItem parse(StructuredFieldParser parser) {
+        try {
+            parser.skipSpaces();
+            final StructuredItem item = parser.item(true);
+            parser.end();
+            return item;
+        } catch (RuntimeException e) {
+            if (e == StructuredFieldParser.INVALID) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param value in range of 15 digits
+     * @return integer item
+     */
+    @NotNull
+    public static StructuredItem ofInteger(long value) {
+        return new StructuredItem(Type.INTEGER, StructuredFieldParser.checkInteger(value), null, StructuredParameters.empty());
+    }
+
+    /**
+     * @param value with at most 12 integer digits, rounded half to even to 3 fractional digits
+     * @return decimal item
+     */
+    @NotNull
+    public static StructuredItem ofDecimal(double value) {
+        final double thousandths = Math.rint(value * 1000);
+        if (Double.isNaN(thousandths) || Math.abs(thousandths) > MAX_DECIMAL_THOUSANDTHS) {
+            throw new IllegalArgumentException("Decimal must have at most 12 integer digits, but was: " + value);
+        }
+        return ofThousandths((long) thousandths);
+    }
+
+    static StructuredItem ofThousandths(long thousandths) {
+        return new StructuredItem(Type.DECIMAL, thousandths, null, StructuredParameters.empty());
+    }
+
+    /**
+     * @param value with only printable US-ASCII characters
+     * @return string item
+     */
+    @NotNull
+    public static StructuredItem ofString(@NotNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E) {
+                throw new IllegalArgumentException("String contains illegal character at " + i + ": " + value);
+            }
+        }
+        return ofStringUnchecked(value);
+    }
+
+    static StructuredItem ofStringUnchecked(String value) {
+        return new StructuredItem(Type.STRING, 0, value, StructuredParameters.empty());
+    }
+
+    /**
+     * @param value starting with ALPHA or '*' followed by tchar, ':' or '/'
+     * @return token item
+     */
+    @NotNull
+    public static StructuredItem ofToken(@NotNull String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Token can't be empty");
+        }
+
+        final char first = value.charAt(0);
+        if (!(first >= 'a' && first <= 'z') && !(first >= 'A' && first <= 'Z') && first != '*') {
+            throw new IllegalArgumentException("Token must start with ALPHA or '*': " + value);
+        }
+        for (int i = 1; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!HeaderTokenizer.isTokenChar(c) && c != ':' && c != '/') {
+                throw new IllegalArgumentException("Token contains illegal character at " + i + ": " + value);
+            }
+        }
+        return ofTokenUnchecked(value);
+    }
+
+    static StructuredItem ofTokenUnchecked(String value) {
+        return new StructuredItem(Type.TOKEN, 0, value, StructuredParameters.empty());
+    }
+
+    @NotNull
+    public static StructuredItem ofBytes(byte @NotNull [] value) {
+        return ofBytesUnchecked(value.clone());
+    }
+
+    static StructuredItem ofBytesUnchecked(byte[] value) {
+        return new StructuredItem(Type.BYTE_SEQUENCE, 0, value, StructuredParameters.empty());
+    }
+
+    @NotNull
+    public static StructuredItem ofBoolean(boolean value) {
+        return value
+                ? TRUE
+                : FALSE;
+    }
+
+    /**
+     * @param items of inner list, items can't be inner lists
+     * @return inner list
+     */
+    @NotNull
+    public static StructuredItem ofInnerList(@NotNull List<StructuredItem> items) {
+        for (StructuredItem item : items) {
+            if (item.type == Type.INNER_LIST) {
+                throw new IllegalArgumentException("Inner list can't contain inner list");
+            }
+        }
+        return ofInnerListUnchecked(List.copyOf(items), StructuredParameters.empty());
+    }
+
+    static StructuredItem ofInnerListUnchecked(List<StructuredItem> items, StructuredParameters parameters) {
+        return new StructuredItem(Type.INNER_LIST, 0, List.copyOf(items), parameters);
+    }
+
+    /**
+     * @param parameters to attach
+     * @return item with the same value and given parameters
+     */
+    @NotNull
+    public StructuredItem withParameters(@NotNull StructuredParameters parameters) {
+        return new StructuredItem(type, number, value, parameters);
+    }
+
+    @NotNull
+    public Type type() {
+        return type;
+    }
+
+    @NotNull
+    public StructuredParameters parameters() {
+        return parameters;
+    }
+
+    /**
+     * @return integer value
+     * @throws IllegalStateException if item is not {@link Type#INTEGER}
+     */
+    public long longValue() {
+        checkType(Type.INTEGER);
+        return number;
+    }
+
+    /**
+     * @return integer or decimal value
+     * @throws IllegalStateException if item is not {@link Type#INTEGER} or {@link Type#DECIMAL}
+     */
+    public double doubleValue() {
+        if (type == Type.INTEGER) {
+            return number;
+        }
+        checkType(Type.DECIMAL);
+        return number / 1000.0;
+    }
+
+    /**
+     * @return string or token value
+     * @throws IllegalStateException if item is not {@link Type#STRING} or {@link Type#TOKEN}
+     */
+    @NotNull
+    public String stringValue() {
+        if (type != Type.TOKEN) {
+            checkType(Type.STRING);
+        }
+        return (String) value;
+    }
+
+    /**
+     * @return copy of byte sequence value
+     * @throws IllegalStateException if item is not {@link Type#BYTE_SEQUENCE}
+     */
+    public byte @NotNull [] bytesValue() {
+        checkType(Type.BYTE_SEQUENCE);
+        return ((byte[]) value).clone();
+    }
+
+    /**
+     * @return boolean value
+     * @throws IllegalStateException if item is not {@link Type#BOOLEAN}
+     */
+    public boolean booleanValue() {
+        checkType(Type.BOOLEAN);
+        return number == 1;
+    }
+
+    /**
+     * @return inner list items
+     * @throws IllegalStateException if item is not {@link Type#INNER_LIST}
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    public List<StructuredItem> innerList() {
+        checkType(Type.INNER_LIST);
+        return (List<StructuredItem>) value;
+    }
+
+    /**
+     * @return true if item is boolean true, such values are omitted when serialized as parameter or
+     *             dictionary member value
+     */
+    boolean isTrue() {
+        return type == Type.BOOLEAN && number == 1;
+    }
+
+    private void checkType(Type expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Item is " + type + " but expected " + expected);
+        }
+    }
+
+    /**
+     * @param builder to append serialized item to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null);
+    }
+
+    /**
+     * @param buffer to write US-ASCII serialized item to
+     * @throws java.nio.BufferOverflowException if buffer has not enough space remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        render(null, buffer);
+    }
+
+    /**
+     * Either builder or buffer is specified, so the same rendering code serves both
+     */
+    void render(StringBuilder builder, ByteBuffer buffer) {
+        switch (type) {
+            case INTEGER -> putNumber(builder, buffer, number);
+            case DECIMAL -> {
+                if (number < 0) {
+                    put(builder, buffer, '-');
+                }
+                final long abs = Math.abs(number);
+                putNumber(builder, buffer, abs / 1000);
+                put(builder, buffer, '.');
+                // trailing zeroes are omitted but at least one fractional digit is required
+                long fraction = abs % 1000;
+                for (long divisor = 100; divisor > 0; divisor /= 10) {
+                    put(builder, buffer, (char) ('0' + fraction / divisor));
+                    fraction %= divisor;
+                    if (fraction == 0) {
+                        break;
+                    }
+                }
+            }
+            case STRING -> {
+                final String string = (String) value;
+                put(builder, buffer, '"');
+                for (int i = 0; i < string.length(); i++) {
+                    final char c = string.charAt(i);
+                    if (c == '"' || c == '\\') {
+                        put(builder, buffer, '\\');
+                    }
+                    put(builder, buffer, c);
+                }
+                put(builder, buffer, '"');
+            }
+            case TOKEN -> put(builder, buffer, (String) value);
+            case BYTE_SEQUENCE -> {
+                put(builder, buffer, ':');
+                final byte[] encoded = Base64.getEncoder().encode((byte[]) value);
+                if (builder != null) {
+                    for (byte b : encoded) {
+                        builder.append((char) b);
+                    }
+                } else {
+                    buffer.put(encoded);
+                }
+                put(builder, buffer, ':');
+            }
+            case BOOLEAN -> put(builder, buffer, (number == 1)
+                    ? "?1"
+                    : "?0");
+            case INNER_LIST -> {
+                put(builder, buffer, '(');
+                final List<StructuredItem> items = innerList();
+                for (int i = 0; i < items.size(); i++) {
+                    if (i > 0) {
+                        put(builder, buffer, ' ');
+                    }
+                    items.get(i).render(builder, buffer);
+                }
+                put(builder, buffer, ')');
+            }
+        }
+
+        parameters.render(builder, buffer);
+    }
+
+    static void put(StringBuilder builder, ByteBuffer buffer, String value) {
+        if (builder != null) {
+            builder.append(value);
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                buffer.put((byte) value.charAt(i));
+            }
+        }
+    }
+
+    static void put(StringBuilder builder, ByteBuffer buffer, char c) {
+        if (builder != null) {
+            builder.append(c);
+        } else {
+            buffer.put((byte) c);
+        }
+    }
+
+    private static void putNumber(StringBuilder builder, ByteBuffer buffer, long number) {
+        if (builder != null) {
+            builder.append(number);
+        } else {
+            if (number < 0) {
+                buffer.put((byte) '-');
+                number = -number;
+            }
+
+            long divisor = 1;
+            while (divisor <= number / 10) {
+                divisor *= 10;
+            }
+            for (; divisor > 0; divisor /= 10) {
+                buffer.put((byte) ('0' + number / divisor % 10));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        StructuredItem that = (StructuredItem) o;
+        return type == that.type && number == that.number && parameters.equals(that.parameters)
+                && ((type == Type.BYTE_SEQUENCE)
+                        ? Arrays.equals((byte[]) value, (byte[]) that.value)
+                        : Objects.equals(value, that.value));
+    }
+
+    @Override
+    public int hashCode() {
+        final int valueHash = (type == Type.BYTE_SEQUENCE)
+                ? Arrays.hashCode((byte[]) value)
+                : Objects.hashCode(value);
+        return Objects.hash(type, number, valueHash, parameters);
+    }
+
+    /**
+     * @return serialized item
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        render(builder, null);
+        return builder.toString();
+    }
+}
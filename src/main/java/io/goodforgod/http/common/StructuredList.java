@@ -0,0 +1,195 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RFC 8941 Structured Field list of items and inner lists. Parsed list validates the whole field
+ * upfront without allocations and materializes members only when they are accessed.
+ * <a href="https://www.rfc-editor.org/rfc/rfc8941#section-3.1">RFC 8941</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StructuredList {
+
+    private static final StructuredList EMPTY = new StructuredList(null, null, new int[0], new StructuredItem[0]);
+
+    private final CharSequence chars;
+    private final byte[] bytes;
+    private final int[] starts;
+    private final StructuredItem[] items;
+
+    private StructuredList(CharSequence chars, byte[] bytes, int[] starts, StructuredItem[] items) {
+        this.chars = chars;
+        this.bytes = bytes;
+        this.starts = starts;
+        this.items = items;
+    }
+
+    /**
+     * @param items of list
+     * @return list
+     */
+    @NotNull
+    public static StructuredList of(@NotNull List<StructuredItem> items) {
+        return items.isEmpty()
+                ? EMPTY
+                : new StructuredList(null, null, null, items.toArray(StructuredItem[]::new));
+    }
+
+    @NotNull
+    public static StructuredList of(@NotNull StructuredItem... items) {
+        return of(List.of(items));
+    }
+
+    @NotNull
+    public static StructuredList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param value field value, empty value is empty list
+     * @return list or null if value is absent or is not valid list
+     */
+    @Nullable
+    public static StructuredList parse(@Nullable CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String source = value.toString();
+        return parse(source, null, source.length());
+    }
+
+    /**
+     * @param bytes  US-ASCII field value, region is copied
+     * @param offset of value
+     * @param length of value
+     * @return list or null if value is not valid list
+     */
+    @Nullable
+    public static StructuredList parse(byte @NotNull [] bytes, int offset, int length) {
+        return parse(null, Arrays.copyOfRange(bytes, offset, offset + length), length);
+    }
+
+    private static StructuredList parse(CharSequence chars, byte[] bytes, int length) {
+        final StructuredFieldParser parser = new StructuredFieldParser(chars, bytes, 0, length);
+        try {
+            parser.skipSpaces();
+            if (!parser.hasRemaining()) {
+                return EMPTY;
+            }
+
+            int[] starts = new int[4];
+            int size = 0;
+            do {
+                if (size == starts.length) {
+                    starts = Arrays.copyOf(starts, size * 2);
+                }
+                starts[size++] = parser.position();
+                parser.itemOrInnerList(false);
+            } while (parser.nextMember());
+            parser.end();
+
+            return new StructuredList(chars, bytes, Arrays.copyOf(starts, size), new StructuredItem[size]);
+        } catch (RuntimeException e) {
+            if (e == StructuredFieldParser.INVALID) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return items.length == 0;
+    }
+
+    /**
+     * @param index of member
+     * @return item or inner list, parsed on first access
+     */
+    @NotNull
+    public StructuredItem get(int index) {
+        StructuredItem item = items[index];
+        if (item == null) {
+            item = new StructuredFieldParser(chars, bytes, starts[index], limit()).itemOrInnerList(true);
+            items[index] = item;
+        }
+        return item;
+    }
+
+    /**
+     * @return all members, parsing them if required
+     */
+    @NotNull
+    public List<StructuredItem> toList() {
+        final StructuredItem[] all = new StructuredItem[items.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = get(i);
+        }
+        return List.of(all);
+    }
+
+    private int limit() {
+        return (chars != null)
+                ? chars.length()
+                : bytes.length;
+    }
+
+    /**
+     * @param builder to append serialized list to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null);
+    }
+
+    /**
+     * @param buffer to write US-ASCII serialized list to
+     * @throws java.nio.BufferOverflowException if buffer has not enough space remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        render(null, buffer);
+    }
+
+    private void render(StringBuilder builder, ByteBuffer buffer) {
+        for (int i = 0; i < items.length; i++) {
+            if (i > 0) {
+                StructuredItem.put(builder, buffer, ", ");
+            }
+            get(i).render(builder, buffer);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return toList().equals(((StructuredList) o).toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    /**
+     * @return serialized list
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        render(builder, null);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RFC 8941 Structured Field parameters, ordered keys with bare item values kept in arrays.
+ * <a href="https://www.rfc-editor.org/rfc/rfc8941#section-3.1.2">RFC 8941</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StructuredParameters {
+
+    private static final StructuredParameters EMPTY = new StructuredParameters(new String[0], new StructuredItem[0]);
+
+    private final String[] keys;
+    private final StructuredItem[] values;
+
+    private StructuredParameters(String[] keys, StructuredItem[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    public static final class Builder {
+
+        private String[] keys = new String[2];
+        private StructuredItem[] values = new StructuredItem[2];
+        private int size;
+
+        private Builder() {}
+
+        /**
+         * @param key   lowercase key
+         * @param value bare item without parameters, replaces value of existing key
+         * @return self
+         */
+        @NotNull
+        public Builder put(@NotNull String key, @NotNull StructuredItem value) {
+            checkKey(key);
+            if (value.type() == StructuredItem.Type.INNER_LIST || !value.parameters().isEmpty()) {
+                throw new IllegalArgumentException("Parameter value must be bare item: " + value);
+            }
+            return putUnchecked(key, value);
+        }
+
+        Builder putUnchecked(String key, StructuredItem value) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    values[i] = value;
+                    return this;
+                }
+            }
+
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        @NotNull
+        public StructuredParameters build() {
+            return (size == 0)
+                    ? EMPTY
+                    : new StructuredParameters(Arrays.copyOf(keys, size), Arrays.copyOf(values, size));
+        }
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @NotNull
+    public static StructuredParameters empty() {
+        return EMPTY;
+    }
+
+    static void checkKey(String key) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Key can't be empty");
+        }
+
+        final char first = key.charAt(0);
+        if (!(first >= 'a' && first <= 'z') && first != '*') {
+            throw new IllegalArgumentException("Key must start with lowercase letter or '*': " + key);
+        }
+        for (int i = 1; i < key.length(); i++) {
+            if (!StructuredFieldParser.isKeyChar(key.charAt(i))) {
+                throw new IllegalArgumentException("Key contains illegal character at " + i + ": " + key);
+            }
+        }
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * @param index of parameter
+     * @return key of parameter
+     */
+    @NotNull
+    public String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * @param index of parameter
+     * @return value of parameter
+     */
+    @NotNull
+    public StructuredItem value(int index) {
+        return values[index];
+    }
+
+    /**
+     * @param key of parameter
+     * @return value of parameter or null if absent
+     */
+    @Nullable
+    public StructuredItem get(@NotNull String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    void render(StringBuilder builder, ByteBuffer buffer) {
+        for (int i = 0; i < keys.length; i++) {
+            StructuredItem.put(builder, buffer, ';');
+            StructuredItem.put(builder, buffer, keys[i]);
+            if (!values[i].isTrue()) {
+                StructuredItem.put(builder, buffer, '=');
+                values[i].render(builder, buffer);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        StructuredParameters that = (StructuredParameters) o;
+        return Arrays.equals(keys, that.keys) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        render(builder, null);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,404 @@
+package io.goodforgod.http.common;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents W3C Trace Context {@link HttpHeaders#TRACEPARENT} with optional
+ * {@link HttpHeaders#TRACESTATE}, trace-id is kept as two longs and parent-id as one long.
+ * Traceparent is parsed in place without substrings and rendered directly into chars or bytes.
+ * <a href="https://www.w3.org/TR/trace-context/">W3C Trace Context</a>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class TraceContext {
+
+    /**
+     * Length of version 00 traceparent value
+     */
+    public static final int LENGTH = 55;
+
+    public static final byte FLAG_SAMPLED = 0x01;
+
+    static final TraceContext ABSENT = new TraceContext(0, 0, 0, 0, 0, null);
+
+    private static final byte[] HEX_VALUES = new byte[128];
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+        }
+    }
+
+    private final int version;
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long parentId;
+    private final int flags;
+    private final String traceState;
+
+    private TraceContext(int version, long traceIdHigh, long traceIdLow, long parentId, int flags, String traceState) {
+        this.version = version;
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.parentId = parentId;
+        this.flags = flags;
+        this.traceState = traceState;
+    }
+
+    /**
+     * @param traceIdHigh high 64 bits of trace-id
+     * @param traceIdLow  low 64 bits of trace-id
+     * @param parentId    of the span
+     * @param flags       trace-flags like {@link #FLAG_SAMPLED}
+     * @return version 00 trace context
+     * @throws IllegalArgumentException if trace-id or parent-id is all zeroes
+     */
+    @NotNull
+    public static TraceContext of(long traceIdHigh, long traceIdLow, long parentId, byte flags) {
+        if (traceIdHigh == 0 && traceIdLow == 0) {
+            throw new IllegalArgumentException("Trace-id can't be all zeroes");
+        }
+        if (parentId == 0) {
+            throw new IllegalArgumentException("Parent-id can't be all zeroes");
+        }
+
+        return new TraceContext(0, traceIdHigh, traceIdLow, parentId, flags & 0xFF, null);
+    }
+
+    /**
+     * @param traceparent header value
+     * @return trace context or null if value is absent or invalid
+     */
+    @Nullable
+    public static TraceContext parse(@Nullable CharSequence traceparent) {
+        return parse(traceparent, null);
+    }
+
+    /**
+     * @param traceparent header value
+     * @param tracestate  header value, kept only when traceparent is valid
+     * @return trace context or null if traceparent is absent or invalid
+     */
+    @Nullable
+    public static TraceContext parse(@Nullable CharSequence traceparent, @Nullable String tracestate) {
+        return (traceparent == null)
+                ? null
+                : parse(traceparent, null, 0, traceparent.length(), tracestate);
+    }
+
+    /**
+     * @param bytes  US-ASCII traceparent header value
+     * @param offset of value
+     * @param length of value
+     * @return trace context or null if value is invalid
+     */
+    @Nullable
+    public static TraceContext parse(byte @NotNull [] bytes, int offset, int length) {
+        return parse(null, bytes, offset, length, null);
+    }
+
+    private static TraceContext parse(CharSequence chars, byte[] bytes, int offset, int length, String traceState) {
+        if (length < LENGTH) {
+            return null;
+        }
+
+        final int version = (int) parseHex(chars, bytes, offset, 2);
+        if (version < 0 || version == 0xFF || (version == 0 && length != LENGTH)) {
+            return null;
+        }
+        // future versions may append fields after flags separated with dash
+        if (length > LENGTH && charAt(chars, bytes, offset + LENGTH) != '-') {
+            return null;
+        }
+
+        if (charAt(chars, bytes, offset + 2) != '-'
+                || charAt(chars, bytes, offset + 35) != '-'
+                || charAt(chars, bytes, offset + 52) != '-') {
+            return null;
+        }
+
+        final long traceIdHigh = parseHex(chars, bytes, offset + 3, 16);
+        final long traceIdLow = parseHex(chars, bytes, offset + 19, 16);
+        final long parentId = parseHex(chars, bytes, offset + 36, 16);
+        final int flags = (int) parseHex(chars, bytes, offset + 53, 2);
+        if (traceIdHigh == -1 || traceIdLow == -1 || parentId == -1 || flags < 0) {
+            // all ones is valid id, so validate digits again only in this rare case
+            if (!isHex(chars, bytes, offset + 3, 32) || !isHex(chars, bytes, offset + 36, 16) || flags < 0) {
+                return null;
+            }
+        }
+
+        if ((traceIdHigh == 0 && traceIdLow == 0) || parentId == 0) {
+            return null;
+        }
+
+        return new TraceContext(version, traceIdHigh, traceIdLow, parentId, flags, traceState);
+    }
+
+    /**
+     * @return value of digits or -1 if any digit is not lowercase hex
+     */
+    private static long parseHex(CharSequence chars, byte[] bytes, int offset, int digits) {
+        long value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            final char c = charAt(chars, bytes, i);
+            final int digit = (c < 128)
+                    ? HEX_VALUES[c]
+                    : -1;
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static boolean isHex(CharSequence chars, byte[] bytes, int offset, int digits) {
+        for (int i = offset; i < offset + digits; i++) {
+            final char c = charAt(chars, bytes, i);
+            if (c >= 128 || HEX_VALUES[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char charAt(CharSequence chars, byte[] bytes, int index) {
+        return (chars != null)
+                ? chars.charAt(index)
+                : (char) (bytes[index] & 0xFF);
+    }
+
+    /**
+     * @param parentId of the new span
+     * @return trace context of child span with the same trace-id, flags and tracestate
+     */
+    @NotNull
+    public TraceContext withParentId(long parentId) {
+        if (parentId == 0) {
+            throw new IllegalArgumentException("Parent-id can't be all zeroes");
+        }
+        return new TraceContext(0, traceIdHigh, traceIdLow, parentId, flags, traceState);
+    }
+
+    /**
+     * @param traceState to propagate
+     * @return trace context with given tracestate
+     */
+    @NotNull
+    public TraceContext withTraceState(@Nullable String traceState) {
+        return new TraceContext(version, traceIdHigh, traceIdLow, parentId, flags, traceState);
+    }
+
+    /**
+     * @return version of parsed traceparent, rendered traceparent is always version 00
+     */
+    public int version() {
+        return version;
+    }
+
+    public long traceIdHigh() {
+        return traceIdHigh;
+    }
+
+    public long traceIdLow() {
+        return traceIdLow;
+    }
+
+    public long parentId() {
+        return parentId;
+    }
+
+    public byte flags() {
+        return (byte) flags;
+    }
+
+    public boolean isSampled() {
+        return (flags & FLAG_SAMPLED) != 0;
+    }
+
+    /**
+     * @return 32 lowercase hex digits trace-id
+     */
+    @NotNull
+    public String traceId() {
+        final char[] chars = new char[32];
+        putHex(null, chars, null, null, 0, traceIdHigh, 16);
+        putHex(null, chars, null, null, 16, traceIdLow, 16);
+        return new String(chars);
+    }
+
+    /**
+     * @return 16 lowercase hex digits parent-id
+     */
+    @NotNull
+    public String parentIdHex() {
+        final char[] chars = new char[16];
+        putHex(null, chars, null, null, 0, parentId, 16);
+        return new String(chars);
+    }
+
+    /**
+     * @return raw tracestate header value or null if absent
+     */
+    @Nullable
+    public String traceState() {
+        return traceState;
+    }
+
+    /**
+     * Scans tracestate list-members in place and allocates only the found value
+     *
+     * @param key of tracestate list-member
+     * @return value of first list-member with given key or null if absent
+     */
+    @Nullable
+    public String traceState(@NotNull String key) {
+        if (traceState == null) {
+            return null;
+        }
+
+        final String state = traceState;
+        final int length = state.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && (state.charAt(i) == ',' || state.charAt(i) == ' ' || state.charAt(i) == '\t')) {
+                i++;
+            }
+
+            int memberEnd = state.indexOf(',', i);
+            if (memberEnd == -1) {
+                memberEnd = length;
+            }
+
+            final int keyEnd = i + key.length();
+            if (keyEnd < memberEnd && state.charAt(keyEnd) == '=' && state.startsWith(key, i)) {
+                int valueEnd = memberEnd;
+                while (valueEnd > keyEnd + 1 && (state.charAt(valueEnd - 1) == ' ' || state.charAt(valueEnd - 1) == '\t')) {
+                    valueEnd--;
+                }
+                return state.substring(keyEnd + 1, valueEnd);
+            }
+
+            i = memberEnd + 1;
+        }
+
+        return null;
+    }
+
+    /**
+     * @param builder to append version 00 traceparent value to
+     */
+    public void appendTo(@NotNull StringBuilder builder) {
+        render(builder, null, null, null, 0);
+    }
+
+    /**
+     * @param target to write {@link #LENGTH} traceparent chars to
+     * @param offset to start writing from
+     * @return offset after last written char
+     */
+    public int writeTo(char @NotNull [] target, int offset) {
+        render(null, target, null, null, offset);
+        return offset + LENGTH;
+    }
+
+    /**
+     * @param target to write {@link #LENGTH} US-ASCII traceparent bytes to
+     * @param offset to start writing from
+     * @return offset after last written byte
+     */
+    public int writeTo(byte @NotNull [] target, int offset) {
+        render(null, null, target, null, offset);
+        return offset + LENGTH;
+    }
+
+    /**
+     * @param buffer to write US-ASCII traceparent value to
+     * @throws BufferOverflowException if buffer has less than {@link #LENGTH} remaining
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        final int position = buffer.position();
+        if (buffer.remaining() < LENGTH) {
+            throw new BufferOverflowException();
+        }
+
+        if (buffer.hasArray()) {
+            render(null, null, buffer.array(), null, buffer.arrayOffset() + position);
+        } else {
+            render(null, null, null, buffer, position);
+        }
+        buffer.position(position + LENGTH);
+    }
+
+    /**
+     * Exactly one target is specified, so the same rendering code serves all of them. Chars are
+     * written in order so builder just appends them, other targets are written at absolute index.
+     */
+    private void render(StringBuilder builder, char[] chars, byte[] bytes, ByteBuffer buffer, int offset) {
+        putHex(builder, chars, bytes, buffer, offset, 0, 2);
+        putChar(builder, chars, bytes, buffer, offset + 2, '-');
+        putHex(builder, chars, bytes, buffer, offset + 3, traceIdHigh, 16);
+        putHex(builder, chars, bytes, buffer, offset + 19, traceIdLow, 16);
+        putChar(builder, chars, bytes, buffer, offset + 35, '-');
+        putHex(builder, chars, bytes, buffer, offset + 36, parentId, 16);
+        putChar(builder, chars, bytes, buffer, offset + 52, '-');
+        putHex(builder, chars, bytes, buffer, offset + 53, flags, 2);
+    }
+
+    private static void putHex(StringBuilder builder, char[] chars, byte[] bytes, ByteBuffer buffer,
+                               int offset, long value, int digits) {
+        for (int i = 0; i < digits; i++) {
+            final int nibble = (int) (value >>> ((digits - 1 - i) * 4)) & 0xF;
+            putChar(builder, chars, bytes, buffer, offset + i, HEX_DIGITS[nibble]);
+        }
+    }
+
+    private static void putChar(StringBuilder builder, char[] chars, byte[] bytes, ByteBuffer buffer,
+                                int index, char c) {
+        if (builder != null) {
+            builder.append(c);
+        } else if (chars != null) {
+            chars[index] = c;
+        } else if (bytes != null) {
+            bytes[index] = (byte) c;
+        } else {
+            buffer.put(index, (byte) c);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        TraceContext that = (TraceContext) o;
+        return traceIdHigh == that.traceIdHigh && traceIdLow == that.traceIdLow && parentId == that.parentId
+                && flags == that.flags && Objects.equals(traceState, that.traceState);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(traceIdHigh, traceIdLow, parentId, flags, traceState);
+    }
+
+    /**
+     * @return version 00 traceparent value
+     */
+    @NotNull
+    @Override
+    public String toString() {
+        final char[] chars = new char[LENGTH];
+        writeTo(chars, 0);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,457 @@
+package io.goodforgod.http.common;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Set of trusted proxy CIDR ranges used to resolve real client address from
+ * {@link HttpHeaders#FORWARDED} or {@link HttpHeaders#X_FORWARDED_FOR} chains.
+ * <a href="https://www.rfc-editor.org/rfc/rfc7239">RFC 7239</a>
+ * <p>
+ * Ranges are stored in binary prefix tries (one for IPv4 and one for IPv6), header chains are walked
+ * right-to-left in place and only the resolved hop is allocated as String.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class TrustedProxies {
+
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    /**
+     * Binary trie where each node has two children indexes and terminal flag for prefix end
+     */
+    private static final class PrefixTrie {
+
+        private int[] children = new int[32];
+        private boolean[] terminal = new boolean[16];
+        private int size = 1;
+
+        private void add(long high, long low, int prefix) {
+            int node = 0;
+            for (int i = 0; i < prefix && !terminal[node]; i++) {
+                final int index = node * 2 + bit(high, low, i);
+                int child = children[index];
+                if (child == 0) {
+                    child = newNode();
+                    children[index] = child;
+                }
+                node = child;
+            }
+
+            terminal[node] = true;
+        }
+
+        private boolean matches(long high, long low, int bits) {
+            int node = 0;
+            for (int i = 0;; i++) {
+                if (terminal[node]) {
+                    return true;
+                } else if (i == bits) {
+                    return false;
+                }
+
+                node = children[node * 2 + bit(high, low, i)];
+                if (node == 0) {
+                    return false;
+                }
+            }
+        }
+
+        private int newNode() {
+            if (size == terminal.length) {
+                terminal = Arrays.copyOf(terminal, size * 2);
+                children = Arrays.copyOf(children, size * 4);
+            }
+            return size++;
+        }
+
+        private static int bit(long high, long low, int index) {
+            return (int) ((index < 64
+                    ? high >>> (63 - index)
+                    : low >>> (127 - index)) & 1);
+        }
+    }
+
+    private final PrefixTrie ipv4 = new PrefixTrie();
+    private final PrefixTrie ipv6 = new PrefixTrie();
+
+    private TrustedProxies() {}
+
+    /**
+     * @param cidrs trusted proxy addresses or CIDR ranges like {@code 10.0.0.0/8} or
+     *              {@code fd00::/8}
+     * @return trusted proxies
+     * @throws IllegalArgumentException if any address or range is invalid
+     */
+    @NotNull
+    public static TrustedProxies of(@NotNull String... cidrs) {
+        return of(List.of(cidrs));
+    }
+
+    /**
+     * @param cidrs trusted proxy addresses or CIDR ranges like {@code 10.0.0.0/8} or
+     *              {@code fd00::/8}
+     * @return trusted proxies
+     * @throws IllegalArgumentException if any address or range is invalid
+     */
+    @NotNull
+    public static TrustedProxies of(@NotNull Collection<String> cidrs) {
+        final TrustedProxies proxies = new TrustedProxies();
+        final long[] address = new long[2];
+        for (String cidr : cidrs) {
+            final int slash = cidr.indexOf('/');
+            final int addressEnd = (slash == -1)
+                    ? cidr.length()
+                    : slash;
+
+            final int bits = parseAddress(cidr, 0, addressEnd, address);
+            if (bits == 0) {
+                throw new IllegalArgumentException("Invalid proxy address: " + cidr);
+            }
+
+            final int prefix;
+            try {
+                prefix = (slash == -1)
+                        ? bits
+                        : Integer.parseInt(cidr, slash + 1, cidr.length(), 10);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid proxy address prefix: " + cidr, e);
+            }
+
+            if (prefix < 0 || prefix > bits) {
+                throw new IllegalArgumentException("Invalid proxy address prefix: " + cidr);
+            }
+
+            if (bits == IPV4_BITS) {
+                proxies.ipv4.add(address[0], 0, prefix);
+            } else {
+                proxies.ipv6.add(address[0], address[1], prefix);
+            }
+        }
+
+        return proxies;
+    }
+
+    /**
+     * @param address IPv4 or IPv6 address, optionally in brackets and with port
+     * @return true if address belongs to trusted proxy range
+     */
+    public boolean isTrusted(@NotNull CharSequence address) {
+        return isTrusted(address, 0, address.length(), new long[2]);
+    }
+
+    /**
+     * Resolves client address as the first untrusted hop when walking {@link HttpHeaders#FORWARDED}
+     * {@code for=} nodes (or {@link HttpHeaders#X_FORWARDED_FOR} when Forwarded is absent) from right
+     * to left. Headers are honored only when remote address is trusted, unknown peer is never trusted.
+     *
+     * @param headers       of the request
+     * @param remoteAddress of the connection peer
+     * @return first untrusted hop without port, leftmost hop if all hops are trusted, remote address if
+     *             chain is absent or peer is not trusted, null if remote address is absent
+     */
+    @Nullable
+    public String resolveClient(@NotNull HttpHeaders headers, @Nullable String remoteAddress) {
+        final long[] address = new long[2];
+        if (remoteAddress == null || !isTrusted(remoteAddress, 0, remoteAddress.length(), address)) {
+            return remoteAddress;
+        }
+
+        List<String> values = headers.findAll(HttpHeaders.FORWARDED);
+        final boolean isForwarded = !values.isEmpty();
+        if (!isForwarded) {
+            values = headers.findAll(HttpHeaders.X_FORWARDED_FOR);
+        }
+
+        String leftmost = null;
+        long leftmostRegion = 0;
+        for (int i = values.size() - 1; i >= 0; i--) {
+            final String value = values.get(i);
+            int elementEnd = value.length();
+            while (elementEnd > 0) {
+                final int elementStart = previousElementStart(value, elementEnd);
+                final long hop = isForwarded
+                        ? forNodeRegion(value, elementStart, elementEnd)
+                        : hopRegion(value, elementStart, elementEnd);
+
+                if (hop != -1) {
+                    final int hopStart = (int) (hop >>> 32);
+                    final int hopEnd = (int) hop;
+                    if (!isTrusted(value, hopStart, hopEnd, address)) {
+                        return host(value, hopStart, hopEnd);
+                    }
+
+                    leftmost = value;
+                    leftmostRegion = hop;
+                }
+
+                elementEnd = elementStart - 1;
+            }
+        }
+
+        return (leftmost == null)
+                ? remoteAddress
+                : host(leftmost, (int) (leftmostRegion >>> 32), (int) leftmostRegion);
+    }
+
+    private boolean isTrusted(CharSequence value, int start, int end, long[] address) {
+        final long host = hostRegion(value, start, end);
+        final int bits = parseAddress(value, (int) (host >>> 32), (int) host, address);
+        if (bits == IPV4_BITS) {
+            return ipv4.matches(address[0], 0, IPV4_BITS);
+        } else if (bits == IPV6_BITS) {
+            // IPv4-mapped address ::ffff:a.b.c.d is matched against IPv4 ranges
+            if (address[0] == 0 && (address[1] >>> 32) == 0xFFFF) {
+                return ipv4.matches(address[1] << 32, 0, IPV4_BITS);
+            }
+            return ipv6.matches(address[0], address[1], IPV6_BITS);
+        }
+
+        return false;
+    }
+
+    private static String host(String value, int start, int end) {
+        final long host = hostRegion(value, start, end);
+        return value.substring((int) (host >>> 32), (int) host);
+    }
+
+    /**
+     * @return start of list element that ends at given index, commas inside quoted-string are ignored
+     */
+    private static int previousElementStart(String value, int end) {
+        boolean quoted = false;
+        for (int i = end - 1; i >= 0; i--) {
+            final char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                return i + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return region of {@code for=} node value packed as start and end or -1 if absent
+     */
+    private static long forNodeRegion(String value, int start, int end) {
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(value, start, end);
+        if (tokenizer.readToken() && tokenizer.valueEqualsIgnoreCase("for")) {
+            return (tokenizer.consume('=') && tokenizer.readValue())
+                    ? region(tokenizer.start(), tokenizer.end())
+                    : -1;
+        }
+
+        while (tokenizer.nextParameter()) {
+            if (tokenizer.nameEqualsIgnoreCase("for")) {
+                return tokenizer.isValueEmpty()
+                        ? -1
+                        : region(tokenizer.start(), tokenizer.end());
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return region of hop without surrounding whitespaces and quotes or -1 if empty
+     */
+    private static long hopRegion(String value, int start, int end) {
+        while (start < end && isWhitespaceOrQuote(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespaceOrQuote(value.charAt(end - 1))) {
+            end--;
+        }
+
+        return (start == end)
+                ? -1
+                : region(start, end);
+    }
+
+    /**
+     * @return region of node host without brackets and port
+     */
+    private static long hostRegion(CharSequence value, int start, int end) {
+        if (start < end && value.charAt(start) == '[') {
+            for (int i = start + 1; i < end; i++) {
+                if (value.charAt(i) == ']') {
+                    return region(start + 1, i);
+                }
+            }
+            return region(start, end);
+        }
+
+        int colon = -1;
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) == ':') {
+                if (colon != -1) {
+                    // bare IPv6 address
+                    return region(start, end);
+                }
+                colon = i;
+            }
+        }
+
+        return (colon == -1)
+                ? region(start, end)
+                : region(start, colon);
+    }
+
+    private static long region(int start, int end) {
+        return ((long) start << 32) | end;
+    }
+
+    private static boolean isWhitespaceOrQuote(char c) {
+        return c == ' ' || c == '\t' || c == '"';
+    }
+
+    /**
+     * @param address to store parsed address, IPv4 in upper bits of first element, IPv6 as high and low
+     * @return 32 for IPv4, 128 for IPv6 or 0 if address is invalid
+     */
+    private static int parseAddress(CharSequence value, int start, int end, long[] address) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) == ':') {
+                return parseIPv6(value, start, end, address)
+                        ? IPV6_BITS
+                        : 0;
+            }
+        }
+
+        final long ipv4 = parseIPv4(value, start, end);
+        if (ipv4 == -1) {
+            return 0;
+        }
+
+        address[0] = ipv4 << 32;
+        address[1] = 0;
+        return IPV4_BITS;
+    }
+
+    /**
+     * @return unsigned IPv4 address or -1 if invalid
+     */
+    private static long parseIPv4(CharSequence value, int start, int end) {
+        long result = 0;
+        int octets = 0;
+        int i = start;
+        while (i < end) {
+            int octet = 0;
+            final int octetStart = i;
+            while (i < end && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                octet = octet * 10 + (value.charAt(i) - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+                i++;
+            }
+
+            if (i == octetStart || octets == 4) {
+                return -1;
+            }
+
+            result = (result << 8) | octet;
+            octets++;
+            if (i < end) {
+                if (value.charAt(i) != '.' || i + 1 == end) {
+                    return -1;
+                }
+                i++;
+            }
+        }
+
+        return (octets == 4)
+                ? result
+                : -1;
+    }
+
+    private static boolean parseIPv6(CharSequence value, int start, int end, long[] address) {
+        final int[] groups = new int[8];
+        int count = 0;
+        int compressed = -1;
+        int i = start;
+        if (end - start >= 2 && value.charAt(start) == ':' && value.charAt(start + 1) == ':') {
+            compressed = 0;
+            i += 2;
+        }
+
+        while (i < end) {
+            if (count == 8) {
+                return false;
+            }
+
+            final int groupStart = i;
+            int group = 0;
+            while (i < end && i - groupStart < 4 && hexDigit(value.charAt(i)) != -1) {
+                group = (group << 4) | hexDigit(value.charAt(i));
+                i++;
+            }
+
+            if (i < end && value.charAt(i) == '.') {
+                // embedded IPv4 address as last 32 bits
+                final long ipv4 = parseIPv4(value, groupStart, end);
+                if (ipv4 == -1 || count > 6) {
+                    return false;
+                }
+                groups[count++] = (int) (ipv4 >>> 16);
+                groups[count++] = (int) (ipv4 & 0xFFFF);
+                i = end;
+                break;
+            }
+
+            if (i == groupStart) {
+                return false;
+            }
+
+            groups[count++] = group;
+            if (i < end) {
+                if (value.charAt(i) != ':' || i + 1 == end) {
+                    return false;
+                }
+                i++;
+                if (value.charAt(i) == ':') {
+                    if (compressed != -1) {
+                        return false;
+                    }
+                    compressed = count;
+                    i++;
+                }
+            }
+        }
+
+        if (compressed == -1) {
+            if (count != 8) {
+                return false;
+            }
+        } else {
+            if (count == 8) {
+                return false;
+            }
+            final int tail = count - compressed;
+            System.arraycopy(groups, compressed, groups, 8 - tail, tail);
+            Arrays.fill(groups, compressed, 8 - tail, 0);
+        }
+
+        address[0] = ((long) groups[0] << 48) | ((long) groups[1] << 32) | ((long) groups[2] << 16) | groups[3];
+        address[1] = ((long) groups[4] << 48) | ((long) groups[5] << 32) | ((long) groups[6] << 16) | groups[7];
+        return true;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,308 @@
+package io.goodforgod.http.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 128-bit cache key computed from request method, URI and request header values selected by response
+ * {@link HttpHeaders#VARY} header.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.1">RFC 9111</a>
+ * <p>
+ * Key is a non-cryptographic hash, values are hashed directly from headers without intermediate
+ * Strings. Selected header names are matched ignoring case, whitespace runs in values are
+ * normalized to single space and whitespace around commas is ignored.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class VaryKey {
+
+    /**
+     * Vary selector parsed once from response and reused to compute keys for requests
+     */
+    public static final class Selector {
+
+        private static final Selector EMPTY = new Selector(new String[0], new String[0], false);
+        private static final Selector WILDCARD = new Selector(new String[0], new String[0], true);
+
+        private final String[] headerNames;
+        /**
+         * Header names as spelled in Vary value, tried first cause they usually match request exactly
+         */
+        private final String[] spellings;
+        private final boolean wildcard;
+
+        private Selector(String[] headerNames, String[] spellings, boolean wildcard) {
+            this.headerNames = headerNames;
+            this.spellings = spellings;
+            this.wildcard = wildcard;
+        }
+
+        /**
+         * @return true if Vary is {@code *} and response can't be matched by request headers
+         */
+        public boolean isWildcard() {
+            return wildcard;
+        }
+
+        /**
+         * @return selected header names in lower case and sorted order
+         */
+        @NotNull
+        public List<String> headerNames() {
+            return List.of(headerNames);
+        }
+
+        /**
+         * @param method  of request
+         * @param uri     of request
+         * @param request headers
+         * @return key or null if Vary is {@code *}
+         */
+        @Nullable
+        public VaryKey key(@NotNull CharSequence method, @NotNull CharSequence uri, @NotNull HttpHeaders request) {
+            if (wildcard) {
+                return null;
+            }
+
+            final Hasher hasher = new Hasher();
+            hasher.putChars(method);
+            hasher.putLong(method.length());
+            hasher.putChars(uri);
+            hasher.putLong(uri.length());
+            final List<String>[] selected = select(request);
+            for (List<String> values : selected) {
+                if (values.isEmpty()) {
+                    hasher.putLong(-1);
+                } else {
+                    for (int i = 0; i < values.size(); i++) {
+                        if (i > 0) {
+                            hasher.putChar(',');
+                        }
+                        hasher.putNormalized(values.get(i));
+                    }
+                    hasher.putLong(values.size());
+                }
+            }
+
+            return hasher.key();
+        }
+
+        /**
+         * @return values of selected headers, names are matched exactly by Vary spelling or lower case
+         *             first and names still missing are matched ignoring case in single pass over request
+         */
+        private List<String>[] select(HttpHeaders request) {
+            @SuppressWarnings("unchecked")
+            final List<String>[] selected = (List<String>[]) new List<?>[headerNames.length];
+            int missing = 0;
+            for (int i = 0; i < headerNames.length; i++) {
+                List<String> values = request.findAll(spellings[i]);
+                if (values.isEmpty() && !spellings[i].equals(headerNames[i])) {
+                    values = request.findAll(headerNames[i]);
+                }
+                if (values.isEmpty()) {
+                    missing++;
+                }
+                selected[i] = values;
+            }
+
+            if (missing > 0) {
+                for (Map.Entry<String, List<String>> entry : request.getMultiMap().entrySet()) {
+                    final String name = entry.getKey();
+                    for (int i = 0; i < headerNames.length; i++) {
+                        if (selected[i].isEmpty() && name.equalsIgnoreCase(headerNames[i])) {
+                            selected[i] = entry.getValue();
+                            if (--missing == 0) {
+                                return selected;
+                            }
+                        }
+                    }
+                }
+            }
+
+            return selected;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Selector selector = (Selector) o;
+            return wildcard == selector.wildcard && Arrays.equals(headerNames, selector.headerNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(headerNames) + Boolean.hashCode(wildcard);
+        }
+
+        @Override
+        public String toString() {
+            return wildcard
+                    ? "*"
+                    : String.join(", ", headerNames);
+        }
+    }
+
+    /**
+     * Two lane multiplicative hash with murmur finalization
+     */
+    private static final class Hasher {
+
+        private static final long PRIME_1 = 0x9E3779B97F4A7C15L;
+        private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+
+        private long high = 0x243F6A8885A308D3L;
+        private long low = 0x13198A2E03707344L;
+
+        private void putChar(char c) {
+            putLong(c);
+        }
+
+        private void putLong(long value) {
+            high = (high ^ value) * PRIME_1;
+            low = Long.rotateLeft(low ^ value, 31) * PRIME_2 + high;
+        }
+
+        private void putChars(CharSequence value) {
+            for (int i = 0; i < value.length(); i++) {
+                putChar(value.charAt(i));
+            }
+        }
+
+        /**
+         * Hashes value where whitespace runs are collapsed and whitespace around commas is dropped
+         */
+        private void putNormalized(CharSequence value) {
+            boolean pendingSpace = false;
+            boolean afterComma = true;
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                if (c == ' ' || c == '\t') {
+                    pendingSpace = true;
+                } else {
+                    if (pendingSpace && !afterComma && c != ',') {
+                        putChar(' ');
+                    }
+                    putChar(c);
+                    pendingSpace = false;
+                    afterComma = c == ',';
+                }
+            }
+        }
+
+        private VaryKey key() {
+            final long h = fmix(high ^ Long.rotateLeft(low, 17));
+            final long l = fmix(low ^ Long.rotateLeft(high, 43));
+            return new VaryKey(h, l);
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xFF51AFD7ED558CCDL;
+            k ^= k >>> 33;
+            k *= 0xC4CEB9FE1A85EC53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    private final long high;
+    private final long low;
+
+    private VaryKey(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @param high bits of key
+     * @param low  bits of key
+     * @return key
+     */
+    @NotNull
+    public static VaryKey of(long high, long low) {
+        return new VaryKey(high, low);
+    }
+
+    /**
+     * @param response headers with optional {@link HttpHeaders#VARY}
+     * @return selector
+     */
+    @NotNull
+    public static Selector selector(@NotNull HttpHeaders response) {
+        final List<String> values = response.findAll(HttpHeaders.VARY);
+        return switch (values.size()) {
+            case 0 -> Selector.EMPTY;
+            case 1 -> selector(values.get(0));
+            default -> selector(String.join(", ", values));
+        };
+    }
+
+    /**
+     * @param vary header value
+     * @return selector
+     */
+    @NotNull
+    public static Selector selector(@Nullable String vary) {
+        if (vary == null) {
+            return Selector.EMPTY;
+        }
+
+        // lower case name to spelling of its first occurrence, sorted by lower case name
+        final TreeMap<String, String> names = new TreeMap<>();
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(vary);
+        while (tokenizer.nextElement()) {
+            if (tokenizer.consume('*')) {
+                return Selector.WILDCARD;
+            }
+
+            if (tokenizer.readToken()) {
+                final String spelling = tokenizer.value();
+                names.putIfAbsent(spelling.toLowerCase(), spelling);
+            }
+            tokenizer.skipElement();
+        }
+
+        if (names.isEmpty()) {
+            return Selector.EMPTY;
+        }
+
+        return new Selector(names.keySet().toArray(String[]::new), names.values().toArray(String[]::new), false);
+    }
+
+    public long high() {
+        return high;
+    }
+
+    public long low() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        VaryKey varyKey = (VaryKey) o;
+        return high == varyKey.high && low == varyKey.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
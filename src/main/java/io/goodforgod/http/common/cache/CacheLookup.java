@@ -0,0 +1,83 @@
+package io.goodforgod.http.common.cache;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of {@link HttpCache#lookup(io.goodforgod.http.common.HttpMethod, String, io.goodforgod.http.common.HttpHeaders)}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class CacheLookup {
+
+    public enum Status {
+
+        /**
+         * No stored response can be used
+         */
+        MISS,
+        /**
+         * Stored response is fresh and can be served
+         */
+        HIT,
+        /**
+         * Stored response is stale but allowed by request max-stale and can be served
+         */
+        STALE,
+        /**
+         * Stored response is stale within stale-while-revalidate window, it can be served while caller
+         * revalidates it in background
+         */
+        STALE_WHILE_REVALIDATE,
+        /**
+         * Stored response must be revalidated with {@link CachedResponse#conditionalHeaders()} before
+         * it is served
+         */
+        REVALIDATE
+    }
+
+    static final CacheLookup MISS = new CacheLookup(Status.MISS, null, 0);
+
+    private final Status status;
+    private final CachedResponse response;
+    private final long age;
+
+    CacheLookup(Status status, CachedResponse response, long age) {
+        this.status = status;
+        this.response = response;
+        this.age = age;
+    }
+
+    @NotNull
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * @return stored response or null when {@link Status#MISS}
+     */
+    @Nullable
+    public CachedResponse response() {
+        return response;
+    }
+
+    /**
+     * @return current age of response in seconds to be sent as {@link io.goodforgod.http.common.HttpHeaders#AGE}
+     */
+    public long age() {
+        return age;
+    }
+
+    /**
+     * @return true if stored response can be served without waiting for revalidation
+     */
+    public boolean isServable() {
+        return status == Status.HIT || status == Status.STALE || status == Status.STALE_WHILE_REVALIDATE;
+    }
+
+    @Override
+    public String toString() {
+        return status + " " + response;
+    }
+}
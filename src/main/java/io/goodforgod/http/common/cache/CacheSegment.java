@@ -0,0 +1,208 @@
+package io.goodforgod.http.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Segmented LRU guarded by its own lock, new entries are placed into probation segment and are
+ * promoted to protected segment on the second access, so one-time entries are evicted first.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class CacheSegment {
+
+    /**
+     * Maximum amount of stored variants per method and URI
+     */
+    static final int MAX_VARIANTS = 8;
+
+    private static final class Node {
+
+        private final List<CachedResponse> variants;
+        private final long weight;
+
+        private Node(List<CachedResponse> variants) {
+            this.variants = variants;
+            long weight = 0;
+            for (CachedResponse variant : variants) {
+                weight += variant.weight();
+            }
+            this.weight = weight;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Node> protect = new LinkedHashMap<>();
+    private final long maxWeight;
+    private final long maxProtectedWeight;
+
+    private long probationWeight;
+    private long protectedWeight;
+
+    CacheSegment(long maxWeight) {
+        this.maxWeight = maxWeight;
+        this.maxProtectedWeight = maxWeight * 4 / 5;
+    }
+
+    long maxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return stored variants newest first or empty list
+     */
+    @NotNull
+    List<CachedResponse> get(@NotNull String key) {
+        lock.lock();
+        try {
+            Node node = probation.remove(key);
+            if (node != null) {
+                probationWeight -= node.weight;
+                protect.put(key, node);
+                protectedWeight += node.weight;
+                demote();
+                return node.variants;
+            }
+
+            node = protect.remove(key);
+            if (node != null) {
+                protect.put(key, node);
+                return node.variants;
+            }
+
+            return Collections.emptyList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores response as the newest variant, replacing variant with the same Vary key
+     */
+    void put(@NotNull String key, @NotNull CachedResponse response) {
+        lock.lock();
+        try {
+            Node previous = protect.remove(key);
+            final boolean isProtected = previous != null;
+            if (isProtected) {
+                protectedWeight -= previous.weight;
+            } else {
+                previous = probation.remove(key);
+                if (previous != null) {
+                    probationWeight -= previous.weight;
+                }
+            }
+
+            final List<CachedResponse> variants = new ArrayList<>(4);
+            variants.add(response);
+            if (previous != null) {
+                for (CachedResponse variant : previous.variants) {
+                    if (variants.size() < MAX_VARIANTS && !variant.varyKey().equals(response.varyKey())) {
+                        variants.add(variant);
+                    }
+                }
+            }
+
+            final Node node = new Node(List.copyOf(variants));
+            if (isProtected) {
+                protect.put(key, node);
+                protectedWeight += node.weight;
+                demote();
+            } else {
+                probation.put(key, node);
+                probationWeight += node.weight;
+            }
+
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(@NotNull String key) {
+        lock.lock();
+        try {
+            final Node probationNode = probation.remove(key);
+            if (probationNode != null) {
+                probationWeight -= probationNode.weight;
+            }
+
+            final Node protectedNode = protect.remove(key);
+            if (protectedNode != null) {
+                protectedWeight -= protectedNode.weight;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            probation.clear();
+            protect.clear();
+            probationWeight = 0;
+            protectedWeight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return probation.size() + protect.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long weight() {
+        lock.lock();
+        try {
+            return probationWeight + protectedWeight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves least recently used protected entries to the most recently used position of probation
+     */
+    private void demote() {
+        final Iterator<Map.Entry<String, Node>> iterator = protect.entrySet().iterator();
+        while (protectedWeight > maxProtectedWeight && iterator.hasNext()) {
+            final Map.Entry<String, Node> eldest = iterator.next();
+            iterator.remove();
+            protectedWeight -= eldest.getValue().weight;
+            probation.put(eldest.getKey(), eldest.getValue());
+            probationWeight += eldest.getValue().weight;
+        }
+    }
+
+    private void evict() {
+        evict(probation, true);
+        evict(protect, false);
+    }
+
+    private void evict(LinkedHashMap<String, Node> segment, boolean isProbation) {
+        final Iterator<Node> iterator = segment.values().iterator();
+        while (probationWeight + protectedWeight > maxWeight && iterator.hasNext()) {
+            final Node eldest = iterator.next();
+            iterator.remove();
+            if (isProbation) {
+                probationWeight -= eldest.weight;
+            } else {
+                protectedWeight -= eldest.weight;
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.CacheControl;
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.VaryKey;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stored response with freshness and age calculation.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2">RFC 9111</a>
+ * <p>
+ * All times are epoch millis.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class CachedResponse {
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Estimated memory overhead of entry and its headers containers
+     */
+    private static final int OVERHEAD = 128;
+
+    private final HttpStatus status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final long requestTime;
+    private final long responseTime;
+    private final VaryKey.Selector selector;
+    private final VaryKey varyKey;
+    private final long date;
+    private final long age;
+    private final long weight;
+
+    CachedResponse(HttpStatus status,
+                   HttpHeaders headers,
+                   byte[] body,
+                   long requestTime,
+                   long responseTime,
+                   VaryKey.Selector selector,
+                   VaryKey varyKey) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.selector = selector;
+        this.varyKey = varyKey;
+
+        final long date = headers.getDate(HttpHeaders.DATE, NO_DATE);
+        this.date = (date == NO_DATE)
+                ? responseTime
+                : date;
+        this.age = parseAge(headers.getFirst(HttpHeaders.AGE));
+        this.weight = weigh(headers, body);
+    }
+
+    @NotNull
+    public HttpStatus status() {
+        return status;
+    }
+
+    @NotNull
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * @return stored body, array is shared and must not be modified
+     */
+    public byte @NotNull [] body() {
+        return body;
+    }
+
+    public long requestTime() {
+        return requestTime;
+    }
+
+    public long responseTime() {
+        return responseTime;
+    }
+
+    /**
+     * @return estimated bytes occupied by response
+     */
+    public long weight() {
+        return weight;
+    }
+
+    VaryKey.Selector selector() {
+        return selector;
+    }
+
+    VaryKey varyKey() {
+        return varyKey;
+    }
+
+    /**
+     * Calculates age as defined in
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.3">RFC 9111</a>
+     *
+     * @param now current time
+     * @return current age in millis
+     */
+    public long currentAge(long now) {
+        final long apparentAge = Math.max(0, responseTime - date);
+        final long responseDelay = responseTime - requestTime;
+        final long correctedAge = age * 1000 + responseDelay;
+        final long correctedInitialAge = Math.max(apparentAge, correctedAge);
+        final long residentTime = now - responseTime;
+        return correctedInitialAge + residentTime;
+    }
+
+    /**
+     * Calculates freshness lifetime as defined in
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-4.2.1">RFC 9111</a>, heuristic
+     * lifetime is 10% of time since {@link HttpHeaders#LAST_MODIFIED}
+     *
+     * @param shared whether cache is shared and s-maxage is applied
+     * @return freshness lifetime in millis
+     */
+    public long freshnessLifetime(boolean shared) {
+        final CacheControl cacheControl = headers.cacheControl();
+        if (shared && cacheControl.sMaxAge() != CacheControl.ABSENT) {
+            return cacheControl.sMaxAge() * 1000L;
+        } else if (cacheControl.maxAge() != CacheControl.ABSENT) {
+            return cacheControl.maxAge() * 1000L;
+        }
+
+        final String expiresValue = headers.getFirst(HttpHeaders.EXPIRES);
+        if (expiresValue != null) {
+            // invalid Expires represents time in the past
+            final long expires = headers.getDate(HttpHeaders.EXPIRES, NO_DATE);
+            return (expires == NO_DATE)
+                    ? 0
+                    : Math.max(0, expires - date);
+        }
+
+        if (isHeuristicallyCacheable(status)) {
+            final long lastModified = headers.getDate(HttpHeaders.LAST_MODIFIED, NO_DATE);
+            if (lastModified != NO_DATE && lastModified < date) {
+                return (date - lastModified) / 10;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return {@link HttpHeaders#IF_NONE_MATCH} and {@link HttpHeaders#IF_MODIFIED_SINCE} headers to
+     *             revalidate response or empty headers if response has no validators
+     */
+    @NotNull
+    public HttpHeaders conditionalHeaders() {
+        final String entityTag = headers.getFirst(HttpHeaders.ETAG);
+        final String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (entityTag != null && lastModified != null) {
+            return HttpHeaders.of(HttpHeaders.IF_NONE_MATCH, entityTag, HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        } else if (entityTag != null) {
+            return HttpHeaders.of(HttpHeaders.IF_NONE_MATCH, entityTag);
+        } else if (lastModified != null) {
+            return HttpHeaders.of(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        } else {
+            return HttpHeaders.empty();
+        }
+    }
+
+    /**
+     * @return true if status is cacheable by default
+     *             <a href="https://www.rfc-editor.org/rfc/rfc9110#section-15.1">RFC 9110</a>
+     */
+    static boolean isHeuristicallyCacheable(HttpStatus status) {
+        return switch (status.code()) {
+            case 200, 203, 204, 300, 301, 308, 404, 405, 410, 414, 501 -> true;
+            default -> false;
+        };
+    }
+
+    private static long parseAge(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+
+            result = result * 10 + digit;
+            if (result > Integer.MAX_VALUE) {
+                return Integer.MAX_VALUE;
+            }
+        }
+
+        return result;
+    }
+
+    private static long weigh(HttpHeaders headers, byte[] body) {
+        long weight = OVERHEAD + body.length;
+        for (Map.Entry<String, List<String>> entry : headers.getMultiMap().entrySet()) {
+            weight += 2L * entry.getKey().length();
+            for (String value : entry.getValue()) {
+                weight += 2L * value.length();
+            }
+        }
+
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return status.code() + " " + headers.getMultiMap();
+    }
+}
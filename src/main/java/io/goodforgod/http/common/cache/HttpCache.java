@@ -0,0 +1,383 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.CacheControl;
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.VaryKey;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Embeddable in-memory HTTP response cache keyed by method, URI and {@link HttpHeaders#VARY}
+ * selected request headers.
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>
+ * <p>
+ * Entries are spread across lock striped segments, each segment is size-bounded segmented LRU. Cache
+ * does not perform network calls, caller revalidates responses according to {@link CacheLookup} and
+ * reports result via {@link #revalidated(HttpMethod, String, HttpHeaders, CachedResponse, HttpHeaders, long, long)}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class HttpCache {
+
+    /**
+     * Headers that are not updated from 304 response
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-3.2">RFC 9111</a>
+     */
+    private static final Set<String> NOT_UPDATED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NOT_UPDATED_HEADERS.add(HttpHeaders.CONTENT_LENGTH);
+        NOT_UPDATED_HEADERS.add(HttpHeaders.CONTENT_ENCODING);
+        NOT_UPDATED_HEADERS.add(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    public static final class Builder {
+
+        private long maxWeight = 64L * 1024 * 1024;
+        private int stripes = 16;
+        private boolean shared = false;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {}
+
+        /**
+         * @param bytes maximum estimated bytes of stored responses
+         * @return self
+         */
+        @NotNull
+        public Builder maxWeight(long bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Max weight must be positive, but was: " + bytes);
+            }
+            this.maxWeight = bytes;
+            return this;
+        }
+
+        /**
+         * @param stripes amount of independently locked segments, rounded up to power of two
+         * @return self
+         */
+        @NotNull
+        public Builder stripes(int stripes) {
+            if (stripes <= 0 || stripes > (1 << 16)) {
+                throw new IllegalArgumentException("Stripes must be in range [1, 65536], but was: " + stripes);
+            }
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * @param shared whether cache is shared (proxy) cache that respects private and s-maxage
+         * @return self
+         */
+        @NotNull
+        public Builder shared(boolean shared) {
+            this.shared = shared;
+            return this;
+        }
+
+        @NotNull
+        public Builder clock(@NotNull Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        @NotNull
+        public HttpCache build() {
+            return new HttpCache(this);
+        }
+    }
+
+    private final CacheSegment[] segments;
+    private final int mask;
+    private final boolean shared;
+    private final Clock clock;
+
+    private HttpCache(Builder builder) {
+        final int stripes = Integer.highestOneBit(builder.stripes - 1 == 0
+                ? 1
+                : (builder.stripes - 1) << 1);
+        this.segments = new CacheSegment[stripes];
+        this.mask = stripes - 1;
+        this.shared = builder.shared;
+        this.clock = builder.clock;
+
+        final long segmentWeight = Math.max(1, builder.maxWeight / stripes);
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new CacheSegment(segmentWeight);
+        }
+    }
+
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param method  of request
+     * @param uri     of request
+     * @param request headers
+     * @return lookup result with stored response when one matches request
+     */
+    @NotNull
+    public CacheLookup lookup(@NotNull HttpMethod method, @NotNull String uri, @NotNull HttpHeaders request) {
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return CacheLookup.MISS;
+        }
+
+        final String key = key(method, uri);
+        final CachedResponse response = select(segment(key).get(key), method, uri, request);
+        if (response == null) {
+            return CacheLookup.MISS;
+        }
+
+        final long age = response.currentAge(clock.millis());
+        final long ageSeconds = Math.max(0, age / 1000);
+        final CacheControl requestControl = request.cacheControl();
+        final CacheControl responseControl = response.headers().cacheControl();
+        if (responseControl.noCache() || requestControl.noCache()) {
+            return new CacheLookup(CacheLookup.Status.REVALIDATE, response, ageSeconds);
+        }
+
+        final long lifetime = response.freshnessLifetime(shared);
+        final long minFresh = (requestControl.minFresh() == CacheControl.ABSENT)
+                ? 0
+                : requestControl.minFresh() * 1000L;
+        final boolean isAgeAcceptable = requestControl.maxAge() == CacheControl.ABSENT
+                || age <= requestControl.maxAge() * 1000L;
+
+        if (lifetime > age + minFresh && isAgeAcceptable) {
+            return new CacheLookup(CacheLookup.Status.HIT, response, ageSeconds);
+        }
+
+        final boolean mustRevalidate = responseControl.mustRevalidate()
+                || (shared && (responseControl.proxyRevalidate() || responseControl.sMaxAge() != CacheControl.ABSENT));
+        if (mustRevalidate || !isAgeAcceptable) {
+            return new CacheLookup(CacheLookup.Status.REVALIDATE, response, ageSeconds);
+        }
+
+        final long staleness = age - lifetime;
+        if (requestControl.maxStale() != CacheControl.ABSENT && staleness <= requestControl.maxStale() * 1000L) {
+            return new CacheLookup(CacheLookup.Status.STALE, response, ageSeconds);
+        } else if (responseControl.staleWhileRevalidate() != CacheControl.ABSENT
+                && staleness <= responseControl.staleWhileRevalidate() * 1000L) {
+            return new CacheLookup(CacheLookup.Status.STALE_WHILE_REVALIDATE, response, ageSeconds);
+        }
+
+        return new CacheLookup(CacheLookup.Status.REVALIDATE, response, ageSeconds);
+    }
+
+    /**
+     * Stores response using cache clock as request and response time
+     *
+     * @see #store(HttpMethod, String, HttpHeaders, HttpStatus, HttpHeaders, byte[], long, long)
+     */
+    public boolean store(@NotNull HttpMethod method,
+                         @NotNull String uri,
+                         @NotNull HttpHeaders request,
+                         @NotNull HttpStatus status,
+                         @NotNull HttpHeaders response,
+                         byte @NotNull [] body) {
+        final long now = clock.millis();
+        return store(method, uri, request, status, response, body, now, now);
+    }
+
+    /**
+     * @param method       of request
+     * @param uri          of request
+     * @param request      headers
+     * @param status       of response
+     * @param response     headers
+     * @param body         of response, array is stored as is and must not be modified afterwards
+     * @param requestTime  epoch millis when request was sent
+     * @param responseTime epoch millis when response was received
+     * @return true if response was stored
+     */
+    public boolean store(@NotNull HttpMethod method,
+                         @NotNull String uri,
+                         @NotNull HttpHeaders request,
+                         @NotNull HttpStatus status,
+                         @NotNull HttpHeaders response,
+                         byte @NotNull [] body,
+                         long requestTime,
+                         long responseTime) {
+        if (!isStorable(method, request, status, response)) {
+            return false;
+        }
+
+        final VaryKey.Selector selector = VaryKey.selector(response);
+        if (selector.isWildcard()) {
+            return false;
+        }
+
+        final VaryKey varyKey = selector.key(method, uri, request);
+        final CachedResponse cachedResponse = new CachedResponse(status, response, body, requestTime, responseTime,
+                selector, varyKey);
+
+        final String key = key(method, uri);
+        final CacheSegment segment = segment(key);
+        if (cachedResponse.weight() > segment.maxWeight()) {
+            return false;
+        }
+
+        segment.put(key, cachedResponse);
+        return true;
+    }
+
+    /**
+     * Updates stored response with headers of {@link HttpStatus#NOT_MODIFIED} response
+     *
+     * @param method       of request
+     * @param uri          of request
+     * @param request      headers
+     * @param stored       response that was revalidated
+     * @param notModified  headers of 304 response
+     * @param requestTime  epoch millis when revalidation request was sent
+     * @param responseTime epoch millis when revalidation response was received
+     * @return updated response
+     */
+    @NotNull
+    public CachedResponse revalidated(@NotNull HttpMethod method,
+                                      @NotNull String uri,
+                                      @NotNull HttpHeaders request,
+                                      @NotNull CachedResponse stored,
+                                      @NotNull HttpHeaders notModified,
+                                      long requestTime,
+                                      long responseTime) {
+        // names are merged ignoring case, stored header name representation is kept
+        final Map<String, List<String>> merged = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        merged.putAll(stored.headers().getMultiMap());
+        for (Map.Entry<String, List<String>> entry : notModified.getMultiMap().entrySet()) {
+            if (!NOT_UPDATED_HEADERS.contains(entry.getKey())) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(merged);
+        final CachedResponse updated = new CachedResponse(stored.status(), headers, stored.body(), requestTime,
+                responseTime, stored.selector(), stored.varyKey());
+
+        final CacheControl control = headers.cacheControl();
+        final String key = key(method, uri);
+        if (control.noStore() || request.cacheControl().noStore() || (shared && control.isPrivate())) {
+            segment(key).remove(key);
+        } else {
+            segment(key).put(key, updated);
+        }
+
+        return updated;
+    }
+
+    /**
+     * Invalidates stored GET and HEAD responses, should be called after successful unsafe request
+     *
+     * @param uri of resource
+     */
+    public void invalidate(@NotNull String uri) {
+        final String getKey = key(HttpMethod.GET, uri);
+        segment(getKey).remove(getKey);
+        final String headKey = key(HttpMethod.HEAD, uri);
+        segment(headKey).remove(headKey);
+    }
+
+    public void clear() {
+        for (CacheSegment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return amount of stored method and URI entries
+     */
+    public int size() {
+        int size = 0;
+        for (CacheSegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return estimated bytes of stored responses
+     */
+    public long weight() {
+        long weight = 0;
+        for (CacheSegment segment : segments) {
+            weight += segment.weight();
+        }
+        return weight;
+    }
+
+    /**
+     * Checks whether response can be stored
+     * <a href="https://www.rfc-editor.org/rfc/rfc9111#section-3">RFC 9111</a>
+     */
+    private boolean isStorable(HttpMethod method, HttpHeaders request, HttpStatus status, HttpHeaders response) {
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+
+        // partial and not modified responses are not stored as complete responses
+        if (status.code() < 200 || status == HttpStatus.PARTIAL_CONTENT || status == HttpStatus.NOT_MODIFIED) {
+            return false;
+        }
+
+        final CacheControl responseControl = response.cacheControl();
+        if (responseControl.noStore() || request.cacheControl().noStore()) {
+            return false;
+        }
+
+        if (shared) {
+            if (responseControl.isPrivate()) {
+                return false;
+            }
+
+            if (request.getFirst(HttpHeaders.AUTHORIZATION) != null
+                    && !responseControl.isPublic()
+                    && !responseControl.mustRevalidate()
+                    && responseControl.sMaxAge() == CacheControl.ABSENT) {
+                return false;
+            }
+        }
+
+        return responseControl.isPublic()
+                || (!shared && responseControl.isPrivate())
+                || responseControl.maxAge() != CacheControl.ABSENT
+                || (shared && responseControl.sMaxAge() != CacheControl.ABSENT)
+                || response.getFirst(HttpHeaders.EXPIRES) != null
+                || CachedResponse.isHeuristicallyCacheable(status);
+    }
+
+    @Nullable
+    private static CachedResponse select(List<CachedResponse> variants,
+                                         HttpMethod method,
+                                         String uri,
+                                         HttpHeaders request) {
+        for (CachedResponse variant : variants) {
+            if (variant.varyKey().equals(variant.selector().key(method, uri, request))) {
+                return variant;
+            }
+        }
+
+        return null;
+    }
+
+    private static String key(HttpMethod method, String uri) {
+        return method.name() + ' ' + uri;
+    }
+
+    private CacheSegment segment(String key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+}
@@ -0,0 +1,570 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpHeadersCodec;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.VaryKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Off-heap store for cached responses that keeps status, headers and body in append-only
+ * memory-mapped segment files under local directory.
+ * <p>
+ * Responses are located via off-heap open addressing index keyed by 128-bit {@link VaryKey}, index
+ * is rebuilt by scanning segments when store is opened. Record also keeps primary key (method and
+ * URI) which is compared on lookup, so hash collision of different resources is never served. Each
+ * record is protected with CRC32C and recovery stops scanning segment at first torn or corrupt
+ * record. Replaced and removed responses leave dead bytes in segments, segments with low live ratio
+ * are compacted by copying live records into the active segment, which is forced to disk before
+ * compacted segment is deleted. Lookups return zero-copy read-only slices of mapped segments which
+ * stay valid even after segment is compacted, cause mappings are released only when garbage
+ * collected.
+ * <p>
+ * Segment record layout: magic (int), type (byte), key high (long), key low (long), record length
+ * (int), CRC32C of the rest of record (int), status code (short), primary key length (int), headers
+ * length (int), UTF-8 primary key, {@link HttpHeadersCodec} headers, body.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class MappedResponseStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x48435254;
+    private static final byte TYPE_RESPONSE = 1;
+    private static final byte TYPE_TOMBSTONE = 2;
+    private static final int CRC_OFFSET = 4 + 1 + 8 + 8 + 4;
+    private static final int RECORD_HEADER_LENGTH = CRC_OFFSET + 4;
+    private static final int RESPONSE_HEADER_LENGTH = RECORD_HEADER_LENGTH + 2 + 4 + 4;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    public static final class Builder {
+
+        private final Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private double compactionThreshold = 0.5;
+        private Duration compactionInterval;
+
+        private Builder(Path directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * @param bytes size of each segment file, also maximum size of single response record
+         * @return self
+         */
+        @NotNull
+        public Builder segmentSize(int bytes) {
+            if (bytes < 1024) {
+                throw new IllegalArgumentException("Segment size must be at least 1024 bytes, but was: " + bytes);
+            }
+            this.segmentSize = bytes;
+            return this;
+        }
+
+        /**
+         * @param liveRatio segments with live bytes ratio below threshold are compacted
+         * @return self
+         */
+        @NotNull
+        public Builder compactionThreshold(double liveRatio) {
+            if (liveRatio <= 0 || liveRatio > 1) {
+                throw new IllegalArgumentException("Compaction threshold must be in range (0, 1], but was: " + liveRatio);
+            }
+            this.compactionThreshold = liveRatio;
+            return this;
+        }
+
+        /**
+         * @param interval to run compaction in background daemon thread, null disables background
+         *                 compaction
+         * @return self
+         */
+        @NotNull
+        public Builder compactionInterval(@Nullable Duration interval) {
+            this.compactionInterval = interval;
+            return this;
+        }
+
+        /**
+         * @return opened store with index rebuilt from existing segments
+         * @throws UncheckedIOException if directory or segments can't be opened
+         */
+        @NotNull
+        public MappedResponseStore build() {
+            try {
+                return new MappedResponseStore(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        private final int id;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private long liveBytes;
+
+        private Segment(int id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final double compactionThreshold;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final OffHeapIndex index = new OffHeapIndex(1024);
+    private final ScheduledExecutorService compactor;
+    private final AtomicLong compactionFailures = new AtomicLong();
+
+    private Segment active;
+    private boolean closed;
+
+    private MappedResponseStore(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.compactionThreshold = builder.compactionThreshold;
+
+        Files.createDirectories(directory);
+        recover();
+        this.active = segments.isEmpty()
+                ? newSegment(1)
+                : segments.lastEntry().getValue();
+
+        if (builder.compactionInterval == null) {
+            this.compactor = null;
+        } else {
+            this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "http-cache-store-compaction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long intervalMillis = builder.compactionInterval.toMillis();
+            compactor.scheduleWithFixedDelay(this::compactInBackground, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @param directory to store segment files in
+     * @return builder
+     */
+    @NotNull
+    public static Builder builder(@NotNull Path directory) {
+        return new Builder(Objects.requireNonNull(directory, "directory"));
+    }
+
+    /**
+     * Stores response replacing previous response with the same key
+     *
+     * @param key     of response
+     * @param method  of request, part of primary key
+     * @param uri     of request, part of primary key
+     * @param status  of response
+     * @param headers of response
+     * @param body    of response, remaining bytes are copied and buffer position is not changed
+     * @throws IllegalArgumentException if record doesn't fit into segment
+     * @throws UncheckedIOException     if new segment can't be created
+     */
+    public void put(@NotNull VaryKey key,
+                    @NotNull HttpMethod method,
+                    @NotNull CharSequence uri,
+                    @NotNull HttpStatus status,
+                    @NotNull HttpHeaders headers,
+                    @NotNull ByteBuffer body) {
+        final byte[] primaryKey = primaryKey(method, uri);
+        final byte[] encodedHeaders = HttpHeadersCodec.encode(headers);
+        final long recordLength = (long) RESPONSE_HEADER_LENGTH + primaryKey.length + encodedHeaders.length
+                + body.remaining();
+        if (recordLength > segmentSize) {
+            throw new IllegalArgumentException("Response of " + recordLength + " bytes exceeds segment size " + segmentSize);
+        }
+
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            final Segment segment = reserve((int) recordLength);
+            final int offset = segment.position;
+            final ByteBuffer target = segment.buffer.duplicate();
+            target.position(offset);
+            putRecordHeader(target, TYPE_RESPONSE, key, (int) recordLength);
+            target.putShort((short) status.code());
+            target.putInt(primaryKey.length);
+            target.putInt(encodedHeaders.length);
+            target.put(primaryKey);
+            target.put(encodedHeaders);
+            target.put(body.duplicate());
+            segment.buffer.putInt(offset + CRC_OFFSET, checksum(segment.buffer, offset, (int) recordLength));
+            segment.position += (int) recordLength;
+
+            release(index.find(key.high(), key.low()));
+            index.put(key.high(), key.low(), segment.id, offset, (int) recordLength);
+            segment.liveBytes += recordLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param key    of response
+     * @param method of request, must match stored primary key
+     * @param uri    of request, must match stored primary key
+     * @return stored response or null if absent or stored response has different primary key
+     */
+    @Nullable
+    public StoredResponse get(@NotNull VaryKey key, @NotNull HttpMethod method, @NotNull CharSequence uri) {
+        final byte[] primaryKey = primaryKey(method, uri);
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            final int slot = index.find(key.high(), key.low());
+            if (slot == -1) {
+                return null;
+            }
+
+            final Segment segment = segments.get(index.segmentAt(slot));
+            final int offset = index.offsetAt(slot);
+            final int length = index.lengthAt(slot);
+            final ByteBuffer record = segment.buffer.slice(offset, length).asReadOnlyBuffer();
+            final int primaryKeyLength = record.getInt(RECORD_HEADER_LENGTH + 2);
+            if (primaryKeyLength != primaryKey.length
+                    || record.slice(RESPONSE_HEADER_LENGTH, primaryKeyLength).mismatch(ByteBuffer.wrap(primaryKey)) != -1) {
+                return null;
+            }
+
+            final HttpStatus status = HttpStatus.valueOf(record.getShort(RECORD_HEADER_LENGTH));
+            final int headersLength = record.getInt(RECORD_HEADER_LENGTH + 6);
+            final int headersOffset = RESPONSE_HEADER_LENGTH + primaryKeyLength;
+            final ByteBuffer headers = record.slice(headersOffset, headersLength);
+            final int bodyOffset = headersOffset + headersLength;
+            final ByteBuffer body = record.slice(bodyOffset, length - bodyOffset);
+            return new StoredResponse(status, headers, body);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param key of response
+     * @return true if response was removed
+     * @throws UncheckedIOException if new segment can't be created
+     */
+    public boolean remove(@NotNull VaryKey key) {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            final int slot = index.find(key.high(), key.low());
+            if (slot == -1) {
+                return false;
+            }
+
+            release(slot);
+            index.removeAt(slot);
+            appendTombstone(key.high(), key.low());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return amount of stored responses
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return amount of segment files
+     */
+    public int segments() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return amount of background compaction runs that failed, failed run is retried on next interval
+     */
+    public long compactionFailures() {
+        return compactionFailures.get();
+    }
+
+    /**
+     * Compacts inactive segments with live bytes ratio below threshold by copying live records into
+     * active segment and deleting compacted segment files
+     *
+     * @throws UncheckedIOException if segment can't be created or deleted
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            for (Segment segment : new ArrayList<>(segments.values())) {
+                if (segment != active && segment.liveBytes < segment.position * compactionThreshold) {
+                    compact(segment);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            if (compactor != null) {
+                compactor.shutdownNow();
+            }
+
+            for (Segment segment : segments.values()) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            // exception would cancel scheduled task, so failure is only counted and next run retries
+            compactionFailures.incrementAndGet();
+        }
+    }
+
+    private void compact(Segment segment) {
+        final boolean hasOlderSegments = segments.firstKey() < segment.id;
+        final ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position < segment.position) {
+            final byte type = buffer.get(position + 4);
+            final long high = buffer.getLong(position + 5);
+            final long low = buffer.getLong(position + 13);
+            final int recordLength = buffer.getInt(position + 21);
+            final int slot = index.find(high, low);
+            if (type == TYPE_RESPONSE) {
+                if (slot != -1 && index.segmentAt(slot) == segment.id && index.offsetAt(slot) == position) {
+                    final Segment target = reserve(recordLength);
+                    final int offset = target.position;
+                    target.buffer.put(offset, buffer, position, recordLength);
+                    target.position += recordLength;
+                    target.liveBytes += recordLength;
+                    index.put(high, low, target.id, offset, recordLength);
+                }
+            } else if (slot == -1 && hasOlderSegments) {
+                // tombstone is still required to hide records in older segments on recovery
+                appendTombstone(high, low);
+            }
+
+            position += recordLength;
+        }
+
+        // moved records must be durable before their only other copy is deleted
+        active.buffer.force();
+        segments.remove(segment.id);
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendTombstone(long high, long low) {
+        final Segment segment = reserve(RECORD_HEADER_LENGTH);
+        final ByteBuffer target = segment.buffer.duplicate();
+        target.position(segment.position);
+        putRecordHeader(target, TYPE_TOMBSTONE, high, low, RECORD_HEADER_LENGTH);
+        segment.buffer.putInt(segment.position + CRC_OFFSET, checksum(segment.buffer, segment.position, RECORD_HEADER_LENGTH));
+        segment.position += RECORD_HEADER_LENGTH;
+    }
+
+    private static void putRecordHeader(ByteBuffer target, byte type, VaryKey key, int recordLength) {
+        putRecordHeader(target, type, key.high(), key.low(), recordLength);
+    }
+
+    private static void putRecordHeader(ByteBuffer target, byte type, long high, long low, int recordLength) {
+        target.putInt(MAGIC);
+        target.put(type);
+        target.putLong(high);
+        target.putLong(low);
+        target.putInt(recordLength);
+        target.putInt(0);
+    }
+
+    /**
+     * @return CRC32C of record except its checksum field
+     */
+    private static int checksum(ByteBuffer buffer, int offset, int recordLength) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        crc.update(buffer.slice(offset + RECORD_HEADER_LENGTH, recordLength - RECORD_HEADER_LENGTH));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] primaryKey(HttpMethod method, CharSequence uri) {
+        return (method.name() + ' ' + uri).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decrements live bytes of segment that holds record in index slot
+     */
+    private void release(int slot) {
+        if (slot != -1) {
+            final Segment previous = segments.get(index.segmentAt(slot));
+            if (previous != null) {
+                previous.liveBytes -= index.lengthAt(slot);
+            }
+        }
+    }
+
+    /**
+     * @return active segment with enough space for record, new segment is created when required
+     */
+    private Segment reserve(int recordLength) {
+        if (active.remaining() < recordLength) {
+            try {
+                active.buffer.force();
+                active = newSegment(active.id + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        return active;
+    }
+
+    private Segment newSegment(int id) throws IOException {
+        final Path path = directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX);
+        final Segment segment = openSegment(id, path);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private Segment openSegment(int id, Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        final long size = Math.max(segmentSize, channel.size());
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new Segment(id, path, channel, buffer);
+    }
+
+    private void recover() throws IOException {
+        final Map<Integer, Path> paths = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                final String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        final int id = Integer.parseInt(name, SEGMENT_PREFIX.length(),
+                                name.length() - SEGMENT_SUFFIX.length(), 10);
+                        paths.put(id, path);
+                    } catch (NumberFormatException e) {
+                        // not a segment file
+                    }
+                }
+            });
+        }
+
+        final List<Integer> ids = new ArrayList<>(paths.keySet());
+        ids.sort(null);
+        for (Integer id : ids) {
+            final Segment segment = openSegment(id, paths.get(id));
+            segments.put(id, segment);
+            scan(segment);
+        }
+    }
+
+    private void scan(Segment segment) {
+        final ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + RECORD_HEADER_LENGTH <= buffer.capacity() && buffer.getInt(position) == MAGIC) {
+            final byte type = buffer.get(position + 4);
+            final long high = buffer.getLong(position + 5);
+            final long low = buffer.getLong(position + 13);
+            final int recordLength = buffer.getInt(position + 21);
+            if (recordLength < RECORD_HEADER_LENGTH || position + (long) recordLength > buffer.capacity()
+                    || (type != TYPE_RESPONSE && type != TYPE_TOMBSTONE)
+                    || (type == TYPE_RESPONSE && recordLength < RESPONSE_HEADER_LENGTH)
+                    || buffer.getInt(position + CRC_OFFSET) != checksum(buffer, position, recordLength)) {
+                // torn or corrupt write, records after it can't be trusted
+                break;
+            }
+
+            final int slot = index.find(high, low);
+            release(slot);
+            if (type == TYPE_RESPONSE) {
+                index.put(high, low, segment.id, position, recordLength);
+                segment.liveBytes += recordLength;
+            } else if (slot != -1) {
+                index.removeAt(slot);
+            }
+
+            position += recordLength;
+        }
+
+        segment.position = position;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.goodforgod.http.common.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Open addressing hash index with linear probing stored in direct memory, maps 128-bit key to record
+ * location as segment id, offset and length.
+ * <p>
+ * Slot layout: key high (long), key low (long), segment id (int), offset (int), length (int) and
+ * padding, segment id zero marks empty slot. Not thread safe.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+final class OffHeapIndex {
+
+    private static final int SLOT_SIZE = 32;
+    private static final int HIGH = 0;
+    private static final int LOW = 8;
+    private static final int SEGMENT = 16;
+    private static final int OFFSET = 20;
+    private static final int LENGTH = 24;
+
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+
+    /**
+     * @param capacity initial slots amount, must be power of two
+     */
+    OffHeapIndex(int capacity) {
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        this.mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return slot of key or -1 if absent
+     */
+    int find(long high, long low) {
+        int slot = home(high, low);
+        while (!isEmpty(slot)) {
+            if (slots.getLong(slot * SLOT_SIZE + HIGH) == high && slots.getLong(slot * SLOT_SIZE + LOW) == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param segment id, must be positive
+     */
+    void put(long high, long low, int segment, int offset, int length) {
+        if ((size + 1) * 10L > (mask + 1) * 7L) {
+            grow();
+        }
+
+        int slot = home(high, low);
+        while (!isEmpty(slot)) {
+            if (slots.getLong(slot * SLOT_SIZE + HIGH) == high && slots.getLong(slot * SLOT_SIZE + LOW) == low) {
+                write(slot, high, low, segment, offset, length);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        write(slot, high, low, segment, offset, length);
+        size++;
+    }
+
+    int segmentAt(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + SEGMENT);
+    }
+
+    int offsetAt(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + OFFSET);
+    }
+
+    int lengthAt(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + LENGTH);
+    }
+
+    /**
+     * Removes slot with backward shift so probe sequences stay valid without tombstones
+     */
+    void removeAt(int slot) {
+        int hole = slot;
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            if (isEmpty(current)) {
+                break;
+            }
+
+            final int home = home(slots.getLong(current * SLOT_SIZE + HIGH), slots.getLong(current * SLOT_SIZE + LOW));
+            final boolean isBetween = (hole <= current)
+                    ? hole < home && home <= current
+                    : hole < home || home <= current;
+            if (!isBetween) {
+                copy(current, hole);
+                hole = current;
+            }
+        }
+
+        slots.putInt(hole * SLOT_SIZE + SEGMENT, 0);
+        size--;
+    }
+
+    private void grow() {
+        final ByteBuffer previous = slots;
+        final int previousCapacity = mask + 1;
+        this.slots = ByteBuffer.allocateDirect(previousCapacity * 2 * SLOT_SIZE);
+        this.mask = previousCapacity * 2 - 1;
+        this.size = 0;
+        for (int i = 0; i < previousCapacity; i++) {
+            final int base = i * SLOT_SIZE;
+            final int segment = previous.getInt(base + SEGMENT);
+            if (segment != 0) {
+                put(previous.getLong(base + HIGH), previous.getLong(base + LOW), segment,
+                        previous.getInt(base + OFFSET), previous.getInt(base + LENGTH));
+            }
+        }
+    }
+
+    private boolean isEmpty(int slot) {
+        return slots.getInt(slot * SLOT_SIZE + SEGMENT) == 0;
+    }
+
+    private void write(int slot, long high, long low, int segment, int offset, int length) {
+        final int base = slot * SLOT_SIZE;
+        slots.putLong(base + HIGH, high);
+        slots.putLong(base + LOW, low);
+        slots.putInt(base + SEGMENT, segment);
+        slots.putInt(base + OFFSET, offset);
+        slots.putInt(base + LENGTH, length);
+    }
+
+    private void copy(int from, int to) {
+        write(to, slots.getLong(from * SLOT_SIZE + HIGH), slots.getLong(from * SLOT_SIZE + LOW),
+                segmentAt(from), offsetAt(from), lengthAt(from));
+    }
+
+    private int home(long high, long low) {
+        long hash = high ^ Long.rotateLeft(low, 32);
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
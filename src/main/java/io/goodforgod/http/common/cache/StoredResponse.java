@@ -0,0 +1,61 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpHeadersCodec;
+import io.goodforgod.http.common.HttpStatus;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Response read from {@link MappedResponseStore}, headers are decoded lazily and body is a read-only
+ * zero-copy slice of memory-mapped segment.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+public final class StoredResponse {
+
+    private final HttpStatus status;
+    private final ByteBuffer encodedHeaders;
+    private final ByteBuffer body;
+
+    private HttpHeaders headers;
+
+    StoredResponse(HttpStatus status, ByteBuffer encodedHeaders, ByteBuffer body) {
+        this.status = status;
+        this.encodedHeaders = encodedHeaders;
+        this.body = body;
+    }
+
+    @NotNull
+    public HttpStatus status() {
+        return status;
+    }
+
+    /**
+     * @return headers decoded on first access
+     */
+    @NotNull
+    public HttpHeaders headers() {
+        HttpHeaders headers = this.headers;
+        if (headers == null) {
+            headers = HttpHeadersCodec.decode(encodedHeaders.duplicate());
+            this.headers = headers;
+        }
+
+        return headers;
+    }
+
+    /**
+     * @return read-only body slice of memory-mapped segment, each call returns independent position
+     */
+    @NotNull
+    public ByteBuffer body() {
+        return body.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return status.code() + " body=" + body.remaining() + "b";
+    }
+}
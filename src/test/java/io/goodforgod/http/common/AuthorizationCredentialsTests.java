@@ -0,0 +1,76 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class AuthorizationCredentialsTests extends Assertions {
+
+    private static String basic(String userAndPassword) {
+        return "Basic " + Base64.getEncoder().encodeToString(userAndPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void bearer() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.AUTHORIZATION, " bearer  eyJhbGciOi.J9.abc ");
+        final AuthorizationCredentials credentials = headers.authorizationCredentials();
+        assertNotNull(credentials);
+        assertSame(credentials, headers.authorizationCredentials());
+        assertTrue(credentials.isBearer());
+        assertFalse(credentials.isBasic());
+        assertEquals("bearer", credentials.scheme());
+        assertEquals("eyJhbGciOi.J9.abc", credentials.bearerToken().toString());
+        assertEquals("bearer ***", credentials.toString());
+    }
+
+    @Test
+    void basic() {
+        // given
+        final AuthorizationCredentials credentials = AuthorizationCredentials.parse(basic("user:päss:w😀rd"));
+        assertNotNull(credentials);
+        assertNull(credentials.bearerToken());
+
+        // when
+        final char[] buffer = new char[credentials.basicMaxLength()];
+        final int length = credentials.decodeBasic(buffer);
+
+        // then
+        assertEquals("user:päss:w😀rd", new String(buffer, 0, length));
+        assertEquals(4, AuthorizationCredentials.indexOfPasswordSeparator(buffer, length));
+        assertThrows(IllegalArgumentException.class, () -> credentials.decodeBasic(new char[1]));
+    }
+
+    @Test
+    void basicPadding() {
+        final char[] buffer = new char[16];
+        for (String value : new String[] { "a:b", "ab:c", "ab:cd" }) {
+            final AuthorizationCredentials credentials = AuthorizationCredentials.parse(basic(value));
+            final int length = credentials.decodeBasic(buffer);
+            assertEquals(value, new String(buffer, 0, length));
+        }
+    }
+
+    @Test
+    void basicInvalid() {
+        final char[] buffer = new char[16];
+        assertEquals(-1, AuthorizationCredentials.parse("Basic abc").decodeBasic(buffer));
+        assertEquals(-1, AuthorizationCredentials.parse("Basic ab=c").decodeBasic(buffer));
+        assertEquals(-1, AuthorizationCredentials.parse("Basic").decodeBasic(buffer));
+        assertEquals(-1, AuthorizationCredentials.parse("Bearer YTpi").decodeBasic(buffer));
+        // overlong encoding of '/'
+        assertEquals(-1, AuthorizationCredentials.parse("Basic wK8=").decodeBasic(buffer));
+    }
+
+    @Test
+    void absent() {
+        assertNull(HttpHeaders.empty().authorizationCredentials());
+        assertNull(HttpHeaders.of(HttpHeaders.AUTHORIZATION, "  ").authorizationCredentials());
+        assertNull(AuthorizationCredentials.parse("B@sic abc"));
+        assertTrue(AuthorizationCredentials.parse("Negotiate").isScheme("negotiate"));
+    }
+}
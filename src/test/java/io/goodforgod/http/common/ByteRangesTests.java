@@ -0,0 +1,62 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ByteRangesTests extends Assertions {
+
+    private static Stream<Arguments> source() {
+        return Stream.of(
+                Arguments.of("bytes=0-499", new long[] { 0, 499 }),
+                Arguments.of("Bytes=500-999", new long[] { 500, 999 }),
+                Arguments.of("bytes=-500", new long[] { 9500, 9999 }),
+                Arguments.of("bytes=-50000", new long[] { 0, 9999 }),
+                Arguments.of("bytes=9500-", new long[] { 9500, 9999 }),
+                Arguments.of("bytes=9500-20000", new long[] { 9500, 9999 }),
+                Arguments.of("bytes=0-0,-1", new long[] { 0, 0, 9999, 9999 }),
+                Arguments.of("bytes= 500-600 , 0-100, 601-999, 50-200", new long[] { 0, 200, 500, 999 }),
+                Arguments.of("bytes=10000-, -0", new long[0]),
+                Arguments.of("bytes=10-5", null),
+                Arguments.of("bytes=abc", null),
+                Arguments.of("bytes=1-2-3", null),
+                Arguments.of("bytes=", null),
+                Arguments.of("items=0-5", null),
+                Arguments.of("bytes=99999999999999999999-", null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("source")
+    void parse(String value, long[] expected) {
+        assertArrayEquals(expected, ByteRanges.parse(value, 10000));
+    }
+
+    @Test
+    void parseMaxRanges() {
+        assertNull(ByteRanges.parse("bytes=0-1,2-3,4-5", 100, 2));
+        assertArrayEquals(new long[] { 0, 5 }, ByteRanges.parse("bytes=0-1,2-3,4-5", 100, 3));
+        assertNull(ByteRanges.parse(null, 100));
+    }
+
+    @Test
+    void contentRange() {
+        assertEquals("bytes 0-499/1234", ByteRanges.contentRange(0, 499, 1234));
+        assertEquals("bytes */1234", ByteRanges.contentRangeUnsatisfied(1234));
+
+        final byte[] bytes = new byte[ByteRanges.CONTENT_RANGE_MAX_LENGTH];
+        final int length = ByteRanges.writeContentRange(Long.MAX_VALUE - 2, Long.MAX_VALUE - 2, Long.MAX_VALUE, bytes, 0);
+        assertEquals(length, ByteRanges.CONTENT_RANGE_MAX_LENGTH);
+        assertEquals("bytes " + (Long.MAX_VALUE - 2) + "-" + (Long.MAX_VALUE - 2) + "/" + Long.MAX_VALUE,
+                new String(bytes, StandardCharsets.US_ASCII));
+        assertThrows(IllegalArgumentException.class, () -> ByteRanges.contentRange(5, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> ByteRanges.contentRange(0, 10, 10));
+    }
+}
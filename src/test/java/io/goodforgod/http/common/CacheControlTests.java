@@ -0,0 +1,98 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class CacheControlTests extends Assertions {
+
+    @Test
+    void parseDirectives() {
+        final CacheControl cacheControl = CacheControl
+                .parse("Public, max-age=3600, s-maxage=\"60\", stale-while-revalidate=30, no-cache=\"Set-Cookie\", immutable");
+
+        assertTrue(cacheControl.isPublic());
+        assertTrue(cacheControl.noCache());
+        assertTrue(cacheControl.immutable());
+        assertFalse(cacheControl.noStore());
+        assertFalse(cacheControl.isPrivate());
+        assertEquals(3600, cacheControl.maxAge());
+        assertEquals(60, cacheControl.sMaxAge());
+        assertEquals(30, cacheControl.staleWhileRevalidate());
+        assertEquals(CacheControl.ABSENT, cacheControl.staleIfError());
+        assertEquals(CacheControl.ABSENT, cacheControl.minFresh());
+    }
+
+    @Test
+    void parseRequestDirectives() {
+        final CacheControl cacheControl = CacheControl.parse("max-stale, min-fresh=10, only-if-cached, max-age=99999999999");
+
+        assertTrue(cacheControl.onlyIfCached());
+        assertEquals(Integer.MAX_VALUE, cacheControl.maxStale());
+        assertEquals(10, cacheControl.minFresh());
+        assertEquals(Integer.MAX_VALUE, cacheControl.maxAge());
+    }
+
+    @Test
+    void parseInvalidIgnored() {
+        assertTrue(CacheControl.parse("").isEmpty());
+        assertTrue(CacheControl.parse(" , ,").isEmpty());
+        assertTrue(CacheControl.parse("=5, unknown=1, foo").isEmpty());
+        assertEquals(CacheControl.ABSENT, CacheControl.parse("max-age=abc").maxAge());
+    }
+
+    @Test
+    void parseCached() {
+        final String value = "private, no-store";
+        assertSame(CacheControl.parse(value), CacheControl.parse(value));
+    }
+
+    @Test
+    void format() {
+        final CacheControl cacheControl = CacheControl.builder()
+                .isPublic()
+                .mustRevalidate()
+                .maxAge(60)
+                .staleIfError(120)
+                .build();
+
+        assertEquals("must-revalidate, public, max-age=60, stale-if-error=120", cacheControl.toString());
+        assertEquals(cacheControl, CacheControl.parse(cacheControl.toString()));
+        assertEquals("", CacheControl.empty().toString());
+        assertThrows(IllegalArgumentException.class, () -> CacheControl.builder().maxAge(-1));
+    }
+
+    @Test
+    void headersCacheControl() {
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.CACHE_CONTROL, List.of("no-cache", "max-age=5")));
+
+        final CacheControl cacheControl = headers.cacheControl();
+        assertSame(cacheControl, headers.cacheControl());
+        assertTrue(cacheControl.noCache());
+        assertEquals(5, cacheControl.maxAge());
+        assertSame(CacheControl.empty(), HttpHeaders.empty().cacheControl());
+    }
+
+    @Test
+    void parseCacheIsBounded() {
+        // given
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, CacheControl.parse("max-age=" + i).maxAge());
+        }
+        final String longValue = "max-age=7, " + "x".repeat(HeaderValueCache.MAX_KEY_LENGTH);
+
+        // when
+        final CacheControl recent = CacheControl.parse("max-age=9999");
+        final CacheControl tooLong = CacheControl.parse(longValue);
+
+        // then
+        assertSame(recent, CacheControl.parse("max-age=9999"));
+        assertEquals(7, tooLong.maxAge());
+        assertNotSame(tooLong, CacheControl.parse(longValue));
+    }
+}
@@ -0,0 +1,87 @@
+package io.goodforgod.http.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ConditionalRequestTests extends Assertions {
+
+    private static final EntityTag TAG = EntityTag.strong("xyzzy");
+    private static final long LAST_MODIFIED = HttpDate.parse("Sun, 06 Nov 1994 08:49:37 GMT", -1) + 500;
+
+    @Test
+    void entityTagParse() {
+        assertEquals(EntityTag.strong("xyzzy"), EntityTag.parse("\"xyzzy\""));
+        assertEquals(EntityTag.weak("xyzzy"), EntityTag.parse(" W/\"xyzzy\" "));
+        assertEquals("W/\"xyzzy\"", EntityTag.weak("xyzzy").toString());
+        assertNull(EntityTag.parse("xyzzy"));
+        assertNull(EntityTag.parse("\"xy\"zzy\""));
+        assertThrows(IllegalArgumentException.class, () -> EntityTag.strong("a b"));
+    }
+
+    @Test
+    void entityTagComparison() {
+        assertTrue(TAG.strongMatch(EntityTag.strong("xyzzy")));
+        assertFalse(TAG.strongMatch(EntityTag.weak("xyzzy")));
+        assertTrue(TAG.weakMatch(EntityTag.weak("xyzzy")));
+        assertFalse(TAG.weakMatch(EntityTag.weak("xyzz")));
+    }
+
+    @Test
+    void entityTagMatchesAny() {
+        assertTrue(TAG.matchesAny("\"a\", W/\"xyzzy\"", true));
+        assertFalse(TAG.matchesAny("\"a\", W/\"xyzzy\"", false));
+        assertTrue(TAG.matchesAny("\"a\",\"xyzzy\"", false));
+        assertTrue(TAG.matchesAny(" * ", false));
+        assertFalse(TAG.matchesAny("\"xyzz\", \"xyzzy1\", broken, \"", true));
+        assertFalse(EntityTag.weak("xyzzy").matchesAny("\"xyzzy\"", false));
+    }
+
+    @Test
+    void ifNoneMatch() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.IF_NONE_MATCH, "W/\"xyzzy\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, ConditionalRequest.evaluate(HttpMethod.GET, headers, TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.PRECONDITION_FAILED, ConditionalRequest.evaluate(HttpMethod.PUT, headers, TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.GET, headers, EntityTag.strong("other"), LAST_MODIFIED));
+        assertEquals(HttpStatus.NOT_MODIFIED, ConditionalRequest.evaluate(HttpMethod.HEAD,
+                HttpHeaders.of(HttpHeaders.IF_NONE_MATCH, "*"), null, ConditionalRequest.NO_LAST_MODIFIED));
+    }
+
+    @Test
+    void ifMatch() {
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.PUT,
+                HttpHeaders.of(HttpHeaders.IF_MATCH, "\"xyzzy\""), TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.PRECONDITION_FAILED, ConditionalRequest.evaluate(HttpMethod.PUT,
+                HttpHeaders.of(HttpHeaders.IF_MATCH, "W/\"xyzzy\""), TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.PRECONDITION_FAILED, ConditionalRequest.evaluate(HttpMethod.PUT,
+                HttpHeaders.of(HttpHeaders.IF_MATCH, "\"xyzzy\""), null, LAST_MODIFIED));
+    }
+
+    @Test
+    void ifModifiedSince() {
+        final HttpHeaders notModified = HttpHeaders.of(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 06 Nov 1994 08:49:37 GMT");
+        assertEquals(HttpStatus.NOT_MODIFIED, ConditionalRequest.evaluate(HttpMethod.GET, notModified, TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.POST, notModified, TAG, LAST_MODIFIED));
+
+        final HttpHeaders modified = HttpHeaders.of(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 06 Nov 1994 08:49:36 GMT");
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.GET, modified, TAG, LAST_MODIFIED));
+
+        final HttpHeaders withNoneMatch = HttpHeaders.of(
+                HttpHeaders.IF_MODIFIED_SINCE, "Sun, 06 Nov 1994 08:49:37 GMT",
+                HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.GET, withNoneMatch, TAG, LAST_MODIFIED));
+    }
+
+    @Test
+    void ifUnmodifiedSince() {
+        assertEquals(HttpStatus.PRECONDITION_FAILED, ConditionalRequest.evaluate(HttpMethod.DELETE,
+                HttpHeaders.of(HttpHeaders.IF_UNMODIFIED_SINCE, "Sun, 06 Nov 1994 08:49:36 GMT"), TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.DELETE,
+                HttpHeaders.of(HttpHeaders.IF_UNMODIFIED_SINCE, "Sun, 06 Nov 1994 08:49:37 GMT"), TAG, LAST_MODIFIED));
+        assertEquals(HttpStatus.OK, ConditionalRequest.evaluate(HttpMethod.DELETE,
+                HttpHeaders.of(HttpHeaders.IF_UNMODIFIED_SINCE, "invalid"), TAG, LAST_MODIFIED));
+    }
+}
@@ -0,0 +1,81 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class ContentDispositionTests extends Assertions {
+
+    @Test
+    void parseQuotedFilename() {
+        final ContentDisposition disposition = ContentDisposition.parse("Attachment; filename=\"my \\\"report\\\".pdf\"");
+        assertNotNull(disposition);
+        assertTrue(disposition.isAttachment());
+        assertEquals("my \"report\".pdf", disposition.filename());
+        assertEquals(MediaType.APPLICATION_PDF_TYPE, disposition.mediaType().orElseThrow());
+    }
+
+    @Test
+    void parseExtendedFilenamePreferred() {
+        // given
+        final String value = "attachment; filename*=UTF-8''%E2%82%AC%20rates.txt; filename=\"EURO rates.txt\"";
+
+        // when
+        final ContentDisposition disposition = ContentDisposition.parse(value);
+
+        // then
+        assertNotNull(disposition);
+        assertEquals("\u20ac rates.txt", disposition.filename());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, disposition.mediaType().orElseThrow());
+        assertEquals(MediaType.TEXT_PLAIN_TYPE, disposition.mediaTypeOrNull());
+    }
+
+    @Test
+    void parseInvalidExtendedFilenameFallsBack() {
+        final ContentDisposition disposition = ContentDisposition.parse("attachment; filename=a.txt; filename*=KOI8-R''%C1");
+        assertNotNull(disposition);
+        assertEquals("a.txt", disposition.filename());
+        assertEquals("b.txt", ContentDisposition.parse("inline; filename*=iso-8859-1'en'b.txt").filename());
+        assertNull(ContentDisposition.parse("; filename=a.txt"));
+        assertNull(ContentDisposition.parse(null));
+    }
+
+    @Test
+    void parseFormData() {
+        final ContentDisposition disposition = ContentDisposition.parse("form-data; name=\"file\"; filename=photo.jpg");
+        assertNotNull(disposition);
+        assertTrue(disposition.isFormData());
+        assertEquals("file", disposition.name());
+        assertEquals("photo.jpg", disposition.filename());
+        assertEquals(ContentDisposition.formData("file", "photo.jpg"), disposition);
+        assertNull(ContentDisposition.formData("field", null).mediaTypeOrNull());
+    }
+
+    @Test
+    void write() {
+        assertEquals("inline", ContentDisposition.inline(null).toString());
+        assertEquals("attachment; filename=\"a \\\"b\\\".txt\"", ContentDisposition.attachment("a \"b\".txt").toString());
+        assertEquals("form-data; name=\"field\"", ContentDisposition.formData("field", null).toString());
+
+        final ContentDisposition disposition = ContentDisposition.attachment("na\u00efve r\u00e9sum\u00e9 \ud83d\ude00.txt");
+        final String expected = "attachment; filename=\"na_ve r_sum_ _.txt\"; "
+                + "filename*=UTF-8''na%C3%AFve%20r%C3%A9sum%C3%A9%20%F0%9F%98%80.txt";
+        assertEquals(expected, disposition.toString());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(128);
+        disposition.writeTo(buffer);
+        assertEquals(expected, new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+        assertArrayEquals(expected.getBytes(StandardCharsets.US_ASCII), disposition.toBytes());
+    }
+
+    @Test
+    void roundTrip() {
+        final ContentDisposition disposition = ContentDisposition.attachment("\u043e\u0442\u0447\u0451\u0442 \"2026\".pdf");
+        assertEquals(disposition, ContentDisposition.parse(disposition.toString()));
+    }
+}
@@ -0,0 +1,91 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class CookiesTests extends Assertions {
+
+    @Test
+    void getByName() {
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.COOKIE,
+                List.of("theme=dark; sid = abc123 ;lang=\"en\"", "sid=other; empty=")));
+
+        final Cookies cookies = headers.cookies();
+        assertSame(cookies, headers.cookies());
+        assertEquals("abc123", cookies.get("sid"));
+        assertEquals("dark", cookies.get("theme"));
+        assertEquals("en", cookies.get("lang"));
+        assertEquals("", cookies.get("empty"));
+        assertNull(cookies.get("si"));
+        assertNull(cookies.get("unknown"));
+        assertTrue(cookies.contains("lang"));
+        assertFalse(cookies.contains("dark"));
+    }
+
+    @Test
+    void toMap() {
+        final Cookies cookies = HttpHeaders.of(HttpHeaders.COOKIE, "a=1; b= \"2\" ; a=3; broken; c=").cookies();
+        assertEquals(Map.of("a", "1", "b", "2", "c", ""), cookies.toMap());
+        assertTrue(HttpHeaders.empty().cookies().isEmpty());
+        assertTrue(HttpHeaders.empty().cookies().toMap().isEmpty());
+        final Cookies segments = HttpHeaders.of(HttpHeaders.COOKIE, "a;".repeat(100_000) + "x=1").cookies();
+        assertEquals(Map.of("x", "1"), segments.toMap());
+    }
+
+    @Test
+    void setCookieRender() {
+        final SetCookie setCookie = SetCookie.builder("sid", "abc123")
+                .domain("example.com")
+                .path("/")
+                .maxAge(3600)
+                .expires(Instant.parse("1994-11-06T08:49:37Z").toEpochMilli())
+                .secure(true)
+                .httpOnly(true)
+                .sameSite(SetCookie.SameSite.NONE)
+                .partitioned(true)
+                .build();
+
+        final String expected = "sid=abc123; Domain=example.com; Path=/; Max-Age=3600; Expires=Sun, 06 Nov 1994 08:49:37 GMT; "
+                + "Secure; HttpOnly; SameSite=None; Partitioned";
+        assertEquals(expected, setCookie.toString());
+        assertEquals(expected, new String(setCookie.toBytes(), StandardCharsets.US_ASCII));
+
+        final StringBuilder builder = new StringBuilder();
+        setCookie.appendTo(builder);
+        assertEquals(expected, builder.toString());
+
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        setCookie.writeTo(buffer);
+        assertEquals(expected, new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void setCookieExpire() {
+        final SetCookie setCookie = SetCookie.builder("sid", "").maxAge(-1).build();
+        assertEquals("sid=; Max-Age=-1", setCookie.toString());
+        assertEquals("sid=; Max-Age=-1", new String(setCookie.toBytes(), StandardCharsets.US_ASCII));
+        assertEquals("sid=; Max-Age=0", new String(SetCookie.builder("sid", "").maxAge(0).build().toBytes(),
+                StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void setCookieInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> SetCookie.builder("", "v"));
+        assertThrows(IllegalArgumentException.class, () -> SetCookie.builder("s id", "v"));
+        assertThrows(IllegalArgumentException.class, () -> SetCookie.builder("sid", "a;b"));
+        assertThrows(IllegalArgumentException.class, () -> SetCookie.builder("sid", "v").path("/\r\nX: y"));
+        assertThrows(IllegalStateException.class, () -> SetCookie.builder("sid", "v").partitioned(true).build());
+        assertThrows(IllegalStateException.class,
+                () -> SetCookie.builder("sid", "v").sameSite(SetCookie.SameSite.NONE).build());
+        assertEquals("sid=v; SameSite=Lax", SetCookie.builder("sid", "v").sameSite(SetCookie.SameSite.LAX).build().toString());
+    }
+}
@@ -0,0 +1,86 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class EncodingNegotiatorTests extends Assertions {
+
+    private static final EncodingNegotiator NEGOTIATOR = EncodingNegotiator.of("br", "zstd", "gzip");
+
+    private static Stream<Arguments> source() {
+        return Stream.of(
+                Arguments.of(null, "identity"),
+                Arguments.of("", "identity"),
+                Arguments.of("gzip, deflate, br", "br"),
+                Arguments.of("gzip, deflate", "gzip"),
+                Arguments.of("x-gzip", "gzip"),
+                Arguments.of("GZIP;q=0.5, zstd;q=0.8", "zstd"),
+                Arguments.of("br;q=0.5, gzip;q=1.0", "gzip"),
+                Arguments.of("br;q=0.5, gzip;q=0.5", "br"),
+                Arguments.of("*", "br"),
+                Arguments.of("*;q=0.5, br;q=0", "zstd"),
+                Arguments.of("deflate", "identity"),
+                Arguments.of("gzip;q=0.1, identity;q=0.9", "identity"),
+                Arguments.of("identity;q=0", null),
+                Arguments.of("deflate, *;q=0", null),
+                Arguments.of("deflate, identity;q=0.1, *;q=0", "identity"),
+                Arguments.of("gzip;q=2, deflate", "identity"),
+                Arguments.of("gzip;q=0.001", "gzip"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("source")
+    void negotiate(String acceptEncoding, String expected) {
+        assertEquals(expected, NEGOTIATOR.negotiate(acceptEncoding));
+        // memoised decision
+        assertEquals(expected, NEGOTIATOR.negotiate(acceptEncoding));
+    }
+
+    @Test
+    void negotiateHeaders() {
+        assertEquals("gzip", NEGOTIATOR.negotiate(HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "gzip")));
+        assertEquals("identity", NEGOTIATOR.negotiate(HttpHeaders.empty()));
+        assertEquals("br", NEGOTIATOR.negotiate(HttpHeaders.ofMultiMap(Map.of(HttpHeaders.ACCEPT_ENCODING,
+                List.of("gzip;q=0.5", "br")))));
+        assertNull(NEGOTIATOR.negotiate(HttpHeaders.ofMultiMap(Map.of(HttpHeaders.ACCEPT_ENCODING,
+                List.of("x-custom", "identity;q=0")))));
+        assertThrows(IllegalArgumentException.class, () -> EncodingNegotiator.of("*"));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals("gzip", NEGOTIATOR.negotiate("x-" + i + ", gzip"));
+        }
+        assertNull(NEGOTIATOR.negotiate("x-1, identity;q=0"));
+        assertNull(NEGOTIATOR.negotiate("x-1, identity;q=0"));
+
+        final String longValue = "x-".repeat(HeaderValueCache.MAX_KEY_LENGTH) + ", gzip";
+        assertEquals("gzip", NEGOTIATOR.negotiate(longValue));
+        assertEquals("gzip", NEGOTIATOR.negotiate(longValue));
+    }
+
+    @Test
+    void qualityValues() {
+        assertEquals(1000, QualityValues.parseWeight(HeaderTokenizer.of(";q=1")));
+        assertEquals(1000, QualityValues.parseWeight(HeaderTokenizer.of(";q=1.000")));
+        assertEquals(500, QualityValues.parseWeight(HeaderTokenizer.of(";q=0.5")));
+        assertEquals(123, QualityValues.parseWeight(HeaderTokenizer.of(" ; Q=0.123")));
+        assertEquals(0, QualityValues.parseWeight(HeaderTokenizer.of(";q=0.")));
+        assertEquals(QualityValues.INVALID, QualityValues.parseWeight(HeaderTokenizer.of(";q=1.1")));
+        assertEquals(QualityValues.INVALID, QualityValues.parseWeight(HeaderTokenizer.of(";q=0.1234")));
+        assertEquals(QualityValues.INVALID, QualityValues.parseWeight(HeaderTokenizer.of(";q=")));
+        assertEquals(700, QualityValues.parseWeight(HeaderTokenizer.of(";level=1; q=0.7")));
+        assertEquals(1000, QualityValues.parseWeight(HeaderTokenizer.of(";level=1")));
+    }
+}
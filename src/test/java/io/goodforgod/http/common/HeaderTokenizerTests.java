@@ -0,0 +1,111 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class HeaderTokenizerTests extends Assertions {
+
+    @Test
+    void elementsWithQuotedCommas() {
+        // given
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(" a , ,\"b, c\" ;x=\"1,2\", d ");
+
+        // when
+        final List<String> elements = new ArrayList<>();
+        while (tokenizer.nextElement()) {
+            if (tokenizer.readElement()) {
+                elements.add(tokenizer.value());
+            }
+        }
+
+        // then
+        assertEquals(List.of("a", "\"b, c\" ;x=\"1,2\"", "d"), elements);
+    }
+
+    @Test
+    void tokensAndParameters() {
+        // given
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of("gzip;q=0.5;Level=\"a\\\"b\";flag, br");
+
+        // when
+        assertTrue(tokenizer.nextElement());
+        assertTrue(tokenizer.readToken());
+        assertEquals("gzip", tokenizer.value());
+
+        // then
+        assertTrue(tokenizer.nextParameter());
+        assertTrue(tokenizer.nameEqualsIgnoreCase("Q"));
+        assertEquals("0.5", tokenizer.value());
+        assertFalse(tokenizer.isQuoted());
+
+        assertTrue(tokenizer.nextParameter());
+        assertEquals("Level", tokenizer.name());
+        assertTrue(tokenizer.isQuoted());
+        assertEquals("a\"b", tokenizer.value());
+
+        assertTrue(tokenizer.nextParameter());
+        assertEquals("flag", tokenizer.name());
+        assertTrue(tokenizer.isValueEmpty());
+        assertFalse(tokenizer.nextParameter());
+
+        tokenizer.skipElement();
+        assertTrue(tokenizer.nextElement());
+        assertTrue(tokenizer.readToken());
+        assertTrue(tokenizer.valueEqualsIgnoreCase("BR"));
+        assertFalse(tokenizer.nextElement());
+    }
+
+    @Test
+    void unclosedQuote() {
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of("a=\"open, b");
+        assertTrue(tokenizer.nextElement());
+        assertTrue(tokenizer.readToken());
+        assertTrue(tokenizer.consume('='));
+        assertTrue(tokenizer.readValue());
+        assertEquals("open, b", tokenizer.value());
+        assertFalse(tokenizer.hasRemaining());
+    }
+
+    @Test
+    void bytes() {
+        final byte[] bytes = "xx no-cache, max-age=60".getBytes(StandardCharsets.US_ASCII);
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of(bytes, 3, bytes.length - 3);
+        assertTrue(tokenizer.nextElement());
+        assertTrue(tokenizer.readToken());
+        assertEquals("no-cache", tokenizer.value());
+        tokenizer.skipElement();
+        assertTrue(tokenizer.nextElement());
+        assertTrue(tokenizer.readToken());
+        assertTrue(tokenizer.consume('='));
+        assertTrue(tokenizer.readValue());
+        assertEquals(60, Integer.parseInt(tokenizer.value()));
+    }
+
+    @Test
+    void containsToken() {
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.CONNECTION,
+                List.of("Keep-Alive, Upgrade", "\"close, x\"")));
+        assertTrue(headers.containsToken(HttpHeaders.CONNECTION, "upgrade"));
+        assertTrue(headers.containsToken(HttpHeaders.CONNECTION, "keep-alive"));
+        assertFalse(headers.containsToken(HttpHeaders.CONNECTION, "close"));
+        assertFalse(headers.containsToken(HttpHeaders.UPGRADE, "upgrade"));
+        assertTrue(headers.isKeepAlive());
+    }
+
+    @Test
+    void acceptWithQuotedComma() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.ACCEPT, "text/plain;foo=\"a,b\", application/json");
+        final List<MediaType> accept = headers.accept();
+        assertEquals(2, accept.size());
+        assertEquals("\"a,b\"", accept.get(0).parameters().get("foo"));
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, accept.get(1));
+    }
+}
@@ -0,0 +1,83 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class HeaderValueInternerTests extends Assertions {
+
+    @Test
+    void wellKnownShared() {
+        // given
+        final HeaderValueInterner interner = HeaderValueInterner.create(0);
+        final byte[] bytes = "Connection: keep-alive".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        final String fromBytes = interner.intern(bytes, 12, 10);
+        final String fromChars = interner.intern(new StringBuilder("xx" + MediaType.APPLICATION_JSON), 2, 18);
+
+        // then
+        assertSame("keep-alive", fromBytes);
+        assertSame(MediaType.APPLICATION_JSON, fromChars);
+        assertSame("gzip", interner.intern(new String("gzip".toCharArray())));
+        assertTrue(HeaderValueInterner.isWellKnown("no-cache"));
+        assertFalse(HeaderValueInterner.isWellKnown("No-Cache"));
+    }
+
+    @Test
+    void adaptiveAdmitsOnSecondSighting() {
+        // given
+        final HeaderValueInterner interner = HeaderValueInterner.create();
+        final byte[] bytes = "custom-value".getBytes(StandardCharsets.US_ASCII);
+
+        // when
+        final String first = interner.intern(bytes, 0, bytes.length);
+        final String second = interner.intern(bytes, 0, bytes.length);
+        final String third = interner.intern(bytes, 0, bytes.length);
+        final String fourth = interner.intern("custom-value", 0, 12);
+
+        // then
+        assertEquals("custom-value", first);
+        assertNotSame(first, second);
+        assertSame(second, third);
+        assertSame(second, fourth);
+    }
+
+    @Test
+    void adaptiveDisabledAndLongValuesNotAdmitted() {
+        final HeaderValueInterner disabled = HeaderValueInterner.create(0);
+        final String value = "custom-value";
+        disabled.intern(value);
+        assertNotSame(value, disabled.intern(new String(value.toCharArray())));
+
+        final HeaderValueInterner interner = HeaderValueInterner.create(16);
+        final String longValue = "v".repeat(HeaderValueInterner.MAX_ADAPTIVE_LENGTH + 1);
+        interner.intern(longValue);
+        interner.intern(longValue);
+        assertNotSame(longValue, interner.intern(new String(longValue.toCharArray())));
+
+        assertThrows(IllegalArgumentException.class, () -> HeaderValueInterner.create(-1));
+    }
+
+    @Test
+    void tokenizerValue() {
+        // given
+        final HeaderValueInterner interner = HeaderValueInterner.create();
+        final HeaderTokenizer tokenizer = HeaderTokenizer.of("gzip, \"br\"");
+
+        // when
+        assertTrue(tokenizer.readValue());
+        final String first = tokenizer.value(interner);
+        tokenizer.nextElement();
+        assertTrue(tokenizer.readValue());
+        final String second = tokenizer.value(interner);
+
+        // then
+        assertSame("gzip", first);
+        assertEquals("br", second);
+    }
+}
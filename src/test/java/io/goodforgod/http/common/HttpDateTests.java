@@ -0,0 +1,93 @@
+package io.goodforgod.http.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class HttpDateTests extends Assertions {
+
+    private static final long EXPECTED = Instant.parse("1994-11-06T08:49:37Z").toEpochMilli();
+
+    private static Stream<Arguments> source() {
+        return Stream.of(
+                Arguments.of("Sun, 06 Nov 1994 08:49:37 GMT", EXPECTED),
+                Arguments.of(" Sun, 06 Nov 1994 08:49:37 GMT ", EXPECTED),
+                Arguments.of("Sunday, 06-Nov-94 08:49:37 GMT", EXPECTED),
+                Arguments.of("Sun Nov  6 08:49:37 1994", EXPECTED),
+                Arguments.of("Thu, 29 Feb 2024 23:59:59 GMT", Instant.parse("2024-02-29T23:59:59Z").toEpochMilli()),
+                Arguments.of("Sun, 06 Nov 1994 08:49:37 UTC", -1L),
+                Arguments.of("Thu, 29 Feb 2023 23:59:59 GMT", -1L),
+                Arguments.of("Sun, 06 Foo 1994 08:49:37 GMT", -1L),
+                Arguments.of("Sun, 06 Nov 1994 24:49:37 GMT", -1L),
+                Arguments.of("Sun Nov  6 08:49:37 94", -1L),
+                Arguments.of("0", -1L),
+                Arguments.of("", -1L));
+    }
+
+    @ParameterizedTest
+    @MethodSource("source")
+    void parse(String value, long expected) {
+        assertEquals(expected, HttpDate.parse(value, -1));
+
+        final byte[] bytes = ("__" + value).getBytes(StandardCharsets.US_ASCII);
+        assertEquals(expected, HttpDate.parse(bytes, 2, bytes.length - 2, -1));
+    }
+
+    @Test
+    void formatMatchesRfc1123() {
+        for (long millis = -10_000_000_000_000L; millis < 200_000_000_000_000L; millis += 987_654_321_987L) {
+            final String expected = DateTimeFormatter.RFC_1123_DATE_TIME
+                    .format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+            if (expected.length() == HttpDate.LENGTH) {
+                final String formatted = HttpDate.format(millis);
+                assertEquals(expected, formatted);
+                assertEquals(Math.floorDiv(millis, 1000) * 1000, HttpDate.parse(formatted, -1));
+            }
+        }
+    }
+
+    @Test
+    void formatToBuilderAndBytes() {
+        final StringBuilder builder = new StringBuilder("Date: ");
+        HttpDate.format(EXPECTED, builder);
+        assertEquals("Date: Sun, 06 Nov 1994 08:49:37 GMT", builder.toString());
+
+        final byte[] bytes = new byte[HttpDate.LENGTH + 1];
+        assertEquals(HttpDate.LENGTH + 1, HttpDate.format(EXPECTED, bytes, 1));
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", new String(bytes, 1, HttpDate.LENGTH, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void clockCachedPerSecond() {
+        final HttpDateClock clock = HttpDateClock.of(Clock.fixed(Instant.ofEpochMilli(EXPECTED + 500), ZoneOffset.UTC));
+        final String value = clock.value();
+        assertEquals("Sun, 06 Nov 1994 08:49:37 GMT", value);
+        assertSame(value, clock.value());
+        assertSame(clock.bytes(), clock.bytes());
+
+        final byte[] bytes = new byte[HttpDate.LENGTH];
+        clock.write(bytes, 0);
+        assertEquals(value, new String(bytes, StandardCharsets.US_ASCII));
+        assertEquals(HttpDate.LENGTH, HttpDateClock.system().value().length());
+    }
+
+    @Test
+    void headersDate() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.LAST_MODIFIED, "Sun, 06 Nov 1994 08:49:37 GMT");
+        assertEquals(EXPECTED, headers.getDate(HttpHeaders.LAST_MODIFIED, -1));
+        assertEquals(-1, headers.getDate(HttpHeaders.EXPIRES, -1));
+    }
+}
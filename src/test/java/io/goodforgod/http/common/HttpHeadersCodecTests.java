@@ -0,0 +1,153 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class HttpHeadersCodecTests extends Assertions {
+
+    @Test
+    void roundTrip() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(
+                HttpHeaders.CONTENT_TYPE, List.of(MediaType.APPLICATION_JSON_UTF_8),
+                HttpHeaders.CONNECTION, List.of("keep-alive"),
+                HttpHeaders.SET_COOKIE, List.of("a=1", "b=2"),
+                "X-Custom", List.of("custom value")));
+
+        // when
+        final byte[] encoded = HttpHeadersCodec.encode(headers);
+        final HttpHeaders decoded = HttpHeadersCodec.decode(encoded);
+
+        // then
+        assertEquals(HttpHeadersCodec.encodedLength(headers), encoded.length);
+        assertEquals(HttpHeadersCodec.VERSION, encoded[0]);
+        assertEquals(headers.getMultiMap(), decoded.getMultiMap());
+    }
+
+    @Test
+    void wellKnownEncodedAsIds() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON,
+                HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        // version, count, 2 x (name id, values count, value id)
+        assertEquals(8, HttpHeadersCodec.encode(headers).length);
+    }
+
+    @Test
+    void smallerThanPlainText() {
+        // given
+        final HttpHeaders headers = HttpHeaders.of(
+                HttpHeaders.CONTENT_TYPE, MediaType.TEXT_HTML,
+                HttpHeaders.CACHE_CONTROL, "no-cache",
+                HttpHeaders.ACCEPT_RANGES, "bytes",
+                HttpHeaders.VARY, "Accept-Encoding",
+                HttpHeaders.ETAG, "\"33a64df551425fcc55e4d42a148795d9f25f89d4\"");
+
+        // when
+        final StringBuilder text = new StringBuilder();
+        headers.getMultiMap().forEach((name, values) -> values.forEach(v -> text.append(name).append(": ").append(v).append("\r\n")));
+
+        // then
+        assertTrue(HttpHeadersCodec.encode(headers).length * 2 < text.toString().getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Test
+    void unicodeLiterals() {
+        // given
+        final String value = "café 日本 😀";
+        final HttpHeaders headers = HttpHeaders.of("X-über", value);
+
+        // when
+        final byte[] encoded = HttpHeadersCodec.encode(headers);
+
+        // then
+        assertEquals(HttpHeadersCodec.encodedLength(headers), encoded.length);
+        assertEquals(value, HttpHeadersCodec.decode(encoded).getFirst("X-über"));
+    }
+
+    @Test
+    void longLiteralUsesMultiByteLength() {
+        final String value = "v".repeat(70_000);
+        final HttpHeaders decoded = HttpHeadersCodec.decode(HttpHeadersCodec.encode(HttpHeaders.of("X-Long", value)));
+        assertEquals(value, decoded.getFirst("X-Long"));
+    }
+
+    @Test
+    void streamingBufferPosition() {
+        // given
+        final HttpHeaders first = HttpHeaders.of(HttpHeaders.HOST, "example.com");
+        final HttpHeaders second = HttpHeaders.empty();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+        // when
+        HttpHeadersCodec.encode(first, buffer);
+        HttpHeadersCodec.encode(second, buffer);
+        HttpHeadersCodec.encode(MediaType.of("text/plain; charset=ascii"), buffer);
+        buffer.flip();
+
+        // then
+        assertEquals("example.com", HttpHeadersCodec.decode(buffer).getFirst(HttpHeaders.HOST));
+        assertTrue(HttpHeadersCodec.decode(buffer).getMultiMap().isEmpty());
+        assertEquals(MediaType.of("text/plain; charset=ascii"), HttpHeadersCodec.decodeMediaType(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void mediaTypeWellKnown() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        HttpHeadersCodec.encode(MediaType.of(MediaType.APPLICATION_JSON), buffer);
+        assertEquals(2, buffer.position());
+        assertEquals(MediaType.of(MediaType.APPLICATION_JSON), HttpHeadersCodec.decodeMediaType(buffer.flip()));
+    }
+
+    @Test
+    void invalidEncoding() {
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(new byte[] { 2, 0 }));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(new byte[] { 1, 1, 0, 5, 'a' }));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(new byte[] { 1, 1, (byte) 255, 1, 1 }));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(new byte[0]));
+    }
+
+    @Test
+    void truncatedAndHugeCounts() {
+        // given
+        final byte[] encoded = HttpHeadersCodec.encode(HttpHeaders.of(HttpHeaders.HOST, "example.com", "X-Custom", "value"));
+        final byte[] truncated = Arrays.copyOf(encoded, encoded.length - 3);
+        // version, names count of 2^31 - 1 as varint
+        final byte[] hugeNames = { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        // version, one name with id, values count of 2^31 - 1
+        final byte[] hugeValues = { 1, 1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 };
+        // varint with negative value
+        final byte[] negative = { 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F };
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(truncated));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(hugeNames));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(hugeValues));
+        assertThrows(IllegalArgumentException.class, () -> HttpHeadersCodec.decode(negative));
+    }
+
+    @Test
+    void unpairedSurrogateLikeJdk() {
+        // given
+        final String value = "a\uD800b\uDC00";
+        final HttpHeaders headers = HttpHeaders.of("X-Custom", value);
+
+        // when
+        final byte[] encoded = HttpHeadersCodec.encode(headers);
+
+        // then
+        assertEquals(HttpHeadersCodec.encodedLength(headers), encoded.length);
+        assertEquals(new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                HttpHeadersCodec.decode(encoded).getFirst("X-Custom"));
+    }
+}
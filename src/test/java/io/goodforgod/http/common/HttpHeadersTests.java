@@ -201,4 +201,202 @@ void specialHeadersPresent() {
         final List<MediaType> accept = headers.accept();
         assertEquals(5, accept.size());
     }
+
+    @Test
+    void specialHeadersCached() {
+        // given
+        final HttpHeaders headers = HttpHeaders.of(
+                HttpHeaders.CONNECTION, "keep-alive",
+                HttpHeaders.CONTENT_LENGTH, "72",
+                HttpHeaders.CONTENT_TYPE, "application/hal+json");
+
+        // then
+        assertSame(headers.contentType(), headers.contentType());
+        assertSame(headers.contentLength(), headers.contentLength());
+        assertEquals(72, headers.contentLength().get());
+        assertEquals("application/hal+json", headers.contentType().get().name());
+        assertTrue(headers.isKeepAlive());
+        assertTrue(headers.isKeepAlive());
+    }
+
+    @Test
+    void specialHeadersCachedWhenAbsent() {
+        // given
+        final HttpHeaders headers = HttpHeaders.of("h1", "v1");
+
+        // then
+        assertSame(headers.contentType(), headers.contentType());
+        assertFalse(headers.contentType().isPresent());
+        assertFalse(headers.contentLength().isPresent());
+        assertFalse(headers.isKeepAlive());
+        assertFalse(headers.isKeepAlive());
+    }
+
+    @Test
+    void getFirst() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of("h1", List.of("v1", "v2")));
+
+        // then
+        assertEquals("v1", headers.getFirst("h1"));
+        assertNull(headers.getFirst("h2"));
+        assertEquals("v1", headers.getFirstOrDefault("h1", "default"));
+        assertEquals("default", headers.getFirstOrDefault("h2", "default"));
+    }
+
+    @Test
+    void contentLengthPrimitive() {
+        assertEquals(72, HttpHeaders.of(HttpHeaders.CONTENT_LENGTH, " 72 ").contentLength(-1));
+        assertEquals(-1, HttpHeaders.empty().contentLength(-1));
+        assertThrows(NumberFormatException.class, () -> HttpHeaders.of(HttpHeaders.CONTENT_LENGTH, "-1").contentLength(-1));
+        assertThrows(NumberFormatException.class, () -> HttpHeaders.of(HttpHeaders.CONTENT_LENGTH, "1a").contentLength(-1));
+
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.CONTENT_LENGTH, "72");
+        assertEquals(72, headers.contentLength().get());
+        assertEquals(72, headers.contentLength(-1));
+
+        final HttpHeaders primitiveFirst = HttpHeaders.of(HttpHeaders.CONTENT_LENGTH, "42");
+        assertEquals(42, primitiveFirst.contentLength(-1));
+        final Optional<Long> memoised = primitiveFirst.contentLength();
+        assertEquals(42, primitiveFirst.contentLength(-1));
+        assertSame(memoised, primitiveFirst.contentLength());
+    }
+
+    @Test
+    void wrapJdkHeaders() {
+        // given
+        final java.net.http.HttpHeaders jdkHeaders = java.net.http.HttpHeaders.of(
+                Map.of("content-length", List.of("15"), "Accept", List.of("text/plain", "application/json")),
+                (name, value) -> true);
+
+        // when
+        final HttpHeaders headers = HttpHeaders.wrap(jdkHeaders);
+
+        // then
+        assertSame(jdkHeaders.map(), headers.getMultiMap());
+        assertSame(jdkHeaders, headers.toJdkHeaders());
+        assertEquals(15L, headers.contentLength(-1));
+        assertEquals(2, headers.accept().size());
+        assertSame(HttpHeaders.empty(), HttpHeaders.wrap(java.net.http.HttpHeaders.of(Map.of(), (n, v) -> true)));
+    }
+
+    @Test
+    void wrapImmutable() {
+        final Map<String, List<String>> map = Map.of(HttpHeaders.ORIGIN, List.of("https://example.com"));
+        final HttpHeaders headers = HttpHeaders.wrapImmutable(map);
+        assertSame(map, headers.getMultiMap());
+        assertEquals("https://example.com", headers.origin().orElseThrow());
+        assertSame(HttpHeaders.empty(), HttpHeaders.wrapImmutable(null));
+    }
+
+    @Test
+    void toJdkHeaders() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.ORIGIN, "https://example.com");
+        final java.net.http.HttpHeaders jdkHeaders = headers.toJdkHeaders();
+        assertSame(jdkHeaders, headers.toJdkHeaders());
+        assertEquals("https://example.com", jdkHeaders.firstValue("origin").orElseThrow());
+    }
+
+    @Test
+    void toJdkHeadersMergesNamesDifferentOnlyInCase() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of("X-Trace", List.of("a"),
+                "x-trace", List.of("b", "c"),
+                "Accept", List.of("text/plain")));
+
+        // when
+        final java.net.http.HttpHeaders jdkHeaders = headers.toJdkHeaders();
+
+        // then
+        assertEquals(3, jdkHeaders.allValues("X-TRACE").size());
+        assertEquals(Set.of("a", "b", "c"), new HashSet<>(jdkHeaders.allValues("X-TRACE")));
+        assertEquals(List.of("text/plain"), jdkHeaders.allValues("accept"));
+        assertEquals(2, jdkHeaders.map().size());
+    }
+
+    @Test
+    void overlay() {
+        // given
+        final HttpHeaders defaults = HttpHeaders.of(HttpHeaders.USER_AGENT, "client/1.0",
+                HttpHeaders.ACCEPT, "application/json",
+                HttpHeaders.CONNECTION, "keep-alive");
+        final HttpHeaders request = HttpHeaders.of(HttpHeaders.ACCEPT, "text/plain",
+                HttpHeaders.CONTENT_LENGTH, "10");
+
+        // when
+        final HttpHeaders headers = HttpHeaders.overlay(defaults, request);
+
+        // then
+        assertEquals("client/1.0", headers.getFirst(HttpHeaders.USER_AGENT));
+        assertEquals(List.of("text/plain"), headers.findAll(HttpHeaders.ACCEPT));
+        assertEquals(10L, headers.contentLength(-1));
+        assertTrue(headers.isKeepAlive());
+        assertTrue(headers.findAll(HttpHeaders.ORIGIN).isEmpty());
+
+        final Map<String, List<String>> multiMap = headers.getMultiMap();
+        assertEquals(4, multiMap.size());
+        assertEquals(4, multiMap.entrySet().size());
+        assertEquals(Map.of(HttpHeaders.USER_AGENT, List.of("client/1.0"),
+                HttpHeaders.ACCEPT, List.of("text/plain"),
+                HttpHeaders.CONNECTION, List.of("keep-alive"),
+                HttpHeaders.CONTENT_LENGTH, List.of("10")), new HashMap<>(multiMap));
+        assertThrows(UnsupportedOperationException.class, () -> multiMap.put("a", List.of("b")));
+
+        assertSame(defaults, HttpHeaders.overlay(defaults, HttpHeaders.empty()));
+        assertSame(request, HttpHeaders.overlay(HttpHeaders.empty(), request));
+    }
+
+    @Test
+    void overlayShadowsIgnoringCase() {
+        // given
+        final HttpHeaders defaults = HttpHeaders.ofMultiMap(Map.of("Accept", List.of("application/json"),
+                "User-Agent", List.of("client/1.0")));
+        final HttpHeaders request = HttpHeaders.ofMultiMap(Map.of("accept", List.of("text/plain")));
+
+        // when
+        final HttpHeaders headers = HttpHeaders.overlay(defaults, request);
+        final Map<String, List<String>> multiMap = headers.getMultiMap();
+
+        // then
+        assertEquals(List.of("text/plain"), multiMap.get("accept"));
+        assertNull(multiMap.get("Accept"), "base entry shadowed by case variant is hidden");
+        assertFalse(multiMap.containsKey("Accept"));
+        assertEquals(2, multiMap.size());
+        assertEquals(Map.of("accept", List.of("text/plain"), "User-Agent", List.of("client/1.0")),
+                new HashMap<>(multiMap));
+    }
+
+    @Test
+    void overlayMatchesNamesExactlyInBothLayers() {
+        // given
+        final HttpHeaders defaults = HttpHeaders.ofMultiMap(Map.of("User-Agent", List.of("client/1.0")));
+        final HttpHeaders request = HttpHeaders.ofMultiMap(Map.of("X-Request-Id", List.of("42")));
+
+        // when
+        final HttpHeaders headers = HttpHeaders.overlay(defaults, request);
+
+        // then
+        assertEquals("42", headers.getFirst("X-Request-Id"));
+        assertNull(headers.getFirst("x-request-id"), "override layer matches exactly");
+        assertEquals("client/1.0", headers.getFirst("User-Agent"));
+        assertNull(headers.getFirst("user-agent"), "base layer matches exactly");
+    }
+
+    @Test
+    void getMapView() {
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.ACCEPT, List.of("text/plain", "text/html"),
+                HttpHeaders.ORIGIN, List.of("https://example.com")));
+
+        final Map<String, String> map = headers.getMap();
+        assertSame(map, headers.getMap());
+        assertEquals(Map.of(HttpHeaders.ACCEPT, "text/plain", HttpHeaders.ORIGIN, "https://example.com"), map);
+        assertEquals(Map.of(HttpHeaders.ACCEPT, "text/plain", HttpHeaders.ORIGIN, "https://example.com").hashCode(),
+                map.hashCode());
+        assertEquals("text/plain", map.get(HttpHeaders.ACCEPT));
+        assertNull(map.get(HttpHeaders.USER_AGENT));
+        assertTrue(map.containsKey(HttpHeaders.ORIGIN));
+        assertEquals(2, map.entrySet().size());
+        assertThrows(UnsupportedOperationException.class, () -> map.put("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(HttpHeaders.ORIGIN));
+    }
 }
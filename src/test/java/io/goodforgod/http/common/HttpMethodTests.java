@@ -1,5 +1,7 @@
 package io.goodforgod.http.common;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -41,4 +43,56 @@ void methodOfUnknown() {
         final HttpMethod method = HttpMethod.of("PuTtto");
         assertEquals(HttpMethod.CUSTOM, method);
     }
+
+    @Test
+    void parseBytes() {
+        for (HttpMethod expected : HttpMethod.values()) {
+            if (expected == HttpMethod.CUSTOM) {
+                continue;
+            }
+
+            // given
+            final byte[] bytes = ("\r\n" + expected.name() + " /path HTTP/1.1").getBytes(StandardCharsets.US_ASCII);
+
+            // when
+            final int parsed = HttpMethod.parse(bytes, 2);
+
+            // then
+            assertEquals(expected, HttpMethod.method(parsed));
+            assertEquals(expected.length(), HttpMethod.consumed(parsed));
+            assertEquals(' ', bytes[2 + HttpMethod.consumed(parsed)]);
+        }
+    }
+
+    @Test
+    void parseBytesCaseAndCustom() {
+        assertEquals(HttpMethod.DELETE, HttpMethod.method(HttpMethod.parse("delete /".getBytes(StandardCharsets.US_ASCII), 0)));
+        assertEquals(HttpMethod.PUT, HttpMethod.method(HttpMethod.parse("PuT".getBytes(StandardCharsets.US_ASCII), 0)));
+
+        final int custom = HttpMethod.parse("PROPFIND /".getBytes(StandardCharsets.US_ASCII), 0);
+        assertEquals(HttpMethod.CUSTOM, HttpMethod.method(custom));
+        assertEquals(8, HttpMethod.consumed(custom));
+
+        assertEquals(HttpMethod.CUSTOM, HttpMethod.method(HttpMethod.parse("GE@".getBytes(StandardCharsets.US_ASCII), 0)));
+        assertEquals(HttpMethod.CUSTOM, HttpMethod.method(HttpMethod.parse("GETS /".getBytes(StandardCharsets.US_ASCII), 0)));
+        assertEquals(HttpMethod.CUSTOM, HttpMethod.method(HttpMethod.parse("G{T /".getBytes(StandardCharsets.US_ASCII), 0)));
+        assertEquals(-1, HttpMethod.parse(" GET".getBytes(StandardCharsets.US_ASCII), 0));
+        assertEquals(-1, HttpMethod.parse(new byte[0], 0));
+    }
+
+    @Test
+    void parseByteBuffer() {
+        // given
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put("xxOPTIONS * HTTP/1.1".getBytes(StandardCharsets.US_ASCII)).flip();
+
+        // when
+        final int parsed = HttpMethod.parse(buffer, 2);
+
+        // then
+        assertEquals(HttpMethod.OPTIONS, HttpMethod.method(parsed));
+        assertEquals(7, HttpMethod.consumed(parsed));
+        assertEquals(0, buffer.position());
+        assertEquals(-1, HttpMethod.parse(buffer, buffer.limit()));
+    }
 }
@@ -0,0 +1,76 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class LanguageNegotiatorTests extends Assertions {
+
+    private static final Locale EN_GB = Locale.forLanguageTag("en-GB");
+    private static final Locale DE = Locale.forLanguageTag("de");
+    private static final Locale ZH_HANT = Locale.forLanguageTag("zh-Hant");
+
+    private static final LanguageNegotiator NEGOTIATOR = LanguageNegotiator.of(Locale.ENGLISH, EN_GB, DE, ZH_HANT);
+
+    private static Stream<Arguments> lookupSource() {
+        return Stream.of(
+                Arguments.of("en-GB", EN_GB),
+                Arguments.of("EN-gb", EN_GB),
+                Arguments.of("en-US", Locale.ENGLISH),
+                Arguments.of("fr, de;q=0.8, en;q=0.9", Locale.ENGLISH),
+                Arguments.of("fr, de;q=0.8, en;q=0", DE),
+                Arguments.of("en-US, en;q=0", null),
+                Arguments.of("en-US, en;q=0, de;q=0.1", DE),
+                Arguments.of("en-GB, en;q=0", EN_GB),
+                Arguments.of("zh-Hant-CN-x-private1", ZH_HANT),
+                Arguments.of("zh", null),
+                Arguments.of("*", null),
+                Arguments.of("fr", null),
+                Arguments.of("", null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("lookupSource")
+    void lookup(String acceptLanguage, Locale expected) {
+        assertSame(expected, NEGOTIATOR.lookup(acceptLanguage));
+        assertSame(expected, NEGOTIATOR.lookup(acceptLanguage));
+    }
+
+    @Test
+    void lookupDefault() {
+        assertSame(DE, NEGOTIATOR.lookup("fr", DE));
+        assertSame(EN_GB, NEGOTIATOR.lookup("en-gb", DE));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 5_000; i++) {
+            assertSame(DE, NEGOTIATOR.lookup("x" + i + ", de"));
+            assertEquals(List.of(DE), NEGOTIATOR.filter("x" + i + ", de"));
+        }
+
+        final String longValue = "fr;q=0.1, ".repeat(HeaderValueCache.MAX_KEY_LENGTH) + "en-gb";
+        assertSame(EN_GB, NEGOTIATOR.lookup(longValue));
+        assertEquals(List.of(EN_GB), NEGOTIATOR.filter(longValue));
+    }
+
+    @Test
+    void filter() {
+        assertEquals(List.of(Locale.ENGLISH, EN_GB), NEGOTIATOR.filter("en"));
+        assertEquals(List.of(EN_GB), NEGOTIATOR.filter("en-gb"));
+        assertEquals(List.of(DE, Locale.ENGLISH, EN_GB), NEGOTIATOR.filter("en;q=0.5, de"));
+        assertEquals(List.of(ZH_HANT, Locale.ENGLISH, EN_GB, DE), NEGOTIATOR.filter("zh, *;q=0.1"));
+        assertEquals(List.of(), NEGOTIATOR.filter("e, fr"));
+        assertSame(NEGOTIATOR.filter("en"), NEGOTIATOR.filter("en"));
+        assertThrows(IllegalArgumentException.class, () -> LanguageNegotiator.of());
+    }
+}
@@ -44,4 +44,18 @@ void creatingMediaTypeWithParams() {
         assertTrue(mediaType.charset().isPresent());
         assertEquals(StandardCharsets.UTF_8, mediaType.charset().get());
     }
+
+    @Test
+    void charsetOrNull() {
+        assertEquals(StandardCharsets.UTF_8, MediaType.of("text/plain;charset=utf-8").charsetOrNull());
+        assertNull(MediaType.of("text/plain").charsetOrNull());
+    }
+
+    @Test
+    void ofExtensionOrNull() {
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, MediaType.ofExtensionOrNull("json"));
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, MediaType.ofFilenameOrNull("dir/file.json"));
+        assertNull(MediaType.ofExtensionOrNull("unknown-extension"));
+        assertNull(MediaType.ofFilenameOrNull("file"));
+    }
 }
@@ -0,0 +1,205 @@
+package io.goodforgod.http.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class StructuredFieldsTests extends Assertions {
+
+    private static Stream<Arguments> corpus() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Objects.requireNonNull(StructuredFieldsTests.class.getResourceAsStream("/structured-fields.txt")),
+                StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.startsWith("#"))
+                    .map(line -> line.split("\t", -1))
+                    .map(row -> Arguments.of(row[0], row[1].replace("<TAB>", "\t"), row[2]))
+                    .toList()
+                    .stream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void conformance(String type, String input, String expected) {
+        // when
+        final String fromChars = serialize(type, input);
+        final byte[] bytes = ("xx" + input).getBytes(StandardCharsets.ISO_8859_1);
+        final String fromBytes = serialize(type, bytes);
+
+        // then
+        if ("FAIL".equals(expected)) {
+            assertNull(fromChars, input);
+            assertNull(fromBytes, input);
+        } else {
+            assertEquals(expected, fromChars, input);
+            assertEquals(expected, fromBytes, input);
+            assertEquals(expected, serialize(type, expected), "canonical form must round trip");
+        }
+    }
+
+    private static String serialize(String type, String input) {
+        return switch (type) {
+            case "item" -> toString(StructuredItem.parse(input));
+            case "list" -> toString(StructuredList.parse(input));
+            case "dictionary" -> toString(StructuredDictionary.parse(input));
+            default -> throw new IllegalArgumentException(type);
+        };
+    }
+
+    private static String serialize(String type, byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        switch (type) {
+            case "item" -> {
+                final StructuredItem item = StructuredItem.parse(bytes, 2, bytes.length - 2);
+                if (item == null) {
+                    return null;
+                }
+                item.writeTo(buffer);
+            }
+            case "list" -> {
+                final StructuredList list = StructuredList.parse(bytes, 2, bytes.length - 2);
+                if (list == null) {
+                    return null;
+                }
+                list.writeTo(buffer);
+            }
+            case "dictionary" -> {
+                final StructuredDictionary dictionary = StructuredDictionary.parse(bytes, 2, bytes.length - 2);
+                if (dictionary == null) {
+                    return null;
+                }
+                dictionary.writeTo(buffer);
+            }
+            default -> throw new IllegalArgumentException(type);
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII);
+    }
+
+    private static String toString(Object value) {
+        return (value == null)
+                ? null
+                : value.toString();
+    }
+
+    @Test
+    void itemValues() {
+        assertEquals(42, StructuredItem.parse("42").longValue());
+        assertEquals(1.5, StructuredItem.parse("1.5").doubleValue());
+        assertEquals("a\"b", StructuredItem.parse("\"a\\\"b\"").stringValue());
+        assertEquals("foo", StructuredItem.parse("foo").stringValue());
+        assertArrayEquals("hello".getBytes(StandardCharsets.US_ASCII), StructuredItem.parse(":aGVsbG8=:").bytesValue());
+        assertTrue(StructuredItem.parse("?1").booleanValue());
+        assertNull(StructuredItem.parse("\"café\""));
+        assertNull(StructuredItem.parse((String) null));
+        assertThrows(IllegalStateException.class, () -> StructuredItem.parse("foo").longValue());
+    }
+
+    @Test
+    void build() {
+        // given
+        final StructuredDictionary dictionary = StructuredDictionary.builder()
+                .put("u", StructuredItem.ofInteger(3))
+                .put("i", StructuredItem.ofBoolean(true))
+                .put("w", StructuredItem.ofDecimal(0.1235).withParameters(StructuredParameters.builder()
+                        .put("s", StructuredItem.ofString("x\"y"))
+                        .put("t", StructuredItem.ofToken("a/b"))
+                        .build()))
+                .put("l", StructuredItem.ofInnerList(List.of(StructuredItem.ofBytes(new byte[] { 1 }),
+                        StructuredItem.ofBoolean(false))))
+                .build();
+
+        // when
+        final String serialized = dictionary.toString();
+
+        // then
+        assertEquals("u=3, i, w=0.124;s=\"x\\\"y\";t=a/b, l=(:AQ==: ?0)", serialized);
+        assertEquals(dictionary, StructuredDictionary.parse(serialized));
+        assertEquals("1, (2 3)", StructuredList.of(StructuredItem.ofInteger(1),
+                StructuredItem.ofInnerList(List.of(StructuredItem.ofInteger(2), StructuredItem.ofInteger(3)))).toString());
+    }
+
+    @Test
+    void buildInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> StructuredItem.ofInteger(1_000_000_000_000_000L));
+        assertThrows(IllegalArgumentException.class, () -> StructuredItem.ofDecimal(1e12));
+        assertThrows(IllegalArgumentException.class, () -> StructuredItem.ofString("\n"));
+        assertThrows(IllegalArgumentException.class, () -> StructuredItem.ofToken("1a"));
+        assertThrows(IllegalArgumentException.class, () -> StructuredDictionary.builder().put("A", StructuredItem.ofInteger(1)));
+        assertThrows(IllegalArgumentException.class, () -> StructuredParameters.builder().put("a",
+                StructuredItem.ofInnerList(List.of())));
+        assertThrows(IllegalArgumentException.class, () -> StructuredItem.ofInnerList(List.of(
+                StructuredItem.ofInnerList(List.of()))));
+    }
+
+    @Test
+    void lazyDictionary() {
+        // given
+        final StructuredDictionary dictionary = StructuredDictionary.parse("a=1, b=(x y);p=?0, c, a=\"last\"");
+
+        // when
+        final StructuredItem b = dictionary.get("b");
+
+        // then
+        assertNotNull(b);
+        assertSame(b, dictionary.get("b"));
+        assertEquals(List.of("x", "y"), b.innerList().stream().map(StructuredItem::stringValue).toList());
+        assertFalse(b.parameters().get("p").booleanValue());
+        assertEquals("last", dictionary.get("a").stringValue());
+        assertTrue(dictionary.get("c").booleanValue());
+        assertNull(dictionary.get("d"));
+        assertEquals(List.of("a", "b", "c"), dictionary.keys());
+        assertEquals(3, dictionary.size());
+    }
+
+    @Test
+    void lazyList() {
+        final StructuredList list = StructuredList.parse("sugar, tea;fresh, (milk honey)");
+        assertNotNull(list);
+        assertEquals(3, list.size());
+        assertEquals("tea", list.get(1).stringValue());
+        assertSame(list.get(1), list.get(1));
+        assertTrue(list.get(1).parameters().get("fresh").booleanValue());
+        assertEquals(StructuredItem.Type.INNER_LIST, list.get(2).type());
+        assertEquals(list, StructuredList.parse(list.toString()));
+    }
+
+    @Test
+    void headers() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(
+                HttpHeaders.PRIORITY, List.of("u=1, i"),
+                HttpHeaders.CACHE_STATUS, List.of("ExampleCache; hit", "OriginCache; fwd=uri-miss"),
+                "Example-Item", List.of("?1")));
+
+        // when
+        final StructuredDictionary priority = headers.structuredDictionary(HttpHeaders.PRIORITY);
+        final StructuredList cacheStatus = headers.structuredList(HttpHeaders.CACHE_STATUS);
+
+        // then
+        assertEquals(1, priority.get("u").longValue());
+        assertTrue(priority.contains("i"));
+        assertEquals(2, cacheStatus.size());
+        assertEquals("uri-miss", cacheStatus.get(1).parameters().get("fwd").stringValue());
+        assertTrue(headers.structuredItem("Example-Item").booleanValue());
+        assertNull(headers.structuredList(HttpHeaders.PROXY_STATUS));
+    }
+}
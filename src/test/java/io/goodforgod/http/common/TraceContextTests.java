@@ -0,0 +1,139 @@
+package io.goodforgod.http.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class TraceContextTests extends Assertions {
+
+    private static final String TRACEPARENT = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    @Test
+    void parse() {
+        // when
+        final TraceContext context = TraceContext.parse(TRACEPARENT);
+
+        // then
+        assertNotNull(context);
+        assertEquals(0, context.version());
+        assertEquals(0x4bf92f3577b34da6L, context.traceIdHigh());
+        assertEquals(0xa3ce929d0e0e4736L, context.traceIdLow());
+        assertEquals(0x00f067aa0ba902b7L, context.parentId());
+        assertTrue(context.isSampled());
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+        assertEquals("00f067aa0ba902b7", context.parentIdHex());
+        assertEquals(TRACEPARENT, context.toString());
+    }
+
+    @Test
+    void parseBytes() {
+        final byte[] bytes = ("traceparent: " + TRACEPARENT).getBytes(StandardCharsets.US_ASCII);
+        assertEquals(TraceContext.parse(TRACEPARENT), TraceContext.parse(bytes, 13, TraceContext.LENGTH));
+    }
+
+    @Test
+    void parseAllOnes() {
+        final TraceContext context = TraceContext.parse("00-ffffffffffffffffffffffffffffffff-ffffffffffffffff-ff");
+        assertNotNull(context);
+        assertEquals(-1L, context.traceIdHigh());
+        assertEquals(-1L, context.parentId());
+    }
+
+    @Test
+    void parseFutureVersion() {
+        final TraceContext context = TraceContext.parse(
+                "cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00-what-the-future-holds");
+        assertNotNull(context);
+        assertEquals(0xcc, context.version());
+        assertFalse(context.isSampled());
+        assertTrue(context.toString().startsWith("00-"));
+    }
+
+    @Test
+    void parseInvalid() {
+        assertNull(TraceContext.parse(null));
+        assertNull(TraceContext.parse(""));
+        assertNull(TraceContext.parse(TRACEPARENT + "-"));
+        assertNull(TraceContext.parse(TRACEPARENT.toUpperCase()));
+        assertNull(TraceContext.parse("ff" + TRACEPARENT.substring(2)));
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e473g-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-ffffffffffffffffffffffffffffffff-fffffffffffffffz-ff"));
+        assertNull(TraceContext.parse("cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01.x"));
+    }
+
+    @Test
+    void write() {
+        // given
+        final TraceContext context = TraceContext.of(0x4bf92f3577b34da6L, 0xa3ce929d0e0e4736L, 0x00f067aa0ba902b7L,
+                TraceContext.FLAG_SAMPLED);
+
+        // when
+        final byte[] bytes = new byte[TraceContext.LENGTH + 2];
+        final int end = context.writeTo(bytes, 2);
+        final ByteBuffer heap = ByteBuffer.allocate(TraceContext.LENGTH);
+        context.writeTo(heap);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(TraceContext.LENGTH + 1).put((byte) ' ');
+        context.writeTo(direct);
+        final StringBuilder builder = new StringBuilder("traceparent: ");
+        context.appendTo(builder);
+
+        // then
+        assertEquals(bytes.length, end);
+        assertEquals(TRACEPARENT, new String(bytes, 2, TraceContext.LENGTH, StandardCharsets.US_ASCII));
+        assertEquals(TRACEPARENT, new String(heap.array(), StandardCharsets.US_ASCII));
+        assertEquals(" " + TRACEPARENT, StandardCharsets.US_ASCII.decode(direct.flip()).toString());
+        assertEquals("traceparent: " + TRACEPARENT, builder.toString());
+        assertThrows(java.nio.BufferOverflowException.class, () -> context.writeTo(ByteBuffer.allocate(10)));
+        assertThrows(java.nio.BufferOverflowException.class, () -> context.writeTo(ByteBuffer.allocateDirect(10)));
+    }
+
+    @Test
+    void childSpan() {
+        final TraceContext child = TraceContext.parse(TRACEPARENT, "congo=t61rcWkgMzE").withParentId(0x1234L);
+        assertEquals("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000001234-01", child.toString());
+        assertEquals("congo=t61rcWkgMzE", child.traceState());
+        assertThrows(IllegalArgumentException.class, () -> child.withParentId(0));
+        assertThrows(IllegalArgumentException.class, () -> TraceContext.of(0, 0, 1, (byte) 0));
+    }
+
+    @Test
+    void traceStateLookup() {
+        final TraceContext context = TraceContext.parse(TRACEPARENT, "rojo=00f067aa0ba902b7, congo=t61rcWkgMzE ,ro=1");
+        assertNotNull(context);
+        assertEquals("00f067aa0ba902b7", context.traceState("rojo"));
+        assertEquals("t61rcWkgMzE", context.traceState("congo"));
+        assertEquals("1", context.traceState("ro"));
+        assertNull(context.traceState("r"));
+        assertNull(context.traceState("missing"));
+        assertNull(TraceContext.parse(TRACEPARENT).traceState("rojo"));
+    }
+
+    @Test
+    void headersTraceContext() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(
+                HttpHeaders.TRACEPARENT, List.of(TRACEPARENT),
+                HttpHeaders.TRACESTATE, List.of("rojo=1", "congo=2")));
+
+        // when
+        final TraceContext context = headers.traceContext();
+
+        // then
+        assertNotNull(context);
+        assertSame(context, headers.traceContext());
+        assertEquals("2", context.traceState("congo"));
+        assertNull(HttpHeaders.empty().traceContext());
+        assertNull(HttpHeaders.ofMultiMap(Map.of(HttpHeaders.TRACEPARENT, List.of(TRACEPARENT, TRACEPARENT))).traceContext());
+        assertNull(HttpHeaders.of(HttpHeaders.TRACEPARENT, "invalid").traceContext());
+    }
+}
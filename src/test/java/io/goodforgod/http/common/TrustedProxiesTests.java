@@ -0,0 +1,86 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class TrustedProxiesTests extends Assertions {
+
+    private final TrustedProxies proxies = TrustedProxies.of("10.0.0.0/8", "192.168.1.1", "fd00::/8", "2001:db8::/32");
+
+    @Test
+    void trustedAddresses() {
+        assertTrue(proxies.isTrusted("10.1.2.3"));
+        assertTrue(proxies.isTrusted("192.168.1.1"));
+        assertTrue(proxies.isTrusted("192.168.1.1:8080"));
+        assertTrue(proxies.isTrusted("fd12:3456::1"));
+        assertTrue(proxies.isTrusted("[2001:db8:cafe::17]:4711"));
+        assertTrue(proxies.isTrusted("::ffff:10.0.0.1"));
+        assertFalse(proxies.isTrusted("192.168.1.2"));
+        assertFalse(proxies.isTrusted("11.0.0.1"));
+        assertFalse(proxies.isTrusted("2001:db9::1"));
+        assertFalse(proxies.isTrusted("::1"));
+        assertFalse(proxies.isTrusted("unknown"));
+        assertFalse(proxies.isTrusted("10.0.0"));
+        assertFalse(proxies.isTrusted("10.0.0.256"));
+        assertFalse(proxies.isTrusted("1:2:3:4:5:6:7:8:9"));
+    }
+
+    @Test
+    void invalidRanges() {
+        assertThrows(IllegalArgumentException.class, () -> TrustedProxies.of("10.0.0.0/33"));
+        assertThrows(IllegalArgumentException.class, () -> TrustedProxies.of("10.0.0.0/x"));
+        assertThrows(IllegalArgumentException.class, () -> TrustedProxies.of("example.com"));
+        assertTrue(TrustedProxies.of("0.0.0.0/0").isTrusted("8.8.8.8"));
+    }
+
+    @Test
+    void resolveFromXForwardedFor() {
+        // given
+        final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.X_FORWARDED_FOR,
+                List.of("203.0.113.7, 198.51.100.1", "10.0.0.2 ,10.0.0.1")));
+
+        // when
+        final String client = proxies.resolveClient(headers, "10.0.0.9");
+
+        // then
+        assertEquals("198.51.100.1", client);
+    }
+
+    @Test
+    void resolveFromForwarded() {
+        final HttpHeaders headers = HttpHeaders.of(HttpHeaders.FORWARDED,
+                "for=\"[2001:db8:aa::1]:4711\";proto=https, proto=http;For=\"[2001:db8::17]\", for=10.0.0.1;by=10.0.0.2");
+        assertEquals("2001:db8:aa::1", proxies.resolveClient(headers, "10.0.0.5"));
+
+        final HttpHeaders obfuscated = HttpHeaders.of(HttpHeaders.FORWARDED, "for=_hidden, for=10.1.1.1");
+        assertEquals("_hidden", proxies.resolveClient(obfuscated, "10.0.0.1"));
+    }
+
+    @Test
+    void resolveWhenChainTrustedOrAbsent() {
+        final HttpHeaders trusted = HttpHeaders.of(HttpHeaders.X_FORWARDED_FOR, "10.0.0.3, 10.0.0.2:80");
+        assertEquals("10.0.0.3", proxies.resolveClient(trusted, "10.0.0.1"));
+        assertEquals("10.0.0.1", proxies.resolveClient(HttpHeaders.empty(), "10.0.0.1"));
+        assertEquals("8.8.8.8", proxies.resolveClient(trusted, "8.8.8.8"));
+        assertNull(proxies.resolveClient(HttpHeaders.empty(), null));
+    }
+
+    @Test
+    void unknownPeerIgnoresHeaders() {
+        // given
+        final HttpHeaders spoofed = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.FORWARDED, List.of("for=203.0.113.7"),
+                HttpHeaders.X_FORWARDED_FOR, List.of("198.51.100.1")));
+
+        // when
+        final String client = proxies.resolveClient(spoofed, null);
+
+        // then
+        assertNull(client);
+    }
+}
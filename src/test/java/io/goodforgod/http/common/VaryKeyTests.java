@@ -0,0 +1,80 @@
+package io.goodforgod.http.common;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class VaryKeyTests extends Assertions {
+
+    @Test
+    void selector() {
+        final VaryKey.Selector selector = VaryKey.selector(HttpHeaders.ofMultiMap(Map.of(HttpHeaders.VARY,
+                List.of("Accept-Encoding, accept", "Accept-Language, Accept-Encoding"))));
+        assertEquals(List.of("accept", "accept-encoding", "accept-language"), selector.headerNames());
+        assertFalse(selector.isWildcard());
+        assertEquals(selector, VaryKey.selector("accept-language,ACCEPT , accept-encoding"));
+
+        assertTrue(VaryKey.selector("Accept, *").isWildcard());
+        assertNull(VaryKey.selector("*").key(HttpMethod.GET, "/", HttpHeaders.empty()));
+        assertTrue(VaryKey.selector((String) null).headerNames().isEmpty());
+    }
+
+    @Test
+    void keyNormalizesSelectedHeaders() {
+        // given
+        final VaryKey.Selector selector = VaryKey.selector("Accept-Encoding, Accept-Language");
+        final HttpHeaders first = HttpHeaders.of("accept-encoding", "gzip,  br", HttpHeaders.USER_AGENT, "a");
+        final HttpHeaders second = HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, " gzip ,br\t", HttpHeaders.USER_AGENT, "b");
+
+        // when
+        final VaryKey firstKey = selector.key(HttpMethod.GET, "/resource", first);
+        final VaryKey secondKey = selector.key(HttpMethod.GET, "/resource", second);
+
+        // then
+        assertNotNull(firstKey);
+        assertEquals(firstKey, secondKey);
+        assertEquals(32, firstKey.toString().length());
+        assertEquals(firstKey, VaryKey.of(firstKey.high(), firstKey.low()));
+    }
+
+    @Test
+    void keyDistinguishesInputs() {
+        final VaryKey.Selector selector = VaryKey.selector("Accept-Encoding");
+        final HttpHeaders gzip = HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        final VaryKey key = selector.key(HttpMethod.GET, "/a", gzip);
+
+        assertNotEquals(key, selector.key(HttpMethod.HEAD, "/a", gzip));
+        assertNotEquals(key, selector.key(HttpMethod.GET, "/b", gzip));
+        assertNotEquals(key, selector.key(HttpMethod.GET, "/a", HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "br")));
+        assertNotEquals(key, selector.key(HttpMethod.GET, "/a", HttpHeaders.empty()));
+        assertNotEquals(selector.key(HttpMethod.GET, "/a", HttpHeaders.empty()),
+                selector.key(HttpMethod.GET, "/a", HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "")));
+        assertNotEquals(selector.key(HttpMethod.GET, "/ab", HttpHeaders.empty()),
+                VaryKey.selector((String) null).key(HttpMethod.GET, "/ab", HttpHeaders.empty()));
+        assertNotEquals(selector.key("GE", "T/a", gzip), key);
+    }
+
+    @Test
+    void keyMatchesAnySpellingOfSelectedHeaders() {
+        // given
+        final VaryKey.Selector selector = VaryKey.selector("Accept-Encoding, accept-language, Origin");
+        final HttpHeaders canonical = HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "gzip",
+                HttpHeaders.ACCEPT_LANGUAGE, "en");
+        final HttpHeaders mixed = HttpHeaders.of("ACCEPT-ENCODING", "gzip", "Accept-language", "en");
+
+        // when
+        final VaryKey canonicalKey = selector.key(HttpMethod.GET, "/", canonical);
+        final VaryKey mixedKey = selector.key(HttpMethod.GET, "/", mixed);
+
+        // then
+        assertEquals(canonicalKey, mixedKey);
+        assertEquals(canonicalKey, selector.key(HttpMethod.GET, "/", HttpHeaders.of("accept-encoding", "gzip",
+                "accept-language", "en")));
+        assertNotEquals(canonicalKey, selector.key(HttpMethod.GET, "/", HttpHeaders.of("ACCEPT-ENCODING", "gzip")));
+    }
+}
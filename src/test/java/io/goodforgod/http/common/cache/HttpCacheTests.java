@@ -0,0 +1,239 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.HttpDate;
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class HttpCacheTests extends Assertions {
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_760_000_000_000L;
+
+        private void advanceSeconds(long seconds) {
+            millis += seconds * 1000;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private static final String URI = "https://example.com/resource";
+    private static final byte[] BODY = new byte[1000];
+
+    private final MutableClock clock = new MutableClock();
+
+    private HttpCache cache(boolean shared) {
+        return HttpCache.builder().clock(clock).shared(shared).build();
+    }
+
+    @Test
+    void freshThenRevalidate() {
+        // given
+        final HttpCache cache = cache(false);
+        final HttpHeaders response = HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.ETAG, "\"v1\"",
+                HttpHeaders.CONTENT_LENGTH, "1000");
+        assertTrue(cache.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK, response, BODY));
+
+        // when
+        clock.advanceSeconds(30);
+        final CacheLookup fresh = cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty());
+        clock.advanceSeconds(31);
+        final CacheLookup stale = cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty());
+
+        // then
+        assertEquals(CacheLookup.Status.HIT, fresh.status());
+        assertEquals(30, fresh.age());
+        assertSame(BODY, fresh.response().body());
+        assertEquals(CacheLookup.Status.REVALIDATE, stale.status());
+        assertFalse(stale.isServable());
+        assertEquals("\"v1\"", stale.response().conditionalHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(CacheLookup.Status.MISS, cache.lookup(HttpMethod.HEAD, URI, HttpHeaders.empty()).status());
+    }
+
+    @Test
+    void revalidatedMergesHeaders() {
+        final HttpCache cache = cache(false);
+        final HttpHeaders response = HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=10",
+                HttpHeaders.ETAG, "\"v1\"",
+                HttpHeaders.CONTENT_LENGTH, "1000");
+        cache.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+        clock.advanceSeconds(20);
+
+        final CachedResponse stored = cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).response();
+        final HttpHeaders notModified = HttpHeaders.of("cache-control", "max-age=100", HttpHeaders.CONTENT_LENGTH, "0");
+        final CachedResponse updated = cache.revalidated(HttpMethod.GET, URI, HttpHeaders.empty(), stored, notModified,
+                clock.millis(), clock.millis());
+
+        assertEquals("max-age=100", updated.headers().getFirst(HttpHeaders.CACHE_CONTROL));
+        assertEquals("1000", updated.headers().getFirst(HttpHeaders.CONTENT_LENGTH));
+        assertEquals("\"v1\"", updated.headers().getFirst(HttpHeaders.ETAG));
+        clock.advanceSeconds(50);
+        final CacheLookup lookup = cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty());
+        assertEquals(CacheLookup.Status.HIT, lookup.status());
+        assertSame(updated, lookup.response());
+    }
+
+    @Test
+    void staleWhileRevalidateAndMaxStale() {
+        final HttpCache cache = cache(false);
+        cache.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=10, stale-while-revalidate=30"), BODY);
+
+        clock.advanceSeconds(20);
+        assertEquals(CacheLookup.Status.STALE_WHILE_REVALIDATE, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.REVALIDATE,
+                cache.lookup(HttpMethod.GET, URI, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=5")).status());
+        assertEquals(CacheLookup.Status.REVALIDATE,
+                cache.lookup(HttpMethod.GET, URI, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "no-cache")).status());
+
+        clock.advanceSeconds(30);
+        assertEquals(CacheLookup.Status.REVALIDATE, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        final CacheLookup maxStale = cache.lookup(HttpMethod.GET, URI, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-stale"));
+        assertEquals(CacheLookup.Status.STALE, maxStale.status());
+        assertTrue(maxStale.isServable());
+    }
+
+    @Test
+    void freshnessFromExpiresAndLastModified() {
+        final HttpCache cache = cache(false);
+        final long now = clock.millis();
+        cache.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK, HttpHeaders.of(
+                HttpHeaders.DATE, HttpDate.format(now),
+                HttpHeaders.EXPIRES, HttpDate.format(now + 60_000)), BODY);
+        cache.store(HttpMethod.GET, URI + "/heuristic", HttpHeaders.empty(), HttpStatus.OK, HttpHeaders.of(
+                HttpHeaders.DATE, HttpDate.format(now),
+                HttpHeaders.LAST_MODIFIED, HttpDate.format(now - 1_000_000)), BODY);
+        cache.store(HttpMethod.GET, URI + "/age", HttpHeaders.empty(), HttpStatus.OK, HttpHeaders.of(
+                HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.AGE, "50"), BODY);
+
+        clock.advanceSeconds(59);
+        assertEquals(CacheLookup.Status.HIT, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.HIT, cache.lookup(HttpMethod.GET, URI + "/heuristic", HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.REVALIDATE, cache.lookup(HttpMethod.GET, URI + "/age", HttpHeaders.empty()).status());
+        clock.advanceSeconds(100);
+        assertEquals(CacheLookup.Status.REVALIDATE, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.REVALIDATE,
+                cache.lookup(HttpMethod.GET, URI + "/heuristic", HttpHeaders.empty()).status());
+    }
+
+    @Test
+    void varyVariants() {
+        // given
+        final HttpCache cache = cache(false);
+        final HttpHeaders gzipRequest = HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        final HttpHeaders brRequest = HttpHeaders.of(HttpHeaders.ACCEPT_ENCODING, "br");
+        final byte[] gzipBody = new byte[] { 1 };
+        final byte[] brBody = new byte[] { 2 };
+
+        // when
+        cache.store(HttpMethod.GET, URI, gzipRequest, HttpStatus.OK, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.VARY, "Accept-Encoding"), gzipBody);
+        cache.store(HttpMethod.GET, URI, brRequest, HttpStatus.OK, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60",
+                HttpHeaders.VARY, "Accept-Encoding"), brBody);
+
+        // then
+        assertSame(gzipBody, cache.lookup(HttpMethod.GET, URI, gzipRequest).response().body());
+        assertSame(brBody, cache.lookup(HttpMethod.GET, URI, brRequest).response().body());
+        assertEquals(CacheLookup.Status.MISS, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(1, cache.size());
+        assertFalse(cache.store(HttpMethod.GET, URI, gzipRequest, HttpStatus.OK, HttpHeaders.of(HttpHeaders.CACHE_CONTROL,
+                "max-age=60", HttpHeaders.VARY, "*"), gzipBody));
+    }
+
+    @Test
+    void notStorable() {
+        final HttpCache shared = cache(true);
+        final HttpHeaders maxAge = HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60");
+        final HttpHeaders authorized = HttpHeaders.of(HttpHeaders.AUTHORIZATION, "Bearer token");
+        assertFalse(shared.store(HttpMethod.POST, URI, HttpHeaders.empty(), HttpStatus.OK, maxAge, BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "no-store"), BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "no-store"), HttpStatus.OK,
+                maxAge, BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "private, max-age=60"), BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, authorized, HttpStatus.OK, maxAge, BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.PARTIAL_CONTENT, maxAge, BODY));
+        assertFalse(shared.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.CREATED, HttpHeaders.empty(), BODY));
+        assertTrue(shared.store(HttpMethod.GET, URI, authorized, HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "public, max-age=60"), BODY));
+        assertTrue(cache(false).store(HttpMethod.GET, URI, authorized, HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "private, max-age=60"), BODY));
+    }
+
+    @Test
+    void sharedUsesSMaxAge() {
+        final HttpHeaders response = HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=10, s-maxage=100");
+        final HttpCache shared = cache(true);
+        final HttpCache local = cache(false);
+        shared.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+        local.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+
+        clock.advanceSeconds(50);
+        assertEquals(CacheLookup.Status.HIT, shared.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.REVALIDATE, local.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+    }
+
+    @Test
+    void segmentedLruEviction() {
+        // given
+        final HttpCache cache = HttpCache.builder().clock(clock).stripes(1).maxWeight(2600).build();
+        final HttpHeaders response = HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60");
+        cache.store(HttpMethod.GET, "/a", HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+        assertEquals(CacheLookup.Status.HIT, cache.lookup(HttpMethod.GET, "/a", HttpHeaders.empty()).status());
+
+        // when
+        cache.store(HttpMethod.GET, "/b", HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+        cache.store(HttpMethod.GET, "/c", HttpHeaders.empty(), HttpStatus.OK, response, BODY);
+
+        // then
+        assertEquals(2, cache.size());
+        assertTrue(cache.weight() <= 2600);
+        assertEquals(CacheLookup.Status.HIT, cache.lookup(HttpMethod.GET, "/a", HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.MISS, cache.lookup(HttpMethod.GET, "/b", HttpHeaders.empty()).status());
+        assertEquals(CacheLookup.Status.HIT, cache.lookup(HttpMethod.GET, "/c", HttpHeaders.empty()).status());
+        assertFalse(cache.store(HttpMethod.GET, "/d", HttpHeaders.empty(), HttpStatus.OK, response, new byte[3000]));
+    }
+
+    @Test
+    void invalidate() {
+        final HttpCache cache = cache(false);
+        cache.store(HttpMethod.GET, URI, HttpHeaders.empty(), HttpStatus.OK,
+                HttpHeaders.of(HttpHeaders.CACHE_CONTROL, "max-age=60"), BODY);
+        cache.invalidate(URI);
+        assertEquals(CacheLookup.Status.MISS, cache.lookup(HttpMethod.GET, URI, HttpHeaders.empty()).status());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+}
@@ -0,0 +1,262 @@
+package io.goodforgod.http.common.cache;
+
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.VaryKey;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 19.10.2026
+ */
+class MappedResponseStoreTests extends Assertions {
+
+    private static final String URI = "/resource";
+
+    private static Path directory() throws IOException {
+        return Files.createTempDirectory("http-cache-store");
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static byte[] body(int length, int seed) {
+        final byte[] body = new byte[length];
+        Arrays.fill(body, (byte) seed);
+        return body;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void putGetRemove() throws IOException {
+        final Path directory = directory();
+        try (MappedResponseStore store = MappedResponseStore.builder(directory).build()) {
+            // given
+            final VaryKey key = VaryKey.of(1, 2);
+            final HttpHeaders headers = HttpHeaders.ofMultiMap(Map.of(HttpHeaders.CONTENT_TYPE, List.of("text/plain"),
+                    HttpHeaders.VARY, List.of("Accept", "Accept-Language")));
+
+            // when
+            store.put(key, HttpMethod.GET, URI, HttpStatus.OK, headers, ByteBuffer.wrap(body(100, 7)));
+            final StoredResponse response = store.get(key, HttpMethod.GET, URI);
+
+            // then
+            assertNotNull(response);
+            assertEquals(HttpStatus.OK, response.status());
+            assertEquals(headers.getMultiMap(), response.headers().getMultiMap());
+            assertTrue(response.body().isReadOnly());
+            assertArrayEquals(body(100, 7), bytes(response.body()));
+            assertEquals(100, response.body().remaining());
+            assertNull(store.get(VaryKey.of(2, 1), HttpMethod.GET, URI));
+
+            store.put(key, HttpMethod.GET, URI, HttpStatus.NOT_FOUND, HttpHeaders.empty(), ByteBuffer.wrap(body(10, 1)));
+            assertEquals(HttpStatus.NOT_FOUND, store.get(key, HttpMethod.GET, URI).status());
+            assertArrayEquals(body(10, 1), bytes(store.get(key, HttpMethod.GET, URI).body()));
+            assertArrayEquals(body(100, 7), bytes(response.body()));
+            assertEquals(1, store.size());
+
+            assertTrue(store.remove(key));
+            assertFalse(store.remove(key));
+            assertNull(store.get(key, HttpMethod.GET, URI));
+            assertEquals(0, store.size());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void recoverOnReopen() throws IOException {
+        final Path directory = directory();
+        try {
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).segmentSize(4096).build()) {
+                for (int i = 0; i < 20; i++) {
+                    store.put(VaryKey.of(i, i), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.of(HttpHeaders.ETAG, "\"" + i + "\""),
+                            ByteBuffer.wrap(body(500, i)));
+                }
+                store.remove(VaryKey.of(3, 3));
+                store.put(VaryKey.of(4, 4), HttpMethod.GET, URI, HttpStatus.CREATED, HttpHeaders.empty(), ByteBuffer.wrap(body(1, 44)));
+                assertTrue(store.segments() > 1);
+            }
+
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).segmentSize(4096).build()) {
+                assertEquals(19, store.size());
+                assertNull(store.get(VaryKey.of(3, 3), HttpMethod.GET, URI));
+                assertEquals(HttpStatus.CREATED, store.get(VaryKey.of(4, 4), HttpMethod.GET, URI).status());
+                assertArrayEquals(body(1, 44), bytes(store.get(VaryKey.of(4, 4), HttpMethod.GET, URI).body()));
+                assertEquals("\"7\"", store.get(VaryKey.of(7, 7), HttpMethod.GET, URI).headers().getFirst(HttpHeaders.ETAG));
+                assertArrayEquals(body(500, 19), bytes(store.get(VaryKey.of(19, 19), HttpMethod.GET, URI).body()));
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void compaction() throws IOException {
+        final Path directory = directory();
+        try {
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).segmentSize(4096).build()) {
+                // given
+                for (int round = 0; round < 10; round++) {
+                    for (int i = 0; i < 3; i++) {
+                        store.put(VaryKey.of(i, -i), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(400, round + i)));
+                    }
+                }
+                store.put(VaryKey.of(100, 100), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(400, 100)));
+                store.remove(VaryKey.of(100, 100));
+                final StoredResponse beforeCompaction = store.get(VaryKey.of(0, 0), HttpMethod.GET, URI);
+                final int segmentsBefore = store.segments();
+
+                // when
+                store.compact();
+
+                // then
+                assertTrue(store.segments() < segmentsBefore, store.segments() + " < " + segmentsBefore);
+                assertEquals(3, store.size());
+                for (int i = 0; i < 3; i++) {
+                    assertArrayEquals(body(400, 9 + i), bytes(store.get(VaryKey.of(i, -i), HttpMethod.GET, URI).body()));
+                }
+                assertArrayEquals(body(400, 9), bytes(beforeCompaction.body()));
+            }
+
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).segmentSize(4096).build()) {
+                assertEquals(3, store.size());
+                assertNull(store.get(VaryKey.of(100, 100), HttpMethod.GET, URI));
+                assertArrayEquals(body(400, 11), bytes(store.get(VaryKey.of(2, -2), HttpMethod.GET, URI).body()));
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void recordLargerThanSegment() throws IOException {
+        final Path directory = directory();
+        try (MappedResponseStore store = MappedResponseStore.builder(directory).segmentSize(1024).build()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> store.put(VaryKey.of(1, 1), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(),
+                            ByteBuffer.allocate(2048)));
+            store.close();
+            assertThrows(IllegalStateException.class, () -> store.get(VaryKey.of(1, 1), HttpMethod.GET, URI));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void primaryKeyMismatchIsMiss() throws IOException {
+        final Path directory = directory();
+        try (MappedResponseStore store = MappedResponseStore.builder(directory).build()) {
+            // given
+            store.put(VaryKey.of(5, 5), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(10, 5)));
+
+            // when
+            final StoredResponse collided = store.get(VaryKey.of(5, 5), HttpMethod.GET, "/other");
+
+            // then
+            assertNull(collided);
+            assertNull(store.get(VaryKey.of(5, 5), HttpMethod.HEAD, URI));
+            assertArrayEquals(body(10, 5), bytes(store.get(VaryKey.of(5, 5), HttpMethod.GET, URI).body()));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    void recoveryStopsAtCorruptRecord() throws IOException {
+        final Path directory = directory();
+        try {
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).build()) {
+                store.put(VaryKey.of(1, 1), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(100, 7)));
+                store.put(VaryKey.of(2, 2), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(100, 9)));
+                store.put(VaryKey.of(3, 3), HttpMethod.GET, URI, HttpStatus.OK, HttpHeaders.empty(), ByteBuffer.wrap(body(100, 11)));
+            }
+
+            // given
+            final Path segment;
+            try (Stream<Path> files = Files.list(directory)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            final byte[] content = Files.readAllBytes(segment);
+            final int bodyOffset = Collections.indexOfSubList(toList(content), toList(body(100, 9)));
+            content[bodyOffset + 50] = 0;
+            Files.write(segment, content);
+
+            // when
+            try (MappedResponseStore store = MappedResponseStore.builder(directory).build()) {
+                // then
+                assertEquals(1, store.size());
+                assertArrayEquals(body(100, 7), bytes(store.get(VaryKey.of(1, 1), HttpMethod.GET, URI).body()));
+                assertNull(store.get(VaryKey.of(2, 2), HttpMethod.GET, URI));
+                assertNull(store.get(VaryKey.of(3, 3), HttpMethod.GET, URI));
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static List<Byte> toList(byte[] bytes) {
+        final List<Byte> list = new ArrayList<>(bytes.length);
+        for (byte b : bytes) {
+            list.add(b);
+        }
+        return list;
+    }
+
+    @Test
+    void offHeapIndexMatchesHashMap() {
+        final OffHeapIndex index = new OffHeapIndex(4);
+        final Map<Long, Integer> expected = new HashMap<>();
+        final Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            final long key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                final int slot = index.find(key, ~key);
+                assertEquals(expected.containsKey(key), slot != -1);
+                if (slot != -1) {
+                    index.removeAt(slot);
+                    expected.remove(key);
+                }
+            } else {
+                index.put(key, ~key, 1, i, i + 1);
+                expected.put(key, i);
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (long key = 0; key < 500; key++) {
+            final int slot = index.find(key, ~key);
+            if (expected.containsKey(key)) {
+                assertEquals((int) expected.get(key), index.offsetAt(slot));
+                assertEquals(expected.get(key) + 1, index.lengthAt(slot));
+            } else {
+                assertEquals(-1, slot);
+            }
+        }
+    }
+}